@@ -6,33 +6,64 @@ CREATE TABLE public.client (
     created_at timestamp(6) without time zone NOT NULL,
     document_id character varying(20) NOT NULL,
     email character varying(100) NOT NULL,
+    email_normalized character varying(100),
     name character varying(100) NOT NULL,
     status character varying(20) NOT NULL,
-    updated_at timestamp(6) without time zone
+    updated_at timestamp(6) without time zone,
+    -- Versión para bloqueo optimista y ETags: toda escritura la incrementa
+    version bigint NOT NULL DEFAULT 0
 );
 
 
 
+-- La aplicación reserva ids de 50 en 50 (optimizador pooled de Hibernate),
+-- por eso la secuencia incrementa en 50 y permite inserts en lote.
 ALTER TABLE public.client ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY (
     SEQUENCE NAME public.client_id_seq
     START WITH 1
-    INCREMENT BY 1
+    INCREMENT BY 50
     NO MINVALUE
     NO MAXVALUE
     CACHE 1
 );
 
+ALTER TABLE ONLY public.client
+    ADD CONSTRAINT client_pkey PRIMARY KEY (id);
+
+-- Restricciones de unicidad (sus nombres se usan para devolver 409 en conflictos)
+ALTER TABLE ONLY public.client
+    ADD CONSTRAINT uk_client_document_id UNIQUE (document_id);
+
+-- El email se compara sin distinguir mayúsculas: la unicidad va sobre lower(trim(email))
+ALTER TABLE ONLY public.client
+    ADD CONSTRAINT uk_client_email UNIQUE (email_normalized);
+
+-- Indice para la paginación keyset filtrada por estado
+CREATE INDEX idx_client_status_id ON public.client (status, id);
+
+-- Eventos de cambio pendientes de publicar (outbox): se escriben en la transacción del cambio y el relay
+-- los lee en orden de id y los borra cuando Kafka los confirma. El id lo asigna la base de datos al insertar.
+CREATE TABLE public.client_outbox (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    client_id bigint NOT NULL,
+    event_type character varying(20) NOT NULL,
+    client_version bigint NOT NULL,
+    payload character varying(4000) NOT NULL,
+    created_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT client_outbox_pkey PRIMARY KEY (id)
+);
+
 
 -- Insertar client , testing data
-INSERT INTO public.client (id, name, document_id, email, status, created_at, updated_at) VALUES
-(1, 'Juan Pérez', '12345678', 'juan.perez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(2, 'María García', '87654321', 'maria.garcia@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(3, 'Carlos Rodríguez', '11223344', 'carlos.rodriguez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(4, 'Ana Martínez', '44332211', 'ana.martinez@email.com', 'INACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(5, 'Luis Hernández', '55667788', 'luis.hernandez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(6, 'Laura Sánchez', '88776655', 'laura.sanchez@email.com', 'BLOCKED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(7, 'Pedro Gómez', '99887766', 'pedro.gomez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
-(8, 'Sofia López', '66778899', 'sofia.lopez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
-
--- Reiniciar la secuencia del ID
-ALTER SEQUENCE client_id_seq RESTART WITH 9;
+INSERT INTO public.client (id, name, document_id, email, email_normalized, status, created_at, updated_at) VALUES
+(1, 'Juan Pérez', '12345678', 'juan.perez@email.com', 'juan.perez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(2, 'María García', '87654321', 'maria.garcia@email.com', 'maria.garcia@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(3, 'Carlos Rodríguez', '11223344', 'carlos.rodriguez@email.com', 'carlos.rodriguez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(4, 'Ana Martínez', '44332211', 'ana.martinez@email.com', 'ana.martinez@email.com', 'INACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(5, 'Luis Hernández', '55667788', 'luis.hernandez@email.com', 'luis.hernandez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(6, 'Laura Sánchez', '88776655', 'laura.sanchez@email.com', 'laura.sanchez@email.com', 'BLOCKED', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(7, 'Pedro Gómez', '99887766', 'pedro.gomez@email.com', 'pedro.gomez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(8, 'Sofia López', '66778899', 'sofia.lopez@email.com', 'sofia.lopez@email.com', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+-- Reiniciar la secuencia del ID (el primer bloque reservado será 10..59)
+ALTER SEQUENCE client_id_seq RESTART WITH 59;
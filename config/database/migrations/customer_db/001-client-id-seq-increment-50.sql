@@ -0,0 +1,8 @@
+
+\c customer_db
+
+-- Bases de datos creadas antes de los inserts en lote: la secuencia de client.id incrementa en 1,
+-- pero la aplicación reserva ids de 50 en 50 (optimizador pooled, allocationSize = 50) y Hibernate
+-- no arranca si el incremento de la secuencia no coincide. Con el nuevo incremento el siguiente
+-- nextval() deja hueco para el bloque completo, así que no se repite ningún id ya asignado.
+ALTER TABLE public.client ALTER COLUMN id SET INCREMENT BY 50;
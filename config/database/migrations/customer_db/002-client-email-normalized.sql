@@ -0,0 +1,20 @@
+
+\c customer_db
+
+-- Bases de datos creadas antes de comparar emails sin distinguir mayúsculas: uk_client_email está
+-- sobre la columna email y hibernate-orm update no la mueve (solo añade email_normalized).
+ALTER TABLE public.client ADD COLUMN IF NOT EXISTS email_normalized character varying(100);
+
+ALTER TABLE public.client DROP CONSTRAINT IF EXISTS uk_client_email;
+
+-- Admite varios NULL: las filas que el arranque no puede rellenar (ver abajo) no bloquean la restricción
+ALTER TABLE ONLY public.client
+    ADD CONSTRAINT uk_client_email UNIQUE (email_normalized);
+
+-- Emails que solo se distinguen por mayúsculas o espacios. Al arrancar, la aplicación rellena
+-- email_normalized del resto de clientes y deja estos a NULL (y los registra en el log) hasta que
+-- se corrijan a mano: con este informe se pueden revisar antes de desplegar.
+SELECT lower(trim(email)) AS email_normalized, array_agg(id ORDER BY id) AS client_ids
+FROM public.client
+GROUP BY lower(trim(email))
+HAVING count(*) > 1;
@@ -0,0 +1,5 @@
+
+\c customer_db
+
+-- Versión para bloqueo optimista y ETags; las filas existentes empiezan en 0
+ALTER TABLE public.client ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
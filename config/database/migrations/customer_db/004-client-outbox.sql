@@ -0,0 +1,13 @@
+\c customer_db
+
+-- Eventos de cambio pendientes de publicar (outbox): se escriben en la transacción del cambio y el relay
+-- los lee en orden de id y los borra cuando Kafka los confirma. El id lo asigna la base de datos al insertar.
+CREATE TABLE IF NOT EXISTS public.client_outbox (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    client_id bigint NOT NULL,
+    event_type character varying(20) NOT NULL,
+    client_version bigint NOT NULL,
+    payload character varying(4000) NOT NULL,
+    created_at timestamp(6) without time zone NOT NULL,
+    CONSTRAINT client_outbox_pkey PRIMARY KEY (id)
+);
@@ -1,8 +1,11 @@
 package com.banking.customer.controller.auth;
 
+import com.banking.customer.controller.config.VirtualThreadDispatcher;
 import com.banking.customer.service.dto.TokenRequest;
 import com.banking.customer.service.dto.TokenResponse;
 import com.banking.customer.service.keycloak.KeycloakService;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.PermitAll;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
@@ -15,6 +18,11 @@ import org.jboss.logging.Logger;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Emisión y renovación de tokens contra Keycloak. La llamada HTTP a Keycloak es síncrona, por lo que
+ * estos endpoints se despachan a hilos virtuales si quarkus.virtual-threads.enabled=true.
+ */
+@Blocking
 @Path("/api/v1/auth")
 @Produces(MediaType.APPLICATION_JSON)
 @PermitAll
@@ -25,10 +33,30 @@ public class AuthController {
     @Inject
     KeycloakService keycloakService;
 
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
     @POST
     @Path("/token")
     @Consumes(MediaType.APPLICATION_JSON)
-    public Response getToken(@Valid TokenRequest tokenRequest) {
+    public Uni<Response> getToken(@Valid TokenRequest tokenRequest) {
+        return dispatcher.dispatch(() -> requestToken(tokenRequest));
+    }
+
+    @POST
+    @Path("/refresh")
+    public Uni<Response> refreshToken(@NotBlank(message = "Refresh token is required") @QueryParam("refreshToken") String refreshToken) {
+        return dispatcher.dispatch(() -> refresh(refreshToken));
+    }
+
+    @GET
+    @Path("/health")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String health() {
+        return "Auth endpoint is running";
+    }
+
+    private Response requestToken(TokenRequest tokenRequest) {
         LOG.infof("Token request received for user: %s", tokenRequest.getUsername());
         try {
             TokenResponse tokenResponse = keycloakService.getToken(tokenRequest);
@@ -43,9 +71,7 @@ public class AuthController {
         }
     }
 
-    @POST
-    @Path("/refresh")
-    public Response refreshToken(@NotBlank(message = "Refresh token is required") @QueryParam("refreshToken") String refreshToken) {
+    private Response refresh(String refreshToken) {
         LOG.info("Token refresh request received");
         try {
             TokenResponse tokenResponse = keycloakService.refreshToken(refreshToken);
@@ -59,11 +85,4 @@ public class AuthController {
             return Response.status(Response.Status.UNAUTHORIZED).entity(error).build();
         }
     }
-
-    @GET
-    @Path("/health")
-    @Produces(MediaType.TEXT_PLAIN)
-    public String health() {
-        return "Auth endpoint is running";
-    }
 }
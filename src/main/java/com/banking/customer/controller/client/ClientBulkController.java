@@ -0,0 +1,67 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.service.client.ClientBatchService;
+import com.banking.customer.service.client.ClientReadRouting;
+import com.banking.customer.service.client.ClientStatusService;
+import com.banking.customer.service.dto.ClientBatchRequest;
+import com.banking.customer.service.dto.ClientBatchResponse;
+import com.banking.customer.service.dto.ClientStatusTransitionRequest;
+import com.banking.customer.service.dto.ClientStatusTransitionResponse;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Operaciones masivas de administración (altas por lote y cambios de estado).
+ * Se publican con cualquiera de las dos pilas de CRUD, bloqueante o reactiva. Devuelven X-Consistency-Token
+ * como las escrituras de {@link ClientController}.
+ */
+@Path("/api/v1/clients")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Slf4j
+public class ClientBulkController {
+
+    @Inject
+    ClientBatchService clientBatchService;
+
+    @Inject
+    ClientStatusService clientStatusService;
+
+    @Inject
+    ClientReadRouting readRouting;
+
+    @Inject
+    JsonWebToken jwt;
+
+    /**
+     * POST /api/v1/clients/batch
+     * Crea un lote de clientes en una transacción, con un resultado por elemento
+     */
+    @POST
+    @Path("/batch")
+    @RolesAllowed("ADMIN")
+    public Response createBatch(@Valid ClientBatchRequest request) {
+        log.info("POST /api/v1/clients/batch ({} clientes) - Usuario: {}", request.getClients().size(), jwt.getName());
+        ClientBatchResponse result = clientBatchService.createBatch(request.getClients());
+        return ClientConsistencyTokens.withToken(Response.ok(result).build(), readRouting.writeToken());
+    }
+
+    /**
+     * POST /api/v1/clients/status
+     * Cambia el estado de muchos clientes (por ids o por criterio) con UPDATE por bloques
+     */
+    @POST
+    @Path("/status")
+    @RolesAllowed("ADMIN")
+    public Response transitionStatus(@Valid ClientStatusTransitionRequest request) {
+        log.info("POST /api/v1/clients/status -> {} - Usuario: {}", request.getStatus(), jwt.getName());
+        ClientStatusTransitionResponse result = clientStatusService.transition(request);
+        return ClientConsistencyTokens.withToken(Response.ok(result).build(), readRouting.writeToken());
+    }
+}
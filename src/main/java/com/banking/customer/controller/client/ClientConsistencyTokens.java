@@ -0,0 +1,23 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.service.client.ClientReadRouting;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Cabecera X-Consistency-Token ({@link ClientReadRouting}): las escrituras devuelven la posición del primario
+ * tras el commit y las lecturas que la reenvían leen esa escritura aunque la réplica vaya retrasada.
+ */
+final class ClientConsistencyTokens {
+
+    static final String HEADER = "X-Consistency-Token";
+
+    private ClientConsistencyTokens() {
+    }
+
+    /**
+     * Añade el token a la respuesta de una escritura; sin cabecera si no hay token
+     */
+    static Response withToken(Response response, String token) {
+        return token == null ? response : Response.fromResponse(response).header(HEADER, token).build();
+    }
+}
@@ -1,54 +1,154 @@
 package com.banking.customer.controller.client;
 
+import com.banking.customer.controller.config.VirtualThreadDispatcher;
+import com.banking.customer.controller.config.media.ClientMediaTypes;
+import com.banking.customer.service.client.ClientReadRouting;
 import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientPatchRequest;
 import com.banking.customer.service.dto.ClientRequest;
 import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchResponse;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
-import java.util.List;
-
+/**
+ * CRUD de clientes sobre Hibernate ORM (bloqueante).
+ * Las lecturas se despachan a hilos virtuales si quarkus.virtual-threads.enabled=true; las escrituras
+ * siguen en hilos worker porque el commit JTA (Narayana) bloquea dentro de monitores y fijaría el hilo portador.
+ * Las respuestas se negocian con Accept: JSON por defecto, CBOR, Smile o Protobuf ({@link ClientMediaTypes}).
+ * Las lecturas van a la réplica; las escrituras devuelven un X-Consistency-Token que, reenviado en las
+ * lecturas, las lleva al primario mientras la réplica no haya reproducido la escritura.
+ * Se sustituye por {@link ReactiveClientController} cuando app.clients.reactive.enabled=true.
+ */
+@Blocking
 @Path("/api/v1/clients")
-@Produces(MediaType.APPLICATION_JSON)
+@Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE,
+        ClientMediaTypes.APPLICATION_PROTOBUF})
 @Consumes(MediaType.APPLICATION_JSON)
+@UnlessBuildProperty(name = "app.clients.reactive.enabled", stringValue = "true", enableIfMissing = true)
 @Slf4j
 public class ClientController {
 
+    public static final String APPLICATION_MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Inject
     ClientService clientService;
 
+    @Inject
+    ClientReadRouting readRouting;
+
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
     @Inject
     JsonWebToken jwt;
 
     /**
-     * GET /api/v1/clients
-     * Obtiene todos los clientes
+     * GET /api/v1/clients?limit=&cursor=&status=&fields=
+     * Obtiene una página de clientes (paginación por cursor), opcionalmente solo con los campos de fields;
+     * con If-None-Match devuelve 304 si no cambió y con X-Consistency-Token incluye esa escritura
      */
     @GET
     @RolesAllowed({"USER", "ADMIN"})
-    public Response getAll() {
+    public Uni<Response> getAll(@QueryParam("cursor") String cursor,
+                                @QueryParam("status") String status,
+                                @QueryParam("limit") Integer limit,
+                                @QueryParam("fields") String fields,
+                                @HeaderParam(ClientConsistencyTokens.HEADER) String consistencyToken,
+                                @Context Request request) {
         log.info("GET /api/v1/clients - Usuario: {}", jwt.getName());
-        List<ClientResponse> clients = clientService.getAll();
-        return Response.ok(clients).build();
+        return dispatcher.dispatch(() -> {
+            ClientFields selected = ClientFields.parse(fields);
+            ClientPageResponse page = clientService.getAll(cursor, status, limit, selected, consistencyToken);
+            return ClientETags.conditional(request, ClientETags.of(page), selected == null ? page : selected.project(page));
+        });
     }
 
     /**
-     * GET /api/v1/clients/document/{documentId}
-     * Busca un cliente por documento de identidad
+     * GET /api/v1/clients/document/{documentId}?fields=
+     * Busca un cliente por documento de identidad (desde la cache, solo se recortan los campos);
+     * con If-None-Match devuelve 304 si no cambió y con X-Consistency-Token incluye esa escritura
      */
     @GET
     @Path("/document/{documentId}")
     @RolesAllowed({"USER", "ADMIN"})
-    public Response getClientByDocumentId(@PathParam("documentId") String documentId) {
+    public Uni<Response> getClientByDocumentId(@PathParam("documentId") String documentId,
+                                               @QueryParam("fields") String fields,
+                                               @HeaderParam(ClientConsistencyTokens.HEADER) String consistencyToken,
+                                               @Context Request request) {
         log.info("GET /api/v1/clients/document/{} - Usuario: {}", documentId, jwt.getName());
-        ClientResponse client = clientService.getClientByDocumentId(documentId);
-        return Response.ok(client).build();
+        return dispatcher.dispatch(() -> {
+            ClientFields selected = ClientFields.parse(fields);
+            ClientResponse client = clientService.getClientByDocumentId(documentId, consistencyToken);
+            return ClientETags.conditional(request, ClientETags.of(client), selected == null ? client : selected.project(client));
+        });
+    }
+
+    /**
+     * GET /api/v1/clients/email/{email}?fields=
+     * Busca un cliente por email (sin distinguir mayúsculas), opcionalmente solo con los campos de fields
+     */
+    @GET
+    @Path("/email/{email}")
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> getClientByEmail(@PathParam("email") String email,
+                                          @QueryParam("fields") String fields) {
+        log.info("GET /api/v1/clients/email/{} - Usuario: {}", email, jwt.getName());
+        return dispatcher.dispatch(() -> {
+            ClientFields selected = ClientFields.parse(fields);
+            ClientResponse client = clientService.getClientByEmail(email, selected);
+            return Response.ok(selected == null ? client : selected.project(client)).build();
+        });
+    }
+
+    /**
+     * GET /api/v1/clients/search?q=&limit=
+     * Busca clientes por nombre, tolerando erratas y tildes
+     */
+    @GET
+    @Path("/search")
+    @Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE})
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> search(@QueryParam("q") String query,
+                                @QueryParam("limit") Integer limit) {
+        log.info("GET /api/v1/clients/search - Usuario: {}", jwt.getName());
+        return dispatcher.dispatch(() -> {
+            ClientSearchResponse result = clientService.search(query, limit);
+            return Response.ok(result).build();
+        });
+    }
+
+    /**
+     * POST /api/v1/clients/lookup
+     * Resuelve varios clientes por documento y/o id en una sola petición y una sola consulta;
+     * los que no existen se devuelven a null
+     */
+    @POST
+    @Path("/lookup")
+    @Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE})
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> lookup(ClientLookupRequest request) {
+        log.info("POST /api/v1/clients/lookup - Usuario: {}", jwt.getName());
+        return dispatcher.dispatch(() -> {
+            ClientLookupResponse result = clientService.lookup(request);
+            return Response.ok(result).build();
+        });
     }
 
     /**
@@ -57,23 +157,42 @@ public class ClientController {
      */
     @POST
     @RolesAllowed("ADMIN")
-    public Response create(@Valid ClientRequest request) {
+    public Response create(@Valid ClientRequest request, @Context Request httpRequest) {
         log.info("POST /api/v1/clients - Usuario: {}", jwt.getName());
         ClientResponse client = clientService.create(request);
-        return Response.status(Response.Status.CREATED).entity(client).build();
+        return ClientConsistencyTokens.withToken(
+                ClientETags.negotiated(httpRequest, Response.Status.CREATED, ClientETags.of(client), client), readRouting.writeToken());
     }
 
     /**
      * PUT /api/v1/clients/{id}
-     * Actualiza un cliente existente
+     * Actualiza un cliente existente; con If-Match solo si su versión sigue siendo la indicada (si no, 412)
      */
     @PUT
     @Path("/{id}")
     @RolesAllowed("ADMIN")
-    public Response update(@PathParam("id") Long id, @Valid ClientRequest request) {
+    public Response update(@PathParam("id") Long id, @Valid ClientRequest request,
+                           @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch, @Context Request httpRequest) {
         log.info("PUT /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
-        ClientResponse client = clientService.update(id, request);
-        return Response.ok(client).build();
+        ClientResponse client = clientService.update(id, request, ClientETags.expectedVersion(ifMatch, id));
+        return ClientConsistencyTokens.withToken(
+                ClientETags.negotiated(httpRequest, Response.Status.OK, ClientETags.of(client), client), readRouting.writeToken());
+    }
+
+    /**
+     * PATCH /api/v1/clients/{id}
+     * Modifica solo los campos enviados (JSON Merge Patch); admite If-Match como PUT
+     */
+    @PATCH
+    @Path("/{id}")
+    @Consumes({APPLICATION_MERGE_PATCH_JSON, MediaType.APPLICATION_JSON})
+    @RolesAllowed("ADMIN")
+    public Response patch(@PathParam("id") Long id, @Valid ClientPatchRequest request,
+                          @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch, @Context Request httpRequest) {
+        log.info("PATCH /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
+        ClientResponse client = clientService.patch(id, request, ClientETags.expectedVersion(ifMatch, id));
+        return ClientConsistencyTokens.withToken(
+                ClientETags.negotiated(httpRequest, Response.Status.OK, ClientETags.of(client), client), readRouting.writeToken());
     }
 
     /**
@@ -86,7 +205,7 @@ public class ClientController {
     public Response delete(@PathParam("id") Long id) {
         log.info("DELETE /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
         clientService.delete(id);
-        return Response.noContent().build();
+        return ClientConsistencyTokens.withToken(Response.noContent().build(), readRouting.writeToken());
     }
 
 }
@@ -0,0 +1,105 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.controller.config.media.ClientMediaTypes;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Variant;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * ETags fuertes de las respuestas de clientes, derivados de la versión (@Version) de cada fila:
+ * toda escritura incrementa la versión, así que la misma etiqueta implica la misma representación
+ * y se puede calcular sin serializar el cuerpo.
+ */
+final class ClientETags {
+
+    private ClientETags() {
+    }
+
+    /**
+     * ETag de un cliente: "{id}-{version}"
+     */
+    static EntityTag of(ClientResponse client) {
+        return new EntityTag(client.getId() + "-" + client.getVersion());
+    }
+
+    /**
+     * ETag de una página: resumen SHA-256 (truncado) de los pares id/versión, el límite y el cursor siguiente
+     */
+    static EntityTag of(ClientPageResponse page) {
+        MessageDigest digest = sha256();
+        StringBuilder key = new StringBuilder().append(page.getLimit()).append('|').append(page.getNext());
+        for (ClientResponse client : page.getItems()) {
+            key.append('|').append(client.getId()).append('-').append(client.getVersion());
+        }
+        byte[] hash = digest.digest(key.toString().getBytes(StandardCharsets.UTF_8));
+        return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22));
+    }
+
+    /**
+     * 304 sin cuerpo si If-None-Match coincide con la etiqueta; si no, 200 con la entidad y su ETag.
+     * El formato se negocia aquí con Accept para que cada representación tenga su propio ETag.
+     */
+    static Response conditional(Request request, EntityTag tag, Object entity) {
+        Variant variant = request.selectVariant(ClientMediaTypes.VARIANTS);
+        EntityTag negotiated = ClientMediaTypes.tag(tag, variant != null ? variant.getMediaType() : null);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(negotiated);
+        if (notModified != null) {
+            return notModified.tag(negotiated).variants(ClientMediaTypes.VARIANTS).build();
+        }
+        return negotiated(request, Response.Status.OK, tag, entity);
+    }
+
+    /**
+     * Respuesta con la entidad en el formato negociado con Accept y el ETag de esa representación
+     */
+    static Response negotiated(Request request, Response.Status status, EntityTag tag, Object entity) {
+        Variant variant = request.selectVariant(ClientMediaTypes.VARIANTS);
+        MediaType mediaType = variant != null ? variant.getMediaType() : MediaType.APPLICATION_JSON_TYPE;
+        return Response.status(status)
+                .entity(entity)
+                .type(mediaType)
+                .tag(ClientMediaTypes.tag(tag, mediaType))
+                .variants(ClientMediaTypes.VARIANTS)
+                .build();
+    }
+
+    /**
+     * Versión esperada según una cabecera If-Match con un ETag de {@link #of(ClientResponse)}, en cualquiera
+     * de los formatos negociados ("7-3" o "7-3+cbor"). Devuelve null si no hay cabecera o es "*"; una etiqueta
+     * de otro cliente, débil o mal formada no puede coincidir con la versión actual y se devuelve como -1.
+     */
+    static Long expectedVersion(String ifMatch, long id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        String version = tag.substring(prefix.length(), tag.length() - 1);
+        int suffix = version.indexOf('+');
+        try {
+            return Long.parseLong(suffix < 0 ? version : version.substring(0, suffix));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
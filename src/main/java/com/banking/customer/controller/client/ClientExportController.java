@@ -0,0 +1,43 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.service.client.ClientExportService;
+import com.banking.customer.service.dto.ClientResponse;
+import io.smallrye.mutiny.Multi;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.resteasy.reactive.ResponseHeader;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+@Path("/api/v1/clients/export")
+@Slf4j
+public class ClientExportController {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    @Inject
+    ClientExportService clientExportService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    /**
+     * GET /api/v1/clients/export
+     * Exporta todos los clientes como NDJSON (una línea JSON por cliente). Cada cliente es una escritura
+     * en la respuesta: no se bloquea ningún hilo mientras el cliente HTTP consume el stream.
+     */
+    @GET
+    @RolesAllowed("ADMIN")
+    @Produces(APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    @ResponseHeader(name = "Content-Disposition", value = "attachment; filename=\"clients.ndjson\"")
+    public Multi<ClientResponse> export() {
+        log.info("GET /api/v1/clients/export - Usuario: {}", jwt.getName());
+        return clientExportService.export();
+    }
+}
@@ -0,0 +1,47 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.controller.config.VirtualThreadDispatcher;
+import com.banking.customer.service.client.ClientStatsService;
+import com.banking.customer.service.dto.ClientStatsResponse;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+@Blocking
+@Path("/api/v1/clients/stats")
+@Produces(MediaType.APPLICATION_JSON)
+@Slf4j
+public class ClientStatsController {
+
+    @Inject
+    ClientStatsService clientStatsService;
+
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
+    @Inject
+    JsonWebToken jwt;
+
+    /**
+     * GET /api/v1/clients/stats?days=
+     * Totales por estado y altas/modificaciones por día de los últimos días
+     */
+    @GET
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> getStats(@QueryParam("days") Integer days) {
+        log.info("GET /api/v1/clients/stats - Usuario: {}", jwt.getName());
+        return dispatcher.dispatch(() -> {
+            ClientStatsResponse stats = clientStatsService.getStats(days);
+            return Response.ok(stats).build();
+        });
+    }
+}
@@ -0,0 +1,176 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.controller.config.media.ClientMediaTypes;
+import com.banking.customer.service.client.ReactiveClientService;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientPatchRequest;
+import com.banking.customer.service.dto.ClientRequest;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * CRUD de clientes sobre el cliente reactivo de PostgreSQL. Los métodos devuelven {@link Uni}
+ * y se ejecutan en el event loop, sin ocupar hilos worker ni conexiones JDBC mientras esperan.
+ * Negocia los mismos formatos que {@link ClientController} ({@link ClientMediaTypes}).
+ * Sustituye a {@link ClientController} cuando app.clients.reactive.enabled=true (propiedad de build).
+ */
+@Path("/api/v1/clients")
+@Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE,
+        ClientMediaTypes.APPLICATION_PROTOBUF})
+@Consumes(MediaType.APPLICATION_JSON)
+@IfBuildProperty(name = "app.clients.reactive.enabled", stringValue = "true")
+@Slf4j
+public class ReactiveClientController {
+
+    @Inject
+    ReactiveClientService clientService;
+
+    @Inject
+    JsonWebToken jwt;
+
+    /**
+     * GET /api/v1/clients?limit=&cursor=&status=&fields=
+     * Obtiene una página de clientes (paginación por cursor), opcionalmente solo con los campos de fields;
+     * con If-None-Match devuelve 304 si no cambió
+     */
+    @GET
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> getAll(@QueryParam("cursor") String cursor,
+                                @QueryParam("status") String status,
+                                @QueryParam("limit") Integer limit,
+                                @QueryParam("fields") String fields,
+                                @Context Request request) {
+        log.info("GET /api/v1/clients - Usuario: {}", jwt.getName());
+        ClientFields selected = ClientFields.parse(fields);
+        return clientService.getAll(cursor, status, limit, selected)
+                .map(page -> ClientETags.conditional(request, ClientETags.of(page), selected == null ? page : selected.project(page)));
+    }
+
+    /**
+     * GET /api/v1/clients/document/{documentId}?fields=
+     * Busca un cliente por documento de identidad (desde la cache, solo se recortan los campos);
+     * con If-None-Match devuelve 304 si no cambió
+     */
+    @GET
+    @Path("/document/{documentId}")
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> getClientByDocumentId(@PathParam("documentId") String documentId,
+                                               @QueryParam("fields") String fields,
+                                               @Context Request request) {
+        log.info("GET /api/v1/clients/document/{} - Usuario: {}", documentId, jwt.getName());
+        ClientFields selected = ClientFields.parse(fields);
+        return clientService.getClientByDocumentId(documentId)
+                .map(client -> ClientETags.conditional(request, ClientETags.of(client), selected == null ? client : selected.project(client)));
+    }
+
+    /**
+     * GET /api/v1/clients/email/{email}?fields=
+     * Busca un cliente por email (sin distinguir mayúsculas), opcionalmente solo con los campos de fields
+     */
+    @GET
+    @Path("/email/{email}")
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> getClientByEmail(@PathParam("email") String email,
+                                          @QueryParam("fields") String fields) {
+        log.info("GET /api/v1/clients/email/{} - Usuario: {}", email, jwt.getName());
+        ClientFields selected = ClientFields.parse(fields);
+        return clientService.getClientByEmail(email, selected)
+                .map(client -> Response.ok(selected == null ? client : selected.project(client)).build());
+    }
+
+    /**
+     * GET /api/v1/clients/search?q=&limit=
+     * Busca clientes por nombre, tolerando erratas y tildes
+     */
+    @GET
+    @Path("/search")
+    @Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE})
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> search(@QueryParam("q") String query,
+                                @QueryParam("limit") Integer limit) {
+        log.info("GET /api/v1/clients/search - Usuario: {}", jwt.getName());
+        return clientService.search(query, limit)
+                .map(result -> Response.ok(result).build());
+    }
+
+    /**
+     * POST /api/v1/clients/lookup
+     * Resuelve varios clientes por documento y/o id en una sola petición y una sola consulta;
+     * los que no existen se devuelven a null
+     */
+    @POST
+    @Path("/lookup")
+    @Produces({MediaType.APPLICATION_JSON, ClientMediaTypes.APPLICATION_CBOR, ClientMediaTypes.APPLICATION_SMILE})
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Response> lookup(ClientLookupRequest request) {
+        log.info("POST /api/v1/clients/lookup - Usuario: {}", jwt.getName());
+        return clientService.lookup(request)
+                .map(result -> Response.ok(result).build());
+    }
+
+    /**
+     * POST /api/v1/clients
+     * Crea un nuevo cliente
+     */
+    @POST
+    @RolesAllowed("ADMIN")
+    public Uni<Response> create(@Valid ClientRequest request, @Context Request httpRequest) {
+        log.info("POST /api/v1/clients - Usuario: {}", jwt.getName());
+        return clientService.create(request)
+                .map(client -> ClientETags.negotiated(httpRequest, Response.Status.CREATED, ClientETags.of(client), client));
+    }
+
+    /**
+     * PUT /api/v1/clients/{id}
+     * Actualiza un cliente existente; con If-Match solo si su versión sigue siendo la indicada (si no, 412)
+     */
+    @PUT
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Uni<Response> update(@PathParam("id") Long id, @Valid ClientRequest request,
+                                @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch, @Context Request httpRequest) {
+        log.info("PUT /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
+        return clientService.update(id, request, ClientETags.expectedVersion(ifMatch, id))
+                .map(client -> ClientETags.negotiated(httpRequest, Response.Status.OK, ClientETags.of(client), client));
+    }
+
+    /**
+     * PATCH /api/v1/clients/{id}
+     * Modifica solo los campos enviados (JSON Merge Patch); admite If-Match como PUT
+     */
+    @PATCH
+    @Path("/{id}")
+    @Consumes({ClientController.APPLICATION_MERGE_PATCH_JSON, MediaType.APPLICATION_JSON})
+    @RolesAllowed("ADMIN")
+    public Uni<Response> patch(@PathParam("id") Long id, @Valid ClientPatchRequest request,
+                               @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch, @Context Request httpRequest) {
+        log.info("PATCH /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
+        return clientService.patch(id, request, ClientETags.expectedVersion(ifMatch, id))
+                .map(client -> ClientETags.negotiated(httpRequest, Response.Status.OK, ClientETags.of(client), client));
+    }
+
+    /**
+     * DELETE /api/v1/clients/{id}
+     * Elimina (inactiva) un cliente
+     */
+    @DELETE
+    @Path("/{id}")
+    @RolesAllowed("ADMIN")
+    public Uni<Response> delete(@PathParam("id") Long id) {
+        log.info("DELETE /api/v1/clients/{} - Usuario: {}", id, jwt.getName());
+        return clientService.delete(id)
+                .map(ignored -> Response.noContent().build());
+    }
+}
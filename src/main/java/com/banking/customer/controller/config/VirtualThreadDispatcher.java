@@ -0,0 +1,49 @@
+package com.banking.customer.controller.config;
+
+import io.quarkus.virtual.threads.VirtualThreads;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta trabajo bloqueante de los endpoints en hilos virtuales cuando quarkus.virtual-threads.enabled=true
+ * y la JVM los soporta (Java 21+). Se usa en lugar de @RunOnVirtualThread porque esa anotación impide
+ * compilar la aplicación en Java 17.
+ * <p>
+ * Los endpoints que lo usan son @Blocking: sin hilos virtuales la operación se ejecuta directamente en el
+ * hilo worker que ya atiende la petición, sin otro salto de hilo. Con hilos virtuales el worker solo entrega
+ * la operación y queda libre. Desde el event loop (gRPC, streams) siempre se sale a otro hilo.
+ */
+@ApplicationScoped
+public class VirtualThreadDispatcher {
+
+    @Inject
+    @VirtualThreads
+    ExecutorService executor;
+
+    @ConfigProperty(name = "quarkus.virtual-threads.enabled", defaultValue = "true")
+    boolean enabled;
+
+    private boolean virtualThreads;
+
+    @PostConstruct
+    void init() {
+        virtualThreads = enabled && Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * Ejecuta la operación bloqueante fuera del event loop, conservando el contexto de la petición
+     */
+    public <T> Uni<T> dispatch(Supplier<T> work) {
+        if (!virtualThreads && !Context.isOnEventLoopThread()) {
+            return Uni.createFrom().item(work);
+        }
+        return Uni.createFrom().item(work).runSubscriptionOn(executor);
+    }
+}
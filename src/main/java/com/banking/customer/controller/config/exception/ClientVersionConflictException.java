@@ -0,0 +1,11 @@
+package com.banking.customer.controller.config.exception;
+
+public class ClientVersionConflictException extends RuntimeException {
+    public ClientVersionConflictException(String message) {
+        super(message);
+    }
+
+    public ClientVersionConflictException(Long id) {
+        super("El cliente con ID " + id + " ha sido modificado; vuelva a leerlo antes de actualizarlo");
+    }
+}
@@ -0,0 +1,7 @@
+package com.banking.customer.controller.config.exception;
+
+public class InvalidClientRequestException extends RuntimeException {
+    public InvalidClientRequestException(String message) {
+        super(message);
+    }
+}
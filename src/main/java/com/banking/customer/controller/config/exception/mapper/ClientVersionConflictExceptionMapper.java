@@ -0,0 +1,34 @@
+package com.banking.customer.controller.config.exception.mapper;
+
+import com.banking.customer.service.dto.ErrorResponse;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+@Provider
+@Slf4j
+public class ClientVersionConflictExceptionMapper implements ExceptionMapper<ClientVersionConflictException> {
+
+    @Context
+    UriInfo uriInfo;
+
+    @Override
+    public Response toResponse(ClientVersionConflictException exception) {
+        log.error("Versión de cliente obsoleta: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                Response.Status.PRECONDITION_FAILED.getStatusCode(),
+                "Precondition Failed",
+                exception.getMessage(),
+                uriInfo.getPath()
+        );
+
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+                .entity(errorResponse)
+                .build();
+    }
+}
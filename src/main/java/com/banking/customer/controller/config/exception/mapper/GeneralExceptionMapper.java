@@ -1,7 +1,9 @@
 package com.banking.customer.controller.config.exception.mapper;
 
 import com.banking.customer.service.dto.ErrorResponse;
+import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -17,6 +19,16 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 
     @Override
     public Response toResponse(Exception exception) {
+        // Errores HTTP de JAX-RS (406, 415, 405...): se respeta su estado en lugar de responder 500
+        if (exception instanceof WebApplicationException webException && webException.getResponse().getStatus() < 500) {
+            Response.StatusType status = webException.getResponse().getStatusInfo();
+            log.warn("Petición rechazada ({}): {}", status.getStatusCode(), exception.getMessage());
+            return Response.status(status)
+                    .entity(ErrorResponse.of(status.getStatusCode(), status.getReasonPhrase(), exception.getMessage(), uriInfo.getPath()))
+                    .type(MediaType.APPLICATION_JSON_TYPE)
+                    .build();
+        }
+
         log.error("Error interno del servidor", exception);
 
         ErrorResponse errorResponse = ErrorResponse.of(
@@ -0,0 +1,34 @@
+package com.banking.customer.controller.config.exception.mapper;
+
+import com.banking.customer.service.dto.ErrorResponse;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+import lombok.extern.slf4j.Slf4j;
+
+@Provider
+@Slf4j
+public class InvalidClientRequestExceptionMapper implements ExceptionMapper<InvalidClientRequestException> {
+
+    @Context
+    UriInfo uriInfo;
+
+    @Override
+    public Response toResponse(InvalidClientRequestException exception) {
+        log.error("Solicitud inválida: {}", exception.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                Response.Status.BAD_REQUEST.getStatusCode(),
+                "Bad Request",
+                exception.getMessage(),
+                uriInfo.getPath()
+        );
+
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(errorResponse)
+                .build();
+    }
+}
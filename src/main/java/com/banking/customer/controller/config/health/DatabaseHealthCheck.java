@@ -1,38 +1,168 @@
 package com.banking.customer.controller.config.health;
 
-import com.banking.customer.entity.repository.ClientRepository;
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Readiness de la base de datos: valida una conexión del pool con un tiempo máximo y cachea el resultado.
+ * Los probes devuelven el último resultado y, si ha caducado, lanzan la revalidación en segundo plano,
+ * de modo que una base de datos lenta nunca acumula hilos de probe.
+ */
 @Readiness
 @ApplicationScoped
 @Slf4j
 public class DatabaseHealthCheck implements HealthCheck {
 
+    private static final String NAME = "Database connection";
+    private static final String NO_RESULT = "Aún no hay ninguna validación de la base de datos completada";
+
     @Inject
-    ClientRepository clientRepository;
+    AgroalDataSource dataSource;
+
+    @ConfigProperty(name = "app.health.database.timeout", defaultValue = "2S")
+    Duration timeout;
+
+    @ConfigProperty(name = "app.health.database.cache-ttl", defaultValue = "10S")
+    Duration cacheTtl;
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+    private ExecutorService executor;
+    private volatile Check last;
+    private CompletableFuture<Check> pending;
+
+    @jakarta.annotation.PostConstruct
+    void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "database-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @jakarta.annotation.PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
 
     @Override
     public HealthCheckResponse call() {
+        Check check = last;
+        if (check == null || check.isOlderThan(cacheTtl)) {
+            CompletableFuture<Check> refresh = refresh();
+            if (check == null) {
+                // Primer probe: no hay resultado previo, se espera como mucho el timeout; si aun así no hay
+                // ninguno (la validación no se pudo lanzar), la base de datos cuenta como no disponible
+                check = refresh.join();
+                if (check == null) {
+                    check = Check.down(NO_RESULT);
+                }
+            }
+        }
+        return check.toResponse(dataSource.getMetrics(), dataSource.getConfiguration().connectionPoolConfiguration().maxSize());
+    }
+
+    /**
+     * Lanza una validación si no hay otra en curso; la validación anterior puede seguir
+     * colgada tras superar el timeout, en cuyo caso se mantiene el último resultado (null si no hay ninguno)
+     */
+    private synchronized CompletableFuture<Check> refresh() {
+        if (pending != null && !pending.isDone()) {
+            return pending;
+        }
+        if (!probing.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(last);
+        }
+        CompletableFuture<Check> probe;
         try {
-            // Intenta contar los clientes para verificar la conexión a la DB
-            long count = clientRepository.count();
-            log.debug("Health check de base de datos exitoso. Clientes en DB: {}", count);
-
-            return HealthCheckResponse.named("Database connection")
-                    .up()
-                    .withData("clients_count", count)
-                    .build();
-        } catch (Exception e) {
-            log.error("Health check de base de datos falló", e);
-            return HealthCheckResponse.named("Database connection")
-                    .down()
-                    .withData("error", e.getMessage())
-                    .build();
+            probe = CompletableFuture.supplyAsync(this::validate, executor);
+        } catch (RejectedExecutionException e) {
+            probing.set(false);
+            return CompletableFuture.completedFuture(last);
+        }
+        probe.whenComplete((result, error) -> probing.set(false));
+        pending = probe.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(this::failed)
+                .thenApply(result -> last = result);
+        return pending;
+    }
+
+    private Check validate() {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            int seconds = (int) Math.max(1, timeout.toSeconds());
+            if (!connection.isValid(seconds)) {
+                return Check.down("La conexión no es válida");
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.debug("Health check de base de datos exitoso en {} ms", elapsedMillis);
+            return Check.up(elapsedMillis);
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Check failed(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TimeoutException) {
+            log.error("Health check de base de datos sin respuesta tras {} ms", timeout.toMillis());
+            return Check.down("Sin respuesta de la base de datos tras " + timeout.toMillis() + " ms");
+        }
+        log.error("Health check de base de datos falló", cause);
+        return Check.down(cause.getMessage());
+    }
+
+    /**
+     * Resultado de una validación, con el instante en que se obtuvo
+     */
+    private record Check(boolean up, long responseTimeMillis, String error, long checkedAt) {
+
+        static Check up(long responseTimeMillis) {
+            return new Check(true, responseTimeMillis, null, System.nanoTime());
+        }
+
+        static Check down(String error) {
+            return new Check(false, -1, error, System.nanoTime());
+        }
+
+        boolean isOlderThan(Duration ttl) {
+            return System.nanoTime() - checkedAt >= ttl.toNanos();
+        }
+
+        HealthCheckResponse toResponse(AgroalDataSourceMetrics pool, int maxSize) {
+            HealthCheckResponseBuilder builder = HealthCheckResponse.named(NAME)
+                    .status(up)
+                    .withData("checked_ms_ago", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - checkedAt))
+                    .withData("pool_active", pool.activeCount())
+                    .withData("pool_idle", pool.availableCount())
+                    .withData("pool_waiting", pool.awaitingCount())
+                    .withData("pool_max", maxSize);
+            if (up) {
+                builder.withData("response_time_ms", responseTimeMillis);
+            } else {
+                builder.withData("error", String.valueOf(error));
+            }
+            return builder.build();
         }
     }
 }
@@ -0,0 +1,18 @@
+package com.banking.customer.controller.config.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import jakarta.inject.Singleton;
+
+/**
+ * Registra {@link ClientJsonModule} en el ObjectMapper de Quarkus, que usan los endpoints REST
+ * y la exportación NDJSON
+ */
+@Singleton
+public class ClientJsonCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    public void customize(ObjectMapper objectMapper) {
+        objectMapper.registerModule(new ClientJsonModule());
+    }
+}
@@ -0,0 +1,176 @@
+package com.banking.customer.controller.config.json;
+
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializadores escritos a mano para las respuestas más frecuentes ({@link ClientResponse},
+ * {@link ClientPageResponse} y {@link ErrorResponse}). Escriben directamente en el JsonGenerator
+ * con los nombres de campo ya codificados (SerializedString) y las fechas con {@link IsoDateTimes},
+ * sin introspección de getters ni DateTimeFormatter. La salida es idéntica byte a byte a la del
+ * serializador por reflexión (ver ClientJsonModuleTest): un campo nuevo en estos DTOs debe añadirse aquí.
+ */
+public final class ClientJsonModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DOCUMENT_ID = new SerializedString("documentId");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString LIMIT = new SerializedString("limit");
+    private static final SerializedString NEXT = new SerializedString("next");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString DETAILS = new SerializedString("details");
+    private static final SerializedString VALIDATION_ERRORS = new SerializedString("validationErrors");
+
+    public ClientJsonModule() {
+        super("client-json");
+        addSerializer(ClientResponse.class, new ClientResponseSerializer());
+        addSerializer(ClientPageResponse.class, new ClientPageResponseSerializer());
+        addSerializer(ErrorResponse.class, new ErrorResponseSerializer());
+    }
+
+    static final class ClientResponseSerializer extends StdSerializer<ClientResponse> {
+
+        ClientResponseSerializer() {
+            super(ClientResponse.class);
+        }
+
+        @Override
+        public void serialize(ClientResponse client, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(client, gen);
+        }
+    }
+
+    static final class ClientPageResponseSerializer extends StdSerializer<ClientPageResponse> {
+
+        ClientPageResponseSerializer() {
+            super(ClientPageResponse.class);
+        }
+
+        @Override
+        public void serialize(ClientPageResponse page, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(page);
+            gen.writeFieldName(ITEMS);
+            List<ClientResponse> items = page.getItems();
+            if (items == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(items, items.size());
+                for (ClientResponse client : items) {
+                    if (client == null) {
+                        gen.writeNull();
+                    } else {
+                        write(client, gen);
+                    }
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(LIMIT);
+            gen.writeNumber(page.getLimit());
+            gen.writeFieldName(NEXT);
+            writeString(gen, page.getNext());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ErrorResponseSerializer extends StdSerializer<ErrorResponse> {
+
+        ErrorResponseSerializer() {
+            super(ErrorResponse.class);
+        }
+
+        @Override
+        public void serialize(ErrorResponse error, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(error);
+            gen.writeFieldName(STATUS);
+            gen.writeNumber(error.getStatus());
+            gen.writeFieldName(ERROR);
+            writeString(gen, error.getError());
+            gen.writeFieldName(MESSAGE);
+            writeString(gen, error.getMessage());
+            gen.writeFieldName(TIMESTAMP);
+            IsoDateTimes.write(gen, error.getTimestamp());
+            gen.writeFieldName(PATH);
+            writeString(gen, error.getPath());
+            gen.writeFieldName(DETAILS);
+            List<String> details = error.getDetails();
+            if (details == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(details, details.size());
+                for (String detail : details) {
+                    writeString(gen, detail);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(VALIDATION_ERRORS);
+            Map<String, String> validationErrors = error.getValidationErrors();
+            if (validationErrors == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartObject(validationErrors);
+                for (Map.Entry<String, String> entry : validationErrors.entrySet()) {
+                    gen.writeFieldName(entry.getKey());
+                    writeString(gen, entry.getValue());
+                }
+                gen.writeEndObject();
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void write(ClientResponse client, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(client);
+        gen.writeFieldName(ID);
+        writeNumber(gen, client.getId());
+        gen.writeFieldName(NAME);
+        writeString(gen, client.getName());
+        gen.writeFieldName(DOCUMENT_ID);
+        writeString(gen, client.getDocumentId());
+        gen.writeFieldName(EMAIL);
+        writeString(gen, client.getEmail());
+        gen.writeFieldName(STATUS);
+        writeString(gen, client.getStatus());
+        gen.writeFieldName(CREATED_AT);
+        IsoDateTimes.write(gen, client.getCreatedAt());
+        gen.writeFieldName(UPDATED_AT);
+        IsoDateTimes.write(gen, client.getUpdatedAt());
+        gen.writeFieldName(VERSION);
+        writeNumber(gen, client.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+}
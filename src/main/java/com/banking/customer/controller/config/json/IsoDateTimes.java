@@ -0,0 +1,64 @@
+package com.banking.customer.controller.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Escribe un LocalDateTime con el mismo texto que DateTimeFormatter.ISO_LOCAL_DATE_TIME (el formato de
+ * jackson-datatype-jsr310): segundos siempre presentes y fracción sin ceros finales. Compone los dígitos
+ * en un char[] en lugar de pasar por el formateador, que crea varios objetos intermedios por fecha.
+ */
+final class IsoDateTimes {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    private IsoDateTimes() {
+    }
+
+    static void write(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Años con signo o de más de cuatro cifras: caso raro, se delega en el formateador
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            buffer[19] = '.';
+            digits(buffer, 20, nano, 9);
+            length = MAX_LENGTH;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
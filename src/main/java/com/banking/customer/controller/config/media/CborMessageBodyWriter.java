@@ -0,0 +1,20 @@
+package com.banking.customer.controller.config.media;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Respuestas en CBOR (RFC 8949) para Accept: application/cbor
+ */
+@Provider
+@Produces(ClientMediaTypes.APPLICATION_CBOR)
+public class CborMessageBodyWriter extends JacksonBinaryMessageBodyWriter {
+
+    @Inject
+    public CborMessageBodyWriter(ObjectMapper objectMapper) {
+        super(objectMapper, new CBORFactory());
+    }
+}
@@ -0,0 +1,60 @@
+package com.banking.customer.controller.config.media;
+
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Variant;
+
+import java.util.List;
+
+/**
+ * Formatos que negocian los endpoints de clientes con la cabecera Accept. JSON es el formato por
+ * defecto; CBOR y Smile son codificaciones binarias del mismo modelo JSON y Protobuf sigue el esquema
+ * publicado en /schemas/client/v1/client.proto.
+ */
+public final class ClientMediaTypes {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+    public static final MediaType APPLICATION_PROTOBUF_TYPE = MediaType.valueOf(APPLICATION_PROTOBUF);
+
+    /**
+     * Variantes de las respuestas de clientes, en orden de preferencia del servidor (JSON primero)
+     */
+    public static final List<Variant> VARIANTS = Variant.mediaTypes(
+            MediaType.APPLICATION_JSON_TYPE,
+            APPLICATION_CBOR_TYPE,
+            APPLICATION_SMILE_TYPE,
+            APPLICATION_PROTOBUF_TYPE).build();
+
+    private ClientMediaTypes() {
+    }
+
+    /**
+     * ETag de la representación en {@code mediaType}: un ETag fuerte debe ser distinto para cada
+     * representación negociada, así que los formatos binarios añaden un sufijo (p. ej. "7-3+cbor")
+     */
+    public static EntityTag tag(EntityTag tag, MediaType mediaType) {
+        String suffix = suffix(mediaType);
+        return suffix == null ? tag : new EntityTag(tag.getValue() + "+" + suffix, tag.isWeak());
+    }
+
+    private static String suffix(MediaType mediaType) {
+        if (mediaType == null) {
+            return null;
+        }
+        if (mediaType.isCompatible(APPLICATION_CBOR_TYPE)) {
+            return "cbor";
+        }
+        if (mediaType.isCompatible(APPLICATION_SMILE_TYPE)) {
+            return "smile";
+        }
+        if (mediaType.isCompatible(APPLICATION_PROTOBUF_TYPE)) {
+            return "protobuf";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,311 @@
+package com.banking.customer.controller.config.media;
+
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Codificación Protobuf de las respuestas de clientes según el esquema publicado
+ * (META-INF/resources/schemas/client/v1/client.proto): mensajes Client, ClientPage y Error.
+ * Se escribe directamente con CodedOutputStream, sin construir los mensajes generados que usa gRPC
+ * (ClientGrpcMessages), con los que debe coincidir byte a byte; los campos nulos o no pedidos
+ * (?fields=) no se escriben, que en proto3 con optional equivale a "ausente".
+ * Las fechas son la hora local del servicio, como en JSON, codificada en un Timestamp como si fuera UTC.
+ */
+public final class ClientProtobuf {
+
+    // Client
+    private static final int CLIENT_ID = 1;
+    private static final int CLIENT_NAME = 2;
+    private static final int CLIENT_DOCUMENT_ID = 3;
+    private static final int CLIENT_EMAIL = 4;
+    private static final int CLIENT_STATUS = 5;
+    private static final int CLIENT_CREATED_AT = 6;
+    private static final int CLIENT_UPDATED_AT = 7;
+    private static final int CLIENT_VERSION = 8;
+
+    // ClientPage
+    private static final int PAGE_ITEMS = 1;
+    private static final int PAGE_LIMIT = 2;
+    private static final int PAGE_NEXT = 3;
+
+    // Error
+    private static final int ERROR_STATUS = 1;
+    private static final int ERROR_ERROR = 2;
+    private static final int ERROR_MESSAGE = 3;
+    private static final int ERROR_TIMESTAMP = 4;
+    private static final int ERROR_PATH = 5;
+    private static final int ERROR_DETAILS = 6;
+    private static final int ERROR_VALIDATION_ERRORS = 7;
+
+    // google.protobuf.Timestamp y entradas de map<string, string>
+    private static final int TIMESTAMP_SECONDS = 1;
+    private static final int TIMESTAMP_NANOS = 2;
+    private static final int ENTRY_KEY = 1;
+    private static final int ENTRY_VALUE = 2;
+
+    private ClientProtobuf() {
+    }
+
+    /**
+     * Si el tipo tiene representación Protobuf
+     */
+    public static boolean supports(Class<?> type) {
+        return ClientResponse.class.equals(type) || ClientPageResponse.class.equals(type)
+                || ErrorResponse.class.equals(type) || ClientFields.Projection.class.equals(type);
+    }
+
+    /**
+     * Escribe la entidad como mensaje raíz (Client, ClientPage o Error)
+     */
+    public static void write(Object entity, CodedOutputStream out) throws IOException {
+        if (entity instanceof ClientFields.Projection projection) {
+            writeMessage(projection.getSource(), projection.getFields(), out);
+        } else {
+            writeMessage(entity, null, out);
+        }
+    }
+
+    private static void writeMessage(Object entity, ClientFields fields, CodedOutputStream out) throws IOException {
+        if (entity instanceof ClientResponse client) {
+            writeClient(client, fields, out);
+        } else if (entity instanceof ClientPageResponse page) {
+            writePage(page, fields, out);
+        } else if (entity instanceof ErrorResponse error) {
+            writeError(error, out);
+        } else {
+            throw new IllegalArgumentException("Sin representación Protobuf: " + entity.getClass().getName());
+        }
+    }
+
+    /**
+     * Lee un mensaje Client
+     */
+    public static ClientResponse readClient(CodedInputStream in) throws IOException {
+        ClientResponse client = new ClientResponse();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case CLIENT_ID -> client.setId(in.readInt64());
+                case CLIENT_NAME -> client.setName(in.readStringRequireUtf8());
+                case CLIENT_DOCUMENT_ID -> client.setDocumentId(in.readStringRequireUtf8());
+                case CLIENT_EMAIL -> client.setEmail(in.readStringRequireUtf8());
+                case CLIENT_STATUS -> client.setStatus(in.readStringRequireUtf8());
+                case CLIENT_CREATED_AT -> client.setCreatedAt(readTimestamp(in));
+                case CLIENT_UPDATED_AT -> client.setUpdatedAt(readTimestamp(in));
+                case CLIENT_VERSION -> client.setVersion(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Lee un mensaje ClientPage
+     */
+    public static ClientPageResponse readPage(CodedInputStream in) throws IOException {
+        List<ClientResponse> items = new ArrayList<>();
+        ClientPageResponse page = ClientPageResponse.builder().items(items).build();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PAGE_ITEMS -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    items.add(readClient(in));
+                    in.popLimit(limit);
+                }
+                case PAGE_LIMIT -> page.setLimit(in.readInt32());
+                case PAGE_NEXT -> page.setNext(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Lee un mensaje Error
+     */
+    public static ErrorResponse readError(CodedInputStream in) throws IOException {
+        ErrorResponse error = new ErrorResponse();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ERROR_STATUS -> error.setStatus(in.readInt32());
+                case ERROR_ERROR -> error.setError(in.readStringRequireUtf8());
+                case ERROR_MESSAGE -> error.setMessage(in.readStringRequireUtf8());
+                case ERROR_TIMESTAMP -> error.setTimestamp(readTimestamp(in));
+                case ERROR_PATH -> error.setPath(in.readStringRequireUtf8());
+                case ERROR_DETAILS -> {
+                    if (error.getDetails() == null) {
+                        error.setDetails(new ArrayList<>());
+                    }
+                    error.getDetails().add(in.readStringRequireUtf8());
+                }
+                case ERROR_VALIDATION_ERRORS -> {
+                    if (error.getValidationErrors() == null) {
+                        error.setValidationErrors(new LinkedHashMap<>());
+                    }
+                    readEntry(in, error.getValidationErrors());
+                }
+                default -> in.skipField(tag);
+            }
+        }
+        return error;
+    }
+
+    private static void writeClient(ClientResponse client, ClientFields fields, CodedOutputStream out) throws IOException {
+        if (client.getId() != null && includes(fields, "id")) {
+            out.writeInt64(CLIENT_ID, client.getId());
+        }
+        writeString(out, CLIENT_NAME, includes(fields, "name") ? client.getName() : null);
+        writeString(out, CLIENT_DOCUMENT_ID, includes(fields, "documentId") ? client.getDocumentId() : null);
+        writeString(out, CLIENT_EMAIL, includes(fields, "email") ? client.getEmail() : null);
+        writeString(out, CLIENT_STATUS, includes(fields, "status") ? client.getStatus() : null);
+        writeTimestamp(out, CLIENT_CREATED_AT, includes(fields, "createdAt") ? client.getCreatedAt() : null);
+        writeTimestamp(out, CLIENT_UPDATED_AT, includes(fields, "updatedAt") ? client.getUpdatedAt() : null);
+        if (client.getVersion() != null && includes(fields, "version")) {
+            out.writeInt64(CLIENT_VERSION, client.getVersion());
+        }
+    }
+
+    private static int clientSize(ClientResponse client, ClientFields fields) {
+        int size = 0;
+        if (client.getId() != null && includes(fields, "id")) {
+            size += CodedOutputStream.computeInt64Size(CLIENT_ID, client.getId());
+        }
+        size += stringSize(CLIENT_NAME, includes(fields, "name") ? client.getName() : null);
+        size += stringSize(CLIENT_DOCUMENT_ID, includes(fields, "documentId") ? client.getDocumentId() : null);
+        size += stringSize(CLIENT_EMAIL, includes(fields, "email") ? client.getEmail() : null);
+        size += stringSize(CLIENT_STATUS, includes(fields, "status") ? client.getStatus() : null);
+        size += timestampFieldSize(CLIENT_CREATED_AT, includes(fields, "createdAt") ? client.getCreatedAt() : null);
+        size += timestampFieldSize(CLIENT_UPDATED_AT, includes(fields, "updatedAt") ? client.getUpdatedAt() : null);
+        if (client.getVersion() != null && includes(fields, "version")) {
+            size += CodedOutputStream.computeInt64Size(CLIENT_VERSION, client.getVersion());
+        }
+        return size;
+    }
+
+    private static void writePage(ClientPageResponse page, ClientFields fields, CodedOutputStream out) throws IOException {
+        if (page.getItems() != null) {
+            for (ClientResponse client : page.getItems()) {
+                out.writeTag(PAGE_ITEMS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(clientSize(client, fields));
+                writeClient(client, fields, out);
+            }
+        }
+        if (page.getLimit() != 0) {
+            out.writeInt32(PAGE_LIMIT, page.getLimit());
+        }
+        writeString(out, PAGE_NEXT, page.getNext());
+    }
+
+    private static void writeError(ErrorResponse error, CodedOutputStream out) throws IOException {
+        if (error.getStatus() != 0) {
+            out.writeInt32(ERROR_STATUS, error.getStatus());
+        }
+        writeString(out, ERROR_ERROR, error.getError());
+        writeString(out, ERROR_MESSAGE, error.getMessage());
+        writeTimestamp(out, ERROR_TIMESTAMP, error.getTimestamp());
+        writeString(out, ERROR_PATH, error.getPath());
+        if (error.getDetails() != null) {
+            for (String detail : error.getDetails()) {
+                // Un elemento repetido no puede ser nulo: se envía vacío
+                out.writeString(ERROR_DETAILS, detail != null ? detail : "");
+            }
+        }
+        if (error.getValidationErrors() != null) {
+            for (Map.Entry<String, String> entry : error.getValidationErrors().entrySet()) {
+                out.writeTag(ERROR_VALIDATION_ERRORS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(stringSize(ENTRY_KEY, entry.getKey()) + stringSize(ENTRY_VALUE, entry.getValue()));
+                writeString(out, ENTRY_KEY, entry.getKey());
+                writeString(out, ENTRY_VALUE, entry.getValue());
+            }
+        }
+    }
+
+    private static void readEntry(CodedInputStream in, Map<String, String> map) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        String key = "";
+        String value = "";
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ENTRY_KEY -> key = in.readStringRequireUtf8();
+                case ENTRY_VALUE -> value = in.readStringRequireUtf8();
+                default -> in.skipField(tag);
+            }
+        }
+        in.popLimit(limit);
+        map.put(key, value);
+    }
+
+    private static boolean includes(ClientFields fields, String name) {
+        return fields == null || fields.includes(name);
+    }
+
+    private static void writeString(CodedOutputStream out, int field, String value) throws IOException {
+        if (value != null) {
+            out.writeString(field, value);
+        }
+    }
+
+    private static int stringSize(int field, String value) {
+        return value == null ? 0 : CodedOutputStream.computeStringSize(field, value);
+    }
+
+    private static void writeTimestamp(CodedOutputStream out, int field, LocalDateTime value) throws IOException {
+        if (value != null) {
+            out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            out.writeUInt32NoTag(timestampSize(value));
+            long seconds = value.toEpochSecond(ZoneOffset.UTC);
+            if (seconds != 0) {
+                out.writeInt64(TIMESTAMP_SECONDS, seconds);
+            }
+            if (value.getNano() != 0) {
+                out.writeInt32(TIMESTAMP_NANOS, value.getNano());
+            }
+        }
+    }
+
+    private static int timestampFieldSize(int field, LocalDateTime value) {
+        if (value == null) {
+            return 0;
+        }
+        int size = timestampSize(value);
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+    }
+
+    private static int timestampSize(LocalDateTime value) {
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        return (seconds != 0 ? CodedOutputStream.computeInt64Size(TIMESTAMP_SECONDS, seconds) : 0)
+                + (value.getNano() != 0 ? CodedOutputStream.computeInt32Size(TIMESTAMP_NANOS, value.getNano()) : 0);
+    }
+
+    private static LocalDateTime readTimestamp(CodedInputStream in) throws IOException {
+        int limit = in.pushLimit(in.readRawVarint32());
+        long seconds = 0;
+        int nanos = 0;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case TIMESTAMP_SECONDS -> seconds = in.readInt64();
+                case TIMESTAMP_NANOS -> nanos = in.readInt32();
+                default -> in.skipField(tag);
+            }
+        }
+        in.popLimit(limit);
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
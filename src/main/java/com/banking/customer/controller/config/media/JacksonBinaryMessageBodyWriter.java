@@ -0,0 +1,38 @@
+package com.banking.customer.controller.config.media;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Escribe cualquier entidad con un formato binario de Jackson (CBOR, Smile). El mapper es una copia del
+ * ObjectMapper de Quarkus con otra factoría, así que conserva sus módulos (fechas, ClientJsonModule)
+ * y produce el mismo modelo de datos que la respuesta JSON.
+ */
+abstract class JacksonBinaryMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    private final ObjectWriter writer;
+
+    JacksonBinaryMessageBodyWriter(ObjectMapper objectMapper, JsonFactory factory) {
+        this.writer = objectMapper.copyWith(factory).writer();
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return !byte[].class.equals(type) && !String.class.equals(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        writer.writeValue(entityStream, entity);
+    }
+}
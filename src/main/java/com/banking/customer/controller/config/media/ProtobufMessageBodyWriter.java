@@ -0,0 +1,37 @@
+package com.banking.customer.controller.config.media;
+
+import com.google.protobuf.CodedOutputStream;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * Respuestas en Protobuf para Accept: application/x-protobuf, con {@link ClientProtobuf}
+ */
+@Provider
+@Produces(ClientMediaTypes.APPLICATION_PROTOBUF)
+public class ProtobufMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    // Cabe un cliente entero; las páginas se vuelcan por bloques al stream de la respuesta, que ya tiene su búfer
+    private static final int BUFFER_SIZE = 1024;
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return ClientProtobuf.supports(type);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(entityStream, BUFFER_SIZE);
+        ClientProtobuf.write(entity, out);
+        out.flush();
+    }
+}
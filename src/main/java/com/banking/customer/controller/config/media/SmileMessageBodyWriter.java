@@ -0,0 +1,21 @@
+package com.banking.customer.controller.config.media;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Respuestas en Smile (JSON binario de Jackson, con nombres de campo compartidos) para
+ * Accept: application/x-jackson-smile
+ */
+@Provider
+@Produces(ClientMediaTypes.APPLICATION_SMILE)
+public class SmileMessageBodyWriter extends JacksonBinaryMessageBodyWriter {
+
+    @Inject
+    public SmileMessageBodyWriter(ObjectMapper objectMapper) {
+        super(objectMapper, new SmileFactory());
+    }
+}
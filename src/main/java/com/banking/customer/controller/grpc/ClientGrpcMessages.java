@@ -0,0 +1,76 @@
+package com.banking.customer.controller.grpc;
+
+import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.proto.v1.Client;
+import com.banking.customer.service.dto.ClientResponse;
+import com.google.protobuf.Timestamp;
+import io.grpc.Status;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Conversión de las respuestas del servicio a los mensajes de banking.customer.v1 y de sus errores a
+ * estados gRPC (el equivalente de los ExceptionMapper de REST)
+ */
+final class ClientGrpcMessages {
+
+    private ClientGrpcMessages() {
+    }
+
+    /**
+     * Mensaje Client con los campos no nulos; las fechas con el mismo criterio que {@code ClientProtobuf}
+     * (hora local del servicio codificada como UTC)
+     */
+    static Client toMessage(ClientResponse client) {
+        Client.Builder message = Client.newBuilder();
+        if (client.getId() != null) {
+            message.setId(client.getId());
+        }
+        if (client.getName() != null) {
+            message.setName(client.getName());
+        }
+        if (client.getDocumentId() != null) {
+            message.setDocumentId(client.getDocumentId());
+        }
+        if (client.getEmail() != null) {
+            message.setEmail(client.getEmail());
+        }
+        if (client.getStatus() != null) {
+            message.setStatus(client.getStatus());
+        }
+        if (client.getCreatedAt() != null) {
+            message.setCreatedAt(toTimestamp(client.getCreatedAt()));
+        }
+        if (client.getUpdatedAt() != null) {
+            message.setUpdatedAt(toTimestamp(client.getUpdatedAt()));
+        }
+        if (client.getVersion() != null) {
+            message.setVersion(client.getVersion());
+        }
+        return message.build();
+    }
+
+    /**
+     * Estado gRPC de los errores del dominio (404 -> NOT_FOUND, 400 -> INVALID_ARGUMENT); el resto,
+     * incluidos los de seguridad, se deja a Quarkus
+     */
+    static Throwable toStatus(Throwable failure) {
+        if (failure instanceof ClientNotFoundException) {
+            return Status.NOT_FOUND.withDescription(failure.getMessage()).asRuntimeException();
+        }
+        if (failure instanceof InvalidClientRequestException || failure instanceof InvalidClientStatusException) {
+            return Status.INVALID_ARGUMENT.withDescription(failure.getMessage()).asRuntimeException();
+        }
+        return failure;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return Timestamp.newBuilder()
+                .setSeconds(value.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(value.getNano())
+                .build();
+    }
+}
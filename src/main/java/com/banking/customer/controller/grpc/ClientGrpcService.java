@@ -0,0 +1,158 @@
+package com.banking.customer.controller.grpc;
+
+import com.banking.customer.controller.client.ClientController;
+import com.banking.customer.controller.config.VirtualThreadDispatcher;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.proto.v1.Client;
+import com.banking.customer.proto.v1.ClientLookup;
+import com.banking.customer.proto.v1.GetByDocumentIdRequest;
+import com.banking.customer.proto.v1.GetByIdRequest;
+import com.banking.customer.proto.v1.ListClientsRequest;
+import com.banking.customer.proto.v1.LookupRequest;
+import com.banking.customer.proto.v1.LookupResult;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Interfaz gRPC interna de consulta de clientes (banking.customer.v1.ClientLookup, esquema publicado en
+ * /schemas/client/v1/client_lookup.proto) para los servicios del mismo despliegue: canales HTTP/2 de larga
+ * duración en lugar de una petición REST por comprobación. Usa {@link ClientService} con los mismos roles
+ * que las lecturas de {@link ClientController} y despacha el trabajo bloqueante igual que él.
+ * Se publica con cualquiera de las dos pilas de CRUD.
+ */
+@GrpcService
+@Slf4j
+public class ClientGrpcService implements ClientLookup {
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
+    @Inject
+    JsonWebToken jwt;
+
+    @ConfigProperty(name = "app.clients.grpc.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "app.clients.grpc.batch-window", defaultValue = "5MS")
+    Duration batchWindow;
+
+    /**
+     * Busca un cliente por documento de identidad (desde la cache, como GET /api/v1/clients/document/{documentId})
+     */
+    @Override
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Client> getByDocumentId(GetByDocumentIdRequest request) {
+        log.info("gRPC GetByDocumentId {} - Usuario: {}", request.getDocumentId(), jwt.getName());
+        return dispatcher.dispatch(() -> ClientGrpcMessages.toMessage(clientService.getClientByDocumentId(request.getDocumentId())))
+                .onFailure().transform(ClientGrpcMessages::toStatus);
+    }
+
+    /**
+     * Busca un cliente por id
+     */
+    @Override
+    @RolesAllowed({"USER", "ADMIN"})
+    public Uni<Client> getById(GetByIdRequest request) {
+        log.info("gRPC GetById {} - Usuario: {}", request.getId(), jwt.getName());
+        return dispatcher.dispatch(() -> ClientGrpcMessages.toMessage(clientService.getClientById(request.getId())))
+                .onFailure().transform(ClientGrpcMessages::toStatus);
+    }
+
+    /**
+     * Agrupa las claves recibidas (hasta app.clients.grpc.batch-size o lo llegado en app.clients.grpc.batch-window)
+     * y resuelve cada grupo con {@link ClientService#lookup}, una consulta por grupo; un resultado por clave, en orden
+     */
+    @Override
+    @RolesAllowed({"USER", "ADMIN"})
+    public Multi<LookupResult> batchLookup(Multi<LookupRequest> requests) {
+        log.info("gRPC BatchLookup - Usuario: {}", jwt.getName());
+        return batchLookup(requests, batchSize, batchWindow);
+    }
+
+    /**
+     * Cierra cada grupo al llegar a {@code size} claves, al vencer {@code window} o al completarse el stream
+     */
+    Multi<LookupResult> batchLookup(Multi<LookupRequest> requests, int size, Duration window) {
+        // La ventana emite grupos por tiempo aunque la consulta anterior no haya terminado: se encolan
+        // (buffer acotado) y se resuelven de uno en uno para conservar el orden
+        return requests.group().intoLists().of(size, window)
+                .onOverflow().buffer()
+                .onItem().transformToUniAndConcatenate(keys -> dispatcher.dispatch(() -> lookup(keys)))
+                .onItem().transformToIterable(Function.identity())
+                .onFailure().transform(ClientGrpcMessages::toStatus);
+    }
+
+    /**
+     * Recorre los clientes por páginas keyset de {@link ClientService#getAll}; cada página se lee cuando el
+     * llamante ha consumido la anterior
+     */
+    @Override
+    @RolesAllowed({"USER", "ADMIN"})
+    public Multi<Client> listClients(ListClientsRequest request) {
+        log.info("gRPC ListClients - Usuario: {}", jwt.getName());
+        String status = request.hasStatus() ? request.getStatus() : null;
+        Integer pageSize = request.hasPageSize() ? request.getPageSize() : null;
+        return Multi.createBy().repeating()
+                .uni(() -> new AtomicReference<>(request.hasCursor() ? request.getCursor() : null),
+                        cursor -> dispatcher.dispatch(() -> clientService.getAll(cursor.get(), status, pageSize))
+                                .invoke(page -> cursor.set(page.getNext())))
+                .whilst(page -> page.getNext() != null)
+                .onItem().transformToIterable(ClientPageResponse::getItems)
+                .map(ClientGrpcMessages::toMessage)
+                .onFailure().transform(ClientGrpcMessages::toStatus);
+    }
+
+    private List<LookupResult> lookup(List<LookupRequest> keys) {
+        List<String> documentIds = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        for (LookupRequest key : keys) {
+            switch (key.getKeyCase()) {
+                case DOCUMENT_ID -> documentIds.add(key.getDocumentId());
+                case ID -> ids.add(key.getId());
+                default -> throw new InvalidClientRequestException("Cada búsqueda debe indicar document_id o id");
+            }
+        }
+        ClientLookupResponse found = clientService.lookup(ClientLookupRequest.builder()
+                .documentIds(documentIds)
+                .ids(ids)
+                .build());
+
+        List<LookupResult> results = new ArrayList<>(keys.size());
+        for (LookupRequest key : keys) {
+            LookupResult.Builder result = LookupResult.newBuilder();
+            ClientResponse client;
+            if (key.getKeyCase() == LookupRequest.KeyCase.DOCUMENT_ID) {
+                result.setDocumentId(key.getDocumentId());
+                client = found.getDocumentIds().get(key.getDocumentId());
+            } else {
+                result.setId(key.getId());
+                client = found.getIds().get(key.getId());
+            }
+            if (client != null) {
+                result.setClient(ClientGrpcMessages.toMessage(client));
+            }
+            results.add(result.build());
+        }
+        return results;
+    }
+}
@@ -8,9 +8,18 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "client")
+@Table(name = "client",
+        uniqueConstraints = {
+                @UniqueConstraint(name = Client.DOCUMENT_ID_CONSTRAINT, columnNames = "document_id"),
+                @UniqueConstraint(name = Client.EMAIL_CONSTRAINT, columnNames = "email_normalized")
+        },
+        indexes = {
+                @Index(name = "idx_client_status_id", columnList = "status, id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,8 +27,14 @@ import java.time.LocalDateTime;
 @Builder
 public class Client extends PanacheEntityBase {
 
+    public static final List<String> STATUSES = List.of("ACTIVE", "INACTIVE", "BLOCKED");
+    public static final String DOCUMENT_ID_CONSTRAINT = "uk_client_document_id";
+    public static final String EMAIL_CONSTRAINT = "uk_client_email";
+
+    // Secuencia con optimizador pooled: permite agrupar los INSERT en lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_id_seq")
+    @SequenceGenerator(name = "client_id_seq", sequenceName = "client_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "El nombre no puede estar vacío")
@@ -29,14 +44,19 @@ public class Client extends PanacheEntityBase {
 
     @NotBlank(message = "El documento de identidad no puede estar vacío")
     @Size(min = 5, max = 20, message = "El documento debe tener entre 5 y 20 caracteres")
-    @Column(name = "document_id", nullable = false, unique = true, length = 20)
+    @Column(name = "document_id", nullable = false, length = 20)
     private String documentId;
 
     @NotBlank(message = "El email no puede estar vacío")
     @Email(message = "El email debe ser válido")
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
+    // Email en minúsculas y sin espacios: la unicidad y las búsquedas por email usan esta columna.
+    // Admite null solo para que hibernate-orm update pueda añadirla a tablas existentes; se rellena al arrancar.
+    @Column(name = "email_normalized", length = 100)
+    private String emailNormalized;
+
     @NotBlank(message = "El estado no puede estar vacío")
     @Column(name = "status", nullable = false, length = 20)
     private String status; // ACTIVE, INACTIVE, BLOCKED
@@ -47,10 +67,19 @@ public class Client extends PanacheEntityBase {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Versión para bloqueo optimista y ETags; toda escritura la incrementa, también los UPDATE masivos.
+    // El default permite que hibernate-orm update añada la columna a tablas con filas.
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        // Mismo instante en ambas: updatedAt > createdAt identifica a los clientes modificados
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+        emailNormalized = normalizeEmail(email);
         if (status == null) {
             status = "ACTIVE";
         }
@@ -59,6 +88,7 @@ public class Client extends PanacheEntityBase {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        emailNormalized = normalizeEmail(email);
     }
 
     // Business methods
@@ -77,4 +107,15 @@ public class Client extends PanacheEntityBase {
     public void block() {
         this.status = "BLOCKED";
     }
+
+    /**
+     * Forma canónica de un email para comparar: sin espacios alrededor y en minúsculas
+     */
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    public static boolean isValidStatus(String status) {
+        return status != null && STATUSES.contains(status);
+    }
 }
@@ -0,0 +1,48 @@
+package com.banking.customer.entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento de cambio de un cliente pendiente de publicar (patrón outbox): se escribe en la misma
+ * transacción que el cambio y el relay lo borra cuando el broker lo ha confirmado
+ */
+@Entity
+@Table(name = "client_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientOutboxEvent extends PanacheEntityBase {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    // El orden de publicación es el del id, que asigna la base de datos al insertar (identity) y no un rango
+    // reservado por instancia: dos cambios del mismo cliente se serializan en el bloqueo de su fila, así que
+    // el segundo siempre recibe un id mayor. Las filas se insertan con ClientOutboxRepository#insertAll.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType; // CREATED, UPDATED, DELETED
+
+    @Column(name = "client_version", nullable = false)
+    private Long clientVersion;
+
+    // Cuerpo JSON del mensaje, serializado al escribir el evento
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,57 @@
+package com.banking.customer.entity.repository;
+
+import io.quarkus.panache.common.Parameters;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterio de selección de clientes para operaciones masivas (estado actual y rango de alta)
+ */
+public record ClientCriteria(String currentStatus, LocalDateTime createdFrom, LocalDateTime createdTo) {
+
+    public boolean isEmpty() {
+        return currentStatus == null && createdFrom == null && createdTo == null;
+    }
+
+    /**
+     * Condición HQL (sin alias) que se añade a un WHERE existente
+     */
+    String condition() {
+        return condition("createdAt");
+    }
+
+    /**
+     * La misma condición sobre las columnas de la tabla, para SQL nativo
+     */
+    String columnCondition() {
+        return condition("created_at");
+    }
+
+    private String condition(String createdAt) {
+        StringBuilder condition = new StringBuilder();
+        if (currentStatus != null) {
+            condition.append(" and status = :currentStatus");
+        }
+        if (createdFrom != null) {
+            condition.append(" and ").append(createdAt).append(" >= :createdFrom");
+        }
+        if (createdTo != null) {
+            condition.append(" and ").append(createdAt).append(" < :createdTo");
+        }
+        return condition.toString();
+    }
+
+    Parameters parameters() {
+        Parameters parameters = new Parameters();
+        if (currentStatus != null) {
+            parameters.and("currentStatus", currentStatus);
+        }
+        if (createdFrom != null) {
+            parameters.and("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            parameters.and("createdTo", createdTo);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,63 @@
+package com.banking.customer.entity.repository;
+
+import com.banking.customer.entity.ClientOutboxEvent;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+@ApplicationScoped
+public class ClientOutboxRepository implements PanacheRepository<ClientOutboxEvent> {
+
+    // Filas por sentencia INSERT de varios VALUES (5 parámetros por fila)
+    private static final int ROWS_PER_INSERT = 100;
+
+    /**
+     * Inserta los eventos con sentencias INSERT de varias filas; el id lo asigna la columna identity
+     * en el orden de la lista
+     */
+    public void insertAll(List<ClientOutboxEvent> events) {
+        for (int from = 0; from < events.size(); from += ROWS_PER_INSERT) {
+            List<ClientOutboxEvent> rows = events.subList(from, Math.min(from + ROWS_PER_INSERT, events.size()));
+            StringJoiner values = new StringJoiner(", ",
+                    "insert into client_outbox (client_id, event_type, client_version, payload, created_at) values ", "");
+            for (int i = 0; i < rows.size(); i++) {
+                int first = i * 5 + 1;
+                values.add("(?" + first + ", ?" + (first + 1) + ", ?" + (first + 2) + ", ?" + (first + 3) + ", ?" + (first + 4) + ")");
+            }
+            Query insert = getEntityManager().createNativeQuery(values.toString());
+            for (int i = 0; i < rows.size(); i++) {
+                ClientOutboxEvent event = rows.get(i);
+                int first = i * 5 + 1;
+                insert.setParameter(first, event.getClientId())
+                        .setParameter(first + 1, event.getEventType())
+                        .setParameter(first + 2, event.getClientVersion())
+                        .setParameter(first + 3, event.getPayload())
+                        .setParameter(first + 4, event.getCreatedAt());
+            }
+            insert.executeUpdate();
+        }
+    }
+
+    /**
+     * Los {@code limit} eventos pendientes más antiguos, en orden de id y bloqueados (FOR UPDATE) hasta el
+     * final de la transacción: otra instancia del relay espera a que se confirmen y ya no los ve
+     */
+    public List<ClientOutboxEvent> lockOldest(int limit) {
+        return find("order by id")
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .range(0, limit - 1)
+                .list();
+    }
+
+    /**
+     * Borra los eventos publicados con un único DELETE
+     */
+    public long deleteByIds(Collection<Long> ids) {
+        return delete("id in ?1", ids);
+    }
+}
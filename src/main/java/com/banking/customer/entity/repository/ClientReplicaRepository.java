@@ -0,0 +1,181 @@
+package com.banking.customer.entity.repository;
+
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientResponse;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lecturas de la tabla client sobre la réplica de solo lectura (datasource "replica"), con JDBC y sin
+ * contexto de persistencia: cada operación es una única sentencia sobre una conexión del pool de la réplica.
+ * También lee las posiciones WAL (LSN) del primario y de la réplica que deciden a dónde va una lectura;
+ * solo PostgreSQL las expone, con otras bases de datos no hay posición (Optional vacío).
+ */
+@ApplicationScoped
+public class ClientReplicaRepository {
+
+    private static final String COLUMNS = "id, name, document_id, email, status, created_at, updated_at, version";
+
+    @Inject
+    AgroalDataSource primary;
+
+    @Inject
+    @DataSource("replica")
+    AgroalDataSource replica;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind")
+    String dbKind;
+
+    /**
+     * Página de clientes ordenada por id a partir del cursor (keyset), hasta {@code limit + 1} filas como
+     * {@link ClientRepository#findPage}; con {@code fields} (null: todas) solo se leen esas columnas
+     */
+    public List<ClientResponse> findPage(long afterId, String status, int limit, ClientFields fields) {
+        String columns = fields != null ? fields.columns() : COLUMNS;
+        String sql = status == null
+                ? "SELECT " + columns + " FROM client WHERE id > ? ORDER BY id LIMIT ?"
+                : "SELECT " + columns + " FROM client WHERE status = ? AND id > ? ORDER BY id LIMIT ?";
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (status != null) {
+                statement.setString(index++, status);
+            }
+            statement.setLong(index++, afterId);
+            statement.setInt(index, limit + 1);
+            try (ResultSet rows = statement.executeQuery()) {
+                List<ClientResponse> clients = new ArrayList<>(limit + 1);
+                while (rows.next()) {
+                    clients.add(fields != null ? fields.read(i -> value(rows, i + 1)) : toResponse(rows));
+                }
+                return clients;
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("Error leyendo la página de clientes en la réplica", e);
+        }
+    }
+
+    /**
+     * Busca un cliente por documento de identidad
+     */
+    public Optional<ClientResponse> findResponseByDocumentId(String documentId) {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT " + COLUMNS + " FROM client WHERE document_id = ?")) {
+            statement.setString(1, documentId);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next() ? Optional.of(toResponse(rows)) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("Error leyendo el cliente en la réplica", e);
+        }
+    }
+
+    /**
+     * Cuenta los clientes de un estado
+     */
+    public long countByStatus(String status) {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT count(*) FROM client WHERE status = ?")) {
+            statement.setString(1, status);
+            try (ResultSet rows = statement.executeQuery()) {
+                rows.next();
+                return rows.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new PersistenceException("Error contando clientes en la réplica", e);
+        }
+    }
+
+    /**
+     * Cuenta los clientes de cada estado con un único GROUP BY, como {@link ClientRepository#countByStatus()}
+     */
+    public Map<String, Long> countByStatus() {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT status, count(*) FROM client GROUP BY status");
+             ResultSet rows = statement.executeQuery()) {
+            Map<String, Long> counts = new HashMap<>();
+            while (rows.next()) {
+                counts.put(rows.getString(1), rows.getLong(2));
+            }
+            return counts;
+        } catch (SQLException e) {
+            throw new PersistenceException("Error contando clientes por estado en la réplica", e);
+        }
+    }
+
+    /**
+     * Posición WAL actual del primario en bytes (pg_current_wal_lsn); tras un commit, cualquier réplica que la
+     * haya reproducido ya contiene la escritura
+     */
+    public Optional<Long> primaryPosition() {
+        return position(primary, "SELECT (pg_current_wal_lsn() - '0/0')::bigint");
+    }
+
+    /**
+     * Última posición WAL reproducida por la réplica (pg_last_wal_replay_lsn); vacía si la base de datos no
+     * es PostgreSQL o el datasource no es un standby (entonces no hay retraso posible)
+     */
+    public Optional<Long> replayedPosition() {
+        return position(replica, "SELECT (pg_last_wal_replay_lsn() - '0/0')::bigint");
+    }
+
+    private Optional<Long> position(AgroalDataSource dataSource, String sql) {
+        if (!"postgresql".equals(dbKind)) {
+            return Optional.empty();
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rows = statement.executeQuery()) {
+            rows.next();
+            long position = rows.getLong(1);
+            return rows.wasNull() ? Optional.empty() : Optional.of(position);
+        } catch (SQLException e) {
+            throw new PersistenceException("Error leyendo la posición WAL", e);
+        }
+    }
+
+    private static ClientResponse toResponse(ResultSet row) throws SQLException {
+        return ClientResponse.builder()
+                .id(row.getLong("id"))
+                .name(row.getString("name"))
+                .documentId(row.getString("document_id"))
+                .email(row.getString("email"))
+                .status(row.getString("status"))
+                .createdAt(row.getObject("created_at", LocalDateTime.class))
+                .updatedAt(row.getObject("updated_at", LocalDateTime.class))
+                .version(row.getLong("version"))
+                .build();
+    }
+
+    // Valor de una columna con el tipo de ClientResponse: los timestamp pueden llegar como java.sql.Timestamp
+    private static Object value(ResultSet row, int column) {
+        try {
+            Object value = row.getObject(column);
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime();
+            }
+            if (value instanceof Number number && !(value instanceof Long)) {
+                return number.longValue();
+            }
+            return value;
+        } catch (SQLException e) {
+            throw new PersistenceException("Error leyendo una columna en la réplica", e);
+        }
+    }
+}
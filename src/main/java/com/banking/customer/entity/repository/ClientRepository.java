@@ -1,14 +1,48 @@
 package com.banking.customer.entity.repository;
 
 import com.banking.customer.entity.Client;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientResponse;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class ClientRepository implements PanacheRepository<Client> {
 
+    private static final String RESPONSE_PROJECTION = "select new com.banking.customer.service.dto.ClientResponse("
+            + "c.id, c.name, c.documentId, c.email, c.status, c.createdAt, c.updatedAt, c.version) from Client c ";
+
+    // Columnas de la fila anterior que devuelven las escrituras directas, en el orden de toPreviousResponse
+    private static final String PREVIOUS_COLUMNS = "id, name, document_id, email, status, created_at, updated_at, version";
+
+    private static final String STATUS_SET = "update client c set status = :status, updated_at = :now, "
+            + "version = c.version + 1 ";
+
+    // Fila actual de updateById en H2, donde OLD TABLE no devuelve las filas que el UPDATE no escribe
+    private static final String UNCHANGED_ROW = "select " + PREVIOUS_COLUMNS + ", false as written from client where id = :id";
+
+    private static final String DEACTIVATE_SET = "update client c set status = 'INACTIVE', "
+            + "updated_at = case when c.status <> 'INACTIVE' then :now else c.updated_at end, "
+            + "version = case when c.status <> 'INACTIVE' then c.version + 1 else c.version end ";
+
+    private volatile Boolean postgres;
+
     /**
      * Busca un cliente por su documento de identidad
      */
@@ -16,6 +50,365 @@ public class ClientRepository implements PanacheRepository<Client> {
         return find("documentId", documentId).firstResultOptional();
     }
 
+    /**
+     * Busca un cliente por documento proyectando directamente a {@link ClientResponse},
+     * sin instanciar la entidad ni registrarla en el contexto de persistencia
+     */
+    public Optional<ClientResponse> findResponseByDocumentId(String documentId) {
+        return getEntityManager()
+                .createQuery(RESPONSE_PROJECTION + "where c.documentId = :documentId", ClientResponse.class)
+                .setParameter("documentId", documentId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Busca un cliente por id proyectando directamente a {@link ClientResponse}
+     */
+    public Optional<ClientResponse> findResponseById(long id) {
+        return getEntityManager()
+                .createQuery(RESPONSE_PROJECTION + "where c.id = :id", ClientResponse.class)
+                .setParameter("id", id)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Busca un cliente por email sin distinguir mayúsculas, por la columna normalizada (índice único)
+     */
+    public Optional<ClientResponse> findResponseByEmail(String email) {
+        return getEntityManager()
+                .createQuery(RESPONSE_PROJECTION + "where c.emailNormalized = :email", ClientResponse.class)
+                .setParameter("email", Client.normalizeEmail(email))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Como {@link #findResponseByEmail(String)} pero leyendo solo las columnas de {@code fields}
+     */
+    public Optional<ClientResponse> findResponseByEmail(String email, ClientFields fields) {
+        return getEntityManager()
+                .createQuery(sparseProjection(fields) + "where c.emailNormalized = :email", Object[].class)
+                .setParameter("email", Client.normalizeEmail(email))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst()
+                .map(row -> fields.read(i -> row[i]));
+    }
+
+    /**
+     * Obtiene una página de clientes ordenada por id a partir del cursor (keyset).
+     * Devuelve hasta {@code limit + 1} filas para saber si existe una página siguiente
+     * sin ejecutar un count(*). Proyecta directamente a {@link ClientResponse}: las filas
+     * no pasan por el contexto de persistencia.
+     */
+    public List<ClientResponse> findPage(long afterId, String status, int limit) {
+        return pageQuery(RESPONSE_PROJECTION, ClientResponse.class, afterId, status, limit).getResultList();
+    }
+
+    /**
+     * Como {@link #findPage(long, String, int)} pero leyendo solo las columnas de {@code fields};
+     * los demás campos de cada {@link ClientResponse} quedan a null
+     */
+    public List<ClientResponse> findPage(long afterId, String status, int limit, ClientFields fields) {
+        return pageQuery(sparseProjection(fields), Object[].class, afterId, status, limit).getResultList()
+                .stream()
+                .map(row -> fields.read(i -> row[i]))
+                .toList();
+    }
+
+    private <T> TypedQuery<T> pageQuery(String projection, Class<T> type, long afterId, String status, int limit) {
+        TypedQuery<T> query = getEntityManager()
+                .createQuery(projection
+                        + (status == null ? "where c.id > :afterId " : "where c.status = :status and c.id > :afterId ")
+                        + "order by c.id", type)
+                .setParameter("afterId", afterId)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setMaxResults(limit + 1);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        return query;
+    }
+
+    /**
+     * Recorre los pares (id, name) de todos los clientes con un cursor de solo avance
+     */
+    public Stream<Object[]> streamNames(int fetchSize) {
+        return getEntityManager()
+                .createQuery("select c.id, c.name from Client c", Object[].class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Obtiene los clientes con los ids dados proyectando a {@link ClientResponse} (una consulta, sin orden)
+     */
+    public List<ClientResponse> findResponsesByIds(Collection<Long> ids) {
+        return getEntityManager()
+                .createQuery(RESPONSE_PROJECTION + "where c.id in :ids", ClientResponse.class)
+                .setParameter("ids", ids)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
+    /**
+     * Obtiene en una consulta los clientes con alguno de los documentos o de los ids dados, proyectando
+     * a {@link ClientResponse} (sin orden); las listas vacías no entran en la condición
+     */
+    public List<ClientResponse> findResponsesByKeys(Collection<String> documentIds, Collection<Long> ids) {
+        if (documentIds.isEmpty() && ids.isEmpty()) {
+            return List.of();
+        }
+        String condition = documentIds.isEmpty() ? "where c.id in :ids"
+                : ids.isEmpty() ? "where c.documentId in :documentIds"
+                : "where c.documentId in :documentIds or c.id in :ids";
+        TypedQuery<ClientResponse> query = getEntityManager()
+                .createQuery(RESPONSE_PROJECTION + condition, ClientResponse.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (!documentIds.isEmpty()) {
+            query.setParameter("documentIds", documentIds);
+        }
+        if (!ids.isEmpty()) {
+            query.setParameter("ids", ids);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Devuelve cuáles de los documentos dados ya existen (una consulta)
+     */
+    public List<String> findExistingDocumentIds(Collection<String> documentIds) {
+        return getEntityManager()
+                .createQuery("select c.documentId from Client c where c.documentId in :documentIds", String.class)
+                .setParameter("documentIds", documentIds)
+                .getResultList();
+    }
+
+    /**
+     * Devuelve cuáles de los emails dados ya existen, en forma normalizada (una consulta)
+     */
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return getEntityManager()
+                .createQuery("select c.emailNormalized from Client c where c.emailNormalized in :emails", String.class)
+                .setParameter("emails", emails.stream().map(Client::normalizeEmail).toList())
+                .getResultList();
+    }
+
+    // Emails normalizados que comparten dos o más clientes (distintos solo en mayúsculas o espacios)
+    private static final String COLLIDING_EMAILS =
+            "select lower(trim(d.email)) from Client d group by lower(trim(d.email)) having count(d) > 1";
+
+    /**
+     * Cuenta las filas anteriores a la columna de email normalizado que aún no la tienen rellena
+     */
+    public long countWithoutNormalizedEmail() {
+        return count("emailNormalized is null");
+    }
+
+    /**
+     * Clientes cuyos emails solo se distinguen por mayúsculas o espacios, por email normalizado y en orden de id
+     */
+    public Map<String, List<Long>> findEmailCollisions() {
+        Map<String, List<Long>> collisions = new TreeMap<>();
+        getEntityManager()
+                .createQuery("select lower(trim(c.email)), c.id from Client c where lower(trim(c.email)) in ("
+                        + COLLIDING_EMAILS + ") order by c.id", Object[].class)
+                .getResultList()
+                .forEach(row -> collisions.computeIfAbsent((String) row[0], key -> new ArrayList<>()).add((Long) row[1]));
+        return collisions;
+    }
+
+    /**
+     * Rellena el email normalizado de las filas anteriores a la columna, salvo las que chocarían con la
+     * restricción única (ver {@link #findEmailCollisions()}); devuelve las filas actualizadas
+     */
+    public int normalizeEmails() {
+        return update("emailNormalized = lower(trim(email)) where emailNormalized is null and lower(trim(email)) not in ("
+                + COLLIDING_EMAILS + ")");
+    }
+
+    /**
+     * Actualiza con una sola sentencia, sin cargar la entidad, las columnas cuyo valor no es null, si la
+     * versión del cliente es {@code expectedVersion} (null: cualquiera) y algún valor cambia: PUT envía
+     * nombre, documento y email (y el estado si viene), PATCH solo las presentes. Si nada cambia la fila no
+     * se escribe, así que ni updated_at ni la versión avanzan. La misma sentencia devuelve la fila anterior
+     * aunque no escriba, de modo que quien llama distingue sin otra consulta un id inexistente (vacío), una
+     * versión distinta de la esperada (412) y una petición sin cambios. Las violaciones de unicidad llegan
+     * como {@link jakarta.persistence.PersistenceException}.
+     */
+    public Optional<ClientUpdate> updateById(long id, String name, String documentId, String email, String status,
+                                             LocalDateTime now, Long expectedVersion) {
+        Map<String, Object> parameters = new HashMap<>();
+        boolean postgres = isPostgres();
+        var query = getEntityManager()
+                .createNativeQuery(updateStatement(name, documentId, email, status, expectedVersion != null, postgres, parameters))
+                .setParameter("id", id)
+                .setParameter("now", now);
+        parameters.forEach(query::setParameter);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+        List<?> rows = query.getResultList();
+        if (rows.isEmpty() && !postgres) {
+            // OLD TABLE solo devuelve filas escritas: en H2 (tests) se lee la fila actual aparte
+            rows = getEntityManager().createNativeQuery(UNCHANGED_ROW).setParameter("id", id).getResultList();
+        }
+        return rows.isEmpty() ? Optional.empty() : Optional.of(toUpdate((Object[]) rows.get(0)));
+    }
+
+    /**
+     * SQL de {@link #updateById} para el dialecto indicado; deja en {@code parameters} los valores de las
+     * columnas escritas (los parámetros id, now y version los pone quien ejecuta la sentencia). Cada fila
+     * devuelta lleva las columnas anteriores y una última columna que indica si se escribió.
+     */
+    static String updateStatement(String name, String documentId, String email, String status, boolean checkVersion,
+                                  boolean postgres, Map<String, Object> parameters) {
+        StringBuilder set = new StringBuilder("update client c set ");
+        StringJoiner changed = new StringJoiner(" or ", "(", ")");
+        assign(set, changed, parameters, "name", "name", name);
+        assign(set, changed, parameters, "document_id", "documentId", documentId);
+        assign(set, changed, parameters, "email", "email", email);
+        assign(set, changed, parameters, "status", "status", status);
+        if (parameters.isEmpty()) {
+            throw new IllegalArgumentException("La actualización no incluye ninguna columna");
+        }
+        if (email != null) {
+            set.append("email_normalized = :emailNormalized, ");
+            parameters.put("emailNormalized", Client.normalizeEmail(email));
+        }
+        set.append("updated_at = :now, version = c.version + 1 ");
+        String version = checkVersion ? " and p.version = :version" : "";
+        if (postgres) {
+            // La CTE p bloquea y lee la fila; u solo la escribe si la versión coincide y algún valor cambia
+            return "with p as (select " + PREVIOUS_COLUMNS + " from client where id = :id for update), "
+                    + "u as (" + set + "from p where c.id = p.id" + version + " and " + changed + " returning c.id) "
+                    + "select p.id, p.name, p.document_id, p.email, p.status, p.created_at, p.updated_at, p.version, "
+                    + "exists (select 1 from u) as written from p";
+        }
+        return "select " + PREVIOUS_COLUMNS + ", true as written from old table (" + set + "where id = :id"
+                + (checkVersion ? " and version = :version" : "") + " and " + changed + ")";
+    }
+
+    /**
+     * Inactiva un cliente (soft delete) con una sola sentencia, sin cargar la entidad; si ya estaba
+     * inactivo no cambia nada. Devuelve la fila anterior, o vacío si el id no existe.
+     */
+    public Optional<ClientResponse> deactivateById(long id, LocalDateTime now) {
+        return toPreviousResponse(getEntityManager()
+                .createNativeQuery(deactivateStatement(isPostgres()))
+                .setParameter("id", id)
+                .setParameter("now", now)
+                .getResultList());
+    }
+
+    /**
+     * SQL de {@link #deactivateById} para el dialecto indicado
+     */
+    static String deactivateStatement(boolean postgres) {
+        return returningPrevious(DEACTIVATE_SET, "id = :id", postgres);
+    }
+
+    /**
+     * Cambia el estado de los clientes indicados con un único UPDATE, sin cargar entidades.
+     * Solo toca las filas cuyo estado es distinto del destino; incrementa la versión de cada una.
+     * Devuelve las filas cambiadas tal como estaban antes, leídas por la propia sentencia.
+     */
+    public List<ClientResponse> updateStatusByIds(Collection<Long> ids, String status, LocalDateTime updatedAt) {
+        return toPreviousResponses(getEntityManager()
+                .createNativeQuery(statusByIdsStatement(isPostgres()))
+                .setParameter("ids", ids)
+                .setParameter("status", status)
+                .setParameter("now", updatedAt)
+                .getResultList());
+    }
+
+    /**
+     * Cambia el estado de los clientes del rango de ids (fromId, toId] que cumplen el criterio
+     * e incrementa su versión; devuelve las filas cambiadas tal como estaban antes
+     */
+    public List<ClientResponse> updateStatusByRange(long fromId, long toId, String status, ClientCriteria criteria,
+                                                    LocalDateTime updatedAt) {
+        var query = getEntityManager()
+                .createNativeQuery(statusByRangeStatement(criteria, isPostgres()))
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .setParameter("status", status)
+                .setParameter("now", updatedAt);
+        criteria.parameters().map().forEach(query::setParameter);
+        return toPreviousResponses(query.getResultList());
+    }
+
+    /**
+     * SQL de {@link #updateStatusByIds} para el dialecto indicado
+     */
+    static String statusByIdsStatement(boolean postgres) {
+        return returningPrevious(STATUS_SET, "id in (:ids) and status <> :status", postgres);
+    }
+
+    /**
+     * SQL de {@link #updateStatusByRange} para el dialecto indicado
+     */
+    static String statusByRangeStatement(ClientCriteria criteria, boolean postgres) {
+        return returningPrevious(STATUS_SET, "id > :fromId and id <= :toId and status <> :status"
+                + criteria.columnCondition(), postgres);
+    }
+
+    /**
+     * Devuelve el menor y el mayor id de los clientes que cumplen el criterio, o vacío si no hay ninguno
+     */
+    public Optional<long[]> findIdRange(ClientCriteria criteria) {
+        var query = getEntityManager()
+                .createQuery("select min(id), max(id) from Client where id is not null" + criteria.condition(), Object[].class);
+        criteria.parameters().map().forEach(query::setParameter);
+        Object[] range = query.getSingleResult();
+        if (range[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new long[]{((Number) range[0]).longValue(), ((Number) range[1]).longValue()});
+    }
+
+    /**
+     * Cuenta los clientes de cada estado con un único GROUP BY
+     */
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new HashMap<>();
+        getEntityManager()
+                .createQuery("select c.status, count(c) from Client c group by c.status", Object[].class)
+                .getResultList()
+                .forEach(row -> counts.put((String) row[0], ((Number) row[1]).longValue()));
+        return counts;
+    }
+
+    /**
+     * Agrega en un único GROUP BY los clientes por estado, por día de alta y por día de última
+     * modificación (estos dos solo desde {@code since}; null fuera de la ventana o si no hubo cambios).
+     * Cada fila es (status, created_day, updated_day, count); como mucho estados x días x días filas.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> aggregateStats(LocalDateTime since) {
+        return getEntityManager()
+                .createNativeQuery("select status, created_day, updated_day, count(*) from ("
+                        + "select status, "
+                        + "case when created_at >= :since then cast(created_at as date) end as created_day, "
+                        + "case when updated_at >= :since and updated_at > created_at then cast(updated_at as date) end as updated_day "
+                        + "from client) c "
+                        + "group by status, created_day, updated_day")
+                .setParameter("since", since)
+                .getResultList();
+    }
 
     /**
      * Cuenta clientes activos
@@ -32,9 +425,86 @@ public class ClientRepository implements PanacheRepository<Client> {
     }
 
     /**
-     * Verifica si existe un cliente con el email dado
+     * Verifica si existe un cliente con el email dado, sin distinguir mayúsculas.
+     * Solo consulta la columna normalizada, así que se resuelve con el índice único.
      */
     public boolean existsByEmail(String email) {
-        return count("email", email) > 0;
+        return count("emailNormalized", Client.normalizeEmail(email)) > 0;
+    }
+
+    /**
+     * Sentencia UPDATE de las filas que cumplen {@code condition} (columnas sin alias) que devuelve cada fila
+     * tal como estaba antes de la escritura. En PostgreSQL las filas anteriores se bloquean y leen en una
+     * subconsulta FOR UPDATE y salen por RETURNING; en H2 (tests) se leen de OLD TABLE. En ambos casos es
+     * un único viaje a la base de datos y cada fila se bloquea una sola vez.
+     */
+    private static String returningPrevious(String set, String condition, boolean postgres) {
+        if (postgres) {
+            return set + "from (select id as previous_id, name as previous_name, document_id as previous_document_id, "
+                    + "email as previous_email, status as previous_status, created_at as previous_created_at, "
+                    + "updated_at as previous_updated_at, version as previous_version "
+                    + "from client where " + condition + " for update) p "
+                    + "where c.id = p.previous_id returning p.previous_id, p.previous_name, p.previous_document_id, "
+                    + "p.previous_email, p.previous_status, p.previous_created_at, p.previous_updated_at, p.previous_version";
+        }
+        return "select " + PREVIOUS_COLUMNS + " from old table (" + set + "where " + condition + ")";
+    }
+
+    private static String sparseProjection(ClientFields fields) {
+        return "select " + fields.select("c") + " from Client c ";
+    }
+
+    private static void assign(StringBuilder set, StringJoiner changed, Map<String, Object> parameters,
+                               String column, String parameter, Object value) {
+        if (value != null) {
+            set.append(column).append(" = :").append(parameter).append(", ");
+            changed.add("c." + column + " <> :" + parameter);
+            parameters.put(parameter, value);
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = getEntityManager().getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            postgres = result;
+        }
+        return result;
+    }
+
+    private static Optional<ClientResponse> toPreviousResponse(List<?> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(toPreviousResponse((Object[]) rows.get(0)));
+    }
+
+    private static List<ClientResponse> toPreviousResponses(List<?> rows) {
+        return rows.stream().map(row -> toPreviousResponse((Object[]) row)).toList();
+    }
+
+    private static ClientUpdate toUpdate(Object[] row) {
+        Object written = row[8];
+        return new ClientUpdate(toPreviousResponse(row),
+                written instanceof Number number ? number.intValue() != 0 : (Boolean) written);
+    }
+
+    private static ClientResponse toPreviousResponse(Object[] row) {
+        return ClientResponse.builder()
+                .id(((Number) row[0]).longValue())
+                .name((String) row[1])
+                .documentId((String) row[2])
+                .email((String) row[3])
+                .status((String) row[4])
+                .createdAt(toLocalDateTime(row[5]))
+                .updatedAt(toLocalDateTime(row[6]))
+                .version(((Number) row[7]).longValue())
+                .build();
+    }
+
+    // Según el driver, las columnas timestamp llegan como java.sql.Timestamp o como LocalDateTime
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
     }
 }
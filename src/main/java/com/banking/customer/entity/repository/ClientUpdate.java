@@ -0,0 +1,11 @@
+package com.banking.customer.entity.repository;
+
+import com.banking.customer.service.dto.ClientResponse;
+
+/**
+ * Resultado de {@link ClientRepository#updateById}: la fila tal como estaba antes de la sentencia y si se
+ * escribió. Si no se escribió, {@code previous} es también la fila actual: o ningún valor cambiaba o su
+ * versión no era la esperada.
+ */
+public record ClientUpdate(ClientResponse previous, boolean written) {
+}
@@ -0,0 +1,240 @@
+package com.banking.customer.entity.repository;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.SqlClient;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Acceso a la tabla client con el cliente reactivo de PostgreSQL (Vert.x).
+ * Cada operación es una única sentencia preparada; con pipelining varias peticiones
+ * comparten conexión sin esperar a que termine la anterior. Las escrituras reciben el
+ * {@link SqlClient} de la transacción ({@link #withTransaction}) en la que también se
+ * escribe su evento de outbox.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "app.clients.reactive.enabled", stringValue = "true")
+public class ReactiveClientRepository {
+
+    private static final String COLUMNS = "id, name, document_id, email, status, created_at, updated_at, version";
+
+    @Inject
+    Pool pool;
+
+    /**
+     * Busca un cliente por documento; el item es null si no existe
+     */
+    public Uni<ClientResponse> findByDocumentId(String documentId) {
+        return pool.preparedQuery("SELECT " + COLUMNS + " FROM client WHERE document_id = $1")
+                .execute(Tuple.of(documentId))
+                .map(ReactiveClientRepository::firstOrNull);
+    }
+
+    /**
+     * Busca un cliente por email normalizado (índice único); el item es null si no existe
+     */
+    public Uni<ClientResponse> findByEmail(String email) {
+        return pool.preparedQuery("SELECT " + COLUMNS + " FROM client WHERE email_normalized = $1")
+                .execute(Tuple.of(Client.normalizeEmail(email)))
+                .map(ReactiveClientRepository::firstOrNull);
+    }
+
+    /**
+     * Como {@link #findByEmail(String)} pero leyendo solo las columnas de {@code fields}
+     */
+    public Uni<ClientResponse> findByEmail(String email, ClientFields fields) {
+        return pool.preparedQuery("SELECT " + fields.columns() + " FROM client WHERE email_normalized = $1")
+                .execute(Tuple.of(Client.normalizeEmail(email)))
+                .map(rows -> rows.iterator().hasNext() ? read(fields, rows.iterator().next()) : null);
+    }
+
+    /**
+     * Página keyset ordenada por id; devuelve hasta {@code limit + 1} filas como {@link ClientRepository#findPage}
+     */
+    public Uni<List<ClientResponse>> findPage(long afterId, String status, int limit) {
+        return page(COLUMNS, afterId, status, limit).map(ReactiveClientRepository::toList);
+    }
+
+    /**
+     * Como {@link #findPage(long, String, int)} pero leyendo solo las columnas de {@code fields}
+     */
+    public Uni<List<ClientResponse>> findPage(long afterId, String status, int limit, ClientFields fields) {
+        return page(fields.columns(), afterId, status, limit).map(rows -> {
+            List<ClientResponse> clients = new ArrayList<>(rows.size());
+            rows.forEach(row -> clients.add(read(fields, row)));
+            return clients;
+        });
+    }
+
+    private Uni<RowSet<Row>> page(String columns, long afterId, String status, int limit) {
+        return status == null
+                ? pool.preparedQuery("SELECT " + columns + " FROM client WHERE id > $1 ORDER BY id LIMIT $2")
+                        .execute(Tuple.of(afterId, limit + 1))
+                : pool.preparedQuery("SELECT " + columns + " FROM client WHERE status = $1 AND id > $2 ORDER BY id LIMIT $3")
+                        .execute(Tuple.of(status, afterId, limit + 1));
+    }
+
+    /**
+     * Obtiene los clientes con los ids dados en una consulta (sin orden)
+     */
+    public Uni<List<ClientResponse>> findByIds(List<Long> ids) {
+        return pool.preparedQuery("SELECT " + COLUMNS + " FROM client WHERE id = ANY($1)")
+                .execute(Tuple.of(ids.toArray(Long[]::new)))
+                .map(ReactiveClientRepository::toList);
+    }
+
+    /**
+     * Obtiene en una consulta los clientes con alguno de los documentos o de los ids dados (sin orden);
+     * cada lista va como un único parámetro array
+     */
+    public Uni<List<ClientResponse>> findByKeys(List<String> documentIds, List<Long> ids) {
+        return pool.preparedQuery("SELECT " + COLUMNS + " FROM client WHERE document_id = ANY($1) OR id = ANY($2)")
+                .execute(Tuple.of(documentIds.toArray(String[]::new), ids.toArray(Long[]::new)))
+                .map(ReactiveClientRepository::toList);
+    }
+
+    /**
+     * Ejecuta {@code work} en una transacción sobre una conexión del pool: commit si el Uni termina bien,
+     * rollback si falla
+     */
+    public <T> Uni<T> withTransaction(Function<SqlConnection, Uni<T>> work) {
+        return pool.withTransaction(work);
+    }
+
+    /**
+     * Inserta un cliente con un único INSERT ... RETURNING; el id lo asigna la columna identity
+     */
+    public Uni<ClientResponse> insert(SqlClient client, String name, String documentId, String email, String status,
+                                      LocalDateTime now) {
+        return client.preparedQuery("INSERT INTO client (name, document_id, email, email_normalized, status, created_at, updated_at) "
+                        + "VALUES ($1, $2, $3, $4, $5, $6, $6) RETURNING " + COLUMNS)
+                .execute(Tuple.from(new Object[]{name, documentId, email, Client.normalizeEmail(email), status, now}))
+                .map(ReactiveClientRepository::firstOrNull);
+    }
+
+    /**
+     * Actualiza en una sola sentencia solo las columnas cuyo valor no es null, con las mismas reglas que
+     * {@link ClientRepository#updateById}, y devuelve la fila actual junto con el nombre, el documento, el
+     * estado y la versión anteriores (columnas previous_name, previous_document_id, previous_status y
+     * previous_version). Si no se escribe, porque nada cambia o la versión no coincide, version es igual a
+     * previous_version; el item es null solo si el id no existe.
+     */
+    public Uni<Row> update(SqlClient client, long id, String name, String documentId, String email, String status, LocalDateTime now,
+                           Long expectedVersion) {
+        List<Object> parameters = new ArrayList<>(List.of(id));
+        StringBuilder set = new StringBuilder("UPDATE client c SET ");
+        StringJoiner changed = new StringJoiner(" OR ", "(", ")");
+        assign(set, changed, parameters, "name", name);
+        assign(set, changed, parameters, "document_id", documentId);
+        assign(set, changed, parameters, "email", email);
+        assign(set, changed, parameters, "status", status);
+        if (parameters.size() == 1) {
+            throw new IllegalArgumentException("La actualización no incluye ninguna columna");
+        }
+        if (email != null) {
+            parameters.add(Client.normalizeEmail(email));
+            set.append("email_normalized = $").append(parameters.size()).append(", ");
+        }
+        parameters.add(now);
+        set.append("updated_at = $").append(parameters.size()).append(", version = c.version + 1 ");
+        String condition = "";
+        if (expectedVersion != null) {
+            parameters.add(expectedVersion);
+            condition = " AND p.version = $" + parameters.size();
+        }
+
+        // La CTE p bloquea y lee la fila; u solo la escribe si la versión coincide y algún valor cambia
+        return client.preparedQuery("WITH p AS (SELECT " + COLUMNS + " FROM client WHERE id = $1 FOR UPDATE), "
+                        + "u AS (" + set + "FROM p WHERE c.id = p.id" + condition + " AND " + changed
+                        + " RETURNING c.name, c.document_id, c.email, c.status, c.updated_at, c.version) "
+                        + "SELECT p.id, coalesce(u.name, p.name) AS name, coalesce(u.document_id, p.document_id) AS document_id, "
+                        + "coalesce(u.email, p.email) AS email, coalesce(u.status, p.status) AS status, p.created_at, "
+                        + "coalesce(u.updated_at, p.updated_at) AS updated_at, coalesce(u.version, p.version) AS version, "
+                        + "p.name AS previous_name, p.document_id AS previous_document_id, p.status AS previous_status, "
+                        + "p.version AS previous_version FROM p LEFT JOIN u ON true")
+                .execute(Tuple.from(parameters))
+                .map(rows -> rows.iterator().hasNext() ? rows.iterator().next() : null);
+    }
+
+    /**
+     * Inactiva un cliente (soft delete; sin cambios si ya estaba inactivo) y devuelve la fila nueva junto con su
+     * estado anterior (columna previous_status); el item es null si el id no existe
+     */
+    public Uni<Row> deactivate(SqlClient client, long id, LocalDateTime now) {
+        return client.preparedQuery("UPDATE client c SET status = 'INACTIVE', "
+                        + "updated_at = CASE WHEN c.status <> 'INACTIVE' THEN $2 ELSE c.updated_at END, "
+                        + "version = CASE WHEN c.status <> 'INACTIVE' THEN c.version + 1 ELSE c.version END "
+                        + "FROM (SELECT id, status AS previous_status FROM client WHERE id = $1 FOR UPDATE) p "
+                        + "WHERE c.id = p.id RETURNING c.id, c.name, c.document_id, c.email, c.status, "
+                        + "c.created_at, c.updated_at, c.version, p.previous_status")
+                .execute(Tuple.of(id, now))
+                .map(rows -> rows.iterator().hasNext() ? rows.iterator().next() : null);
+    }
+
+    /**
+     * Inserta un evento en la tabla outbox; el id lo asigna la columna identity
+     */
+    public Uni<Void> insertOutbox(SqlClient client, ClientOutboxEvent event) {
+        return client.preparedQuery("INSERT INTO client_outbox (client_id, event_type, client_version, payload, created_at) "
+                        + "VALUES ($1, $2, $3, $4, $5)")
+                .execute(Tuple.of(event.getClientId(), event.getEventType(), event.getClientVersion(),
+                        event.getPayload(), event.getCreatedAt()))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Convierte una fila con las columnas de {@link #COLUMNS} en respuesta
+     */
+    public static ClientResponse toResponse(Row row) {
+        return ClientResponse.builder()
+                .id(row.getLong("id"))
+                .name(row.getString("name"))
+                .documentId(row.getString("document_id"))
+                .email(row.getString("email"))
+                .status(row.getString("status"))
+                .createdAt(row.getLocalDateTime("created_at"))
+                .updatedAt(row.getLocalDateTime("updated_at"))
+                .version(row.getLong("version"))
+                .build();
+    }
+
+    private static void assign(StringBuilder set, StringJoiner changed, List<Object> parameters, String column, Object value) {
+        if (value != null) {
+            parameters.add(value);
+            set.append(column).append(" = $").append(parameters.size()).append(", ");
+            changed.add("c." + column + " <> $" + parameters.size());
+        }
+    }
+
+    private static ClientResponse read(ClientFields fields, Row row) {
+        return fields.read(row::getValue);
+    }
+
+    private static ClientResponse firstOrNull(RowSet<Row> rows) {
+        return rows.iterator().hasNext() ? toResponse(rows.iterator().next()) : null;
+    }
+
+    private static List<ClientResponse> toList(RowSet<Row> rows) {
+        List<ClientResponse> clients = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            clients.add(toResponse(row));
+        }
+        return clients;
+    }
+}
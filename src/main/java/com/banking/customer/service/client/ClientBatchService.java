@@ -0,0 +1,238 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientBatchItemResult;
+import com.banking.customer.service.dto.ClientBatchResponse;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.metrics.ClientMetrics;
+import com.banking.customer.service.outbox.ClientOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+@Slf4j
+public class ClientBatchService {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientReadRouting readRouting;
+
+    @Inject
+    ClientNameIndex nameIndex;
+
+    @Inject
+    ClientMetrics clientMetrics;
+
+    @Inject
+    ClientOutbox outbox;
+
+    @Inject
+    Validator validator;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.batch.max-size", defaultValue = "1000")
+    int maxBatchSize;
+
+    @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50")
+    int jdbcBatchSize;
+
+    private Counter createClientCounter;
+    private Counter rejectedClientCounter;
+
+    @jakarta.annotation.PostConstruct
+    void initMetrics() {
+        createClientCounter = meterRegistry.counter("clients.create.count");
+        rejectedClientCounter = meterRegistry.counter("clients.batch.rejected.count");
+    }
+
+    /**
+     * Crea un lote de clientes en una sola transacción.
+     * Valida todos los elementos juntos (campos, duplicados dentro del lote y existentes en BD)
+     * e inserta los válidos en lotes JDBC, con un evento CREATED por cliente en el outbox.
+     * Devuelve un resultado por elemento.
+     */
+    @Transactional
+    public ClientBatchResponse createBatch(List<ClientRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidClientRequestException("El lote debe contener al menos un cliente");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidClientRequestException("El lote supera el máximo de " + maxBatchSize + " clientes");
+        }
+        log.info("Creando lote de {} clientes", requests.size());
+
+        ClientBatchItemResult[] results = new ClientBatchItemResult[requests.size()];
+        Map<Integer, ClientRequest> candidates = validate(requests, results);
+        rejectExisting(candidates, results);
+
+        Map<Integer, Client> pending = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Integer, ClientRequest> entry : candidates.entrySet()) {
+                ClientRequest request = entry.getValue();
+                Client client = Client.builder()
+                        .name(request.getName())
+                        .documentId(request.getDocumentId())
+                        .email(request.getEmail())
+                        .status(request.getStatus() != null ? request.getStatus() : "ACTIVE")
+                        .build();
+                clientRepository.persist(client);
+                pending.put(entry.getKey(), client);
+
+                if (pending.size() % jdbcBatchSize == 0) {
+                    flushAndClear();
+                }
+            }
+            flushAndClear();
+        } catch (PersistenceException e) {
+            // Un alta concurrente ganó la carrera entre la validación y el INSERT
+            if (ClientConflicts.isConstraintViolation(e)) {
+                throw new ClientAlreadyExistsException(
+                        "Otro proceso creó un cliente del lote de forma concurrente, reintente el lote");
+            }
+            throw e;
+        }
+
+        List<ClientResponse> createdClients = new ArrayList<>(pending.size());
+        for (Map.Entry<Integer, Client> entry : pending.entrySet()) {
+            Client client = entry.getValue();
+            ClientResponse response = ClientResponse.fromEntity(client);
+            createdClients.add(response);
+            nameIndex.added(client.getId(), client.getName());
+            results[entry.getKey()] = ClientBatchItemResult.builder()
+                    .index(entry.getKey())
+                    .status(ClientBatchItemResult.CREATED)
+                    .client(response)
+                    .build();
+        }
+        outbox.recordAll(ClientOutboxEvent.CREATED, createdClients);
+        readRouting.recordWrite();
+        clientCache.evict(pending.values().stream().map(Client::getDocumentId).toArray(String[]::new));
+        pending.values().stream()
+                .collect(Collectors.groupingBy(Client::getStatus, Collectors.counting()))
+                .forEach(clientMetrics::created);
+
+        int created = pending.size();
+        int rejected = requests.size() - created;
+        createClientCounter.increment(created);
+        rejectedClientCounter.increment(rejected);
+        log.info("Lote procesado: {} creados, {} rechazados", created, rejected);
+
+        return ClientBatchResponse.builder()
+                .received(requests.size())
+                .created(created)
+                .rejected(rejected)
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Validación de campos y de duplicados dentro del propio lote
+     */
+    private Map<Integer, ClientRequest> validate(List<ClientRequest> requests, ClientBatchItemResult[] results) {
+        Map<Integer, ClientRequest> candidates = new LinkedHashMap<>();
+        Set<String> documentIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ClientRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = rejected(i, ClientBatchItemResult.INVALID, List.of("El cliente no puede ser nulo"));
+                continue;
+            }
+
+            Set<ConstraintViolation<ClientRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                List<String> errors = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .toList();
+                results[i] = rejected(i, ClientBatchItemResult.INVALID, errors);
+                continue;
+            }
+
+            List<String> errors = new ArrayList<>();
+            if (!documentIds.add(request.getDocumentId())) {
+                errors.add("Documento repetido en el lote: " + request.getDocumentId());
+            }
+            if (!emails.add(Client.normalizeEmail(request.getEmail()))) {
+                errors.add("Email repetido en el lote: " + request.getEmail());
+            }
+            if (!errors.isEmpty()) {
+                results[i] = rejected(i, ClientBatchItemResult.DUPLICATE, errors);
+                continue;
+            }
+            candidates.put(i, request);
+        }
+        return candidates;
+    }
+
+    /**
+     * Descarta los elementos cuyo documento o email ya existen (una consulta por columna)
+     */
+    private void rejectExisting(Map<Integer, ClientRequest> candidates, ClientBatchItemResult[] results) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Set<String> existingDocuments = new HashSet<>(clientRepository.findExistingDocumentIds(
+                candidates.values().stream().map(ClientRequest::getDocumentId).toList()));
+        Set<String> existingEmails = new HashSet<>(clientRepository.findExistingEmails(
+                candidates.values().stream().map(ClientRequest::getEmail).toList()));
+
+        candidates.entrySet().removeIf(entry -> {
+            ClientRequest request = entry.getValue();
+            List<String> errors = new ArrayList<>();
+            if (existingDocuments.contains(request.getDocumentId())) {
+                errors.add("Ya existe un cliente con el documento: " + request.getDocumentId());
+            }
+            if (existingEmails.contains(Client.normalizeEmail(request.getEmail()))) {
+                errors.add("Ya existe un cliente con el email: " + request.getEmail());
+            }
+            if (errors.isEmpty()) {
+                return false;
+            }
+            results[entry.getKey()] = rejected(entry.getKey(), ClientBatchItemResult.DUPLICATE, errors);
+            return true;
+        });
+    }
+
+    private void flushAndClear() {
+        clientRepository.flush();
+        clientRepository.getEntityManager().clear();
+    }
+
+    private ClientBatchItemResult rejected(int index, String status, List<String> errors) {
+        return ClientBatchItemResult.builder()
+                .index(index)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.service.dto.ClientResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CaffeineCache;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Cache en memoria (Caffeine) de las consultas de clientes por documento de identidad.
+ * El tamaño y el TTL se configuran en quarkus.cache.caffeine."client-by-document";
+ * los aciertos, fallos y desalojos se publican en el MeterRegistry por la extensión de cache.
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientCache {
+
+    public static final String CACHE_NAME = "client-by-document";
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    private Counter invalidationCounter;
+
+    @jakarta.annotation.PostConstruct
+    void initMetrics() {
+        invalidationCounter = meterRegistry.counter("clients.cache.invalidations", "cache", CACHE_NAME);
+    }
+
+    /**
+     * Devuelve el cliente desde cache o lo carga con el loader si no está.
+     * Las excepciones del loader (p. ej. cliente no encontrado) no se cachean.
+     */
+    public ClientResponse getByDocumentId(String documentId, Function<String, ClientResponse> loader) {
+        if (!enabled) {
+            return loader.apply(documentId);
+        }
+        return cache.get(documentId, loader).await().indefinitely();
+    }
+
+    /**
+     * Variante no bloqueante de {@link #getByDocumentId} para la pila reactiva
+     */
+    public Uni<ClientResponse> getByDocumentIdAsync(String documentId, Function<String, Uni<ClientResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(documentId);
+        }
+        return cache.getAsync(documentId, loader);
+    }
+
+    /**
+     * Clientes ya cacheados de los documentos dados (solo las cargas terminadas), sin cargar los que faltan.
+     * Las búsquedas múltiples no cachean lo que leen: un valor guardado después de la lectura podría
+     * llegar tras la invalidación de una escritura concurrente y sobrevivirla.
+     */
+    public Map<String, ClientResponse> getPresent(Collection<String> documentIds) {
+        if (!enabled || documentIds.isEmpty()) {
+            return Map.of();
+        }
+        CaffeineCache caffeine = cache.as(CaffeineCache.class);
+        Map<String, ClientResponse> present = new HashMap<>();
+        for (String documentId : documentIds) {
+            CompletableFuture<ClientResponse> entry = caffeine.getIfPresent(documentId);
+            if (entry != null && entry.isDone() && !entry.isCompletedExceptionally()) {
+                present.put(documentId, entry.join());
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Invalida las entradas de los documentos dados. Si hay una transacción activa se invalidan
+     * de nuevo al terminar, para descartar lecturas concurrentes que hayan cacheado el valor anterior.
+     */
+    public void evict(String... documentIds) {
+        if (!enabled) {
+            return;
+        }
+        List<String> keys = keys(documentIds);
+        invalidate(keys);
+
+        if (transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(keys);
+                }
+            });
+        }
+    }
+
+    /**
+     * Variante no bloqueante de {@link #evict} para la pila reactiva, que no usa transacciones JTA
+     */
+    public Uni<Void> evictAsync(String... documentIds) {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        return Multi.createFrom().iterable(keys(documentIds))
+                .onItem().transformToUniAndConcatenate(key -> cache.invalidate(key).invoke(() -> invalidationCounter.increment()))
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Vacía la cache completa
+     */
+    public void clear() {
+        cache.invalidateAll().await().indefinitely();
+    }
+
+    private List<String> keys(String... documentIds) {
+        return Arrays.stream(documentIds)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private void invalidate(List<String> keys) {
+        for (String key : keys) {
+            cache.invalidate(key).await().indefinitely();
+            invalidationCounter.increment();
+        }
+        log.debug("Cache {} invalidada para documentos: {}", CACHE_NAME, keys);
+    }
+}
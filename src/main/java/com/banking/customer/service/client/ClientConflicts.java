@@ -0,0 +1,66 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.entity.Client;
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Traduce violaciones de las restricciones de unicidad de la tabla client a
+ * {@link ClientAlreadyExistsException}, para que una inserción concurrente perdedora
+ * responda 409 en lugar de 500.
+ */
+final class ClientConflicts {
+
+    private ClientConflicts() {
+    }
+
+    static Optional<ClientAlreadyExistsException> translate(RuntimeException exception, String documentId, String email) {
+        ConstraintViolationException violation = findViolation(exception);
+        if (violation == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(forConstraint(describe(violation), documentId, email));
+    }
+
+    /**
+     * Excepción 409 para la restricción indicada (nombre o mensaje del driver, en minúsculas)
+     */
+    static ClientAlreadyExistsException forConstraint(String constraint, String documentId, String email) {
+        if (constraint.contains(Client.DOCUMENT_ID_CONSTRAINT)) {
+            return new ClientAlreadyExistsException("Ya existe un cliente con el documento: " + documentId);
+        }
+        if (constraint.contains(Client.EMAIL_CONSTRAINT)) {
+            return new ClientAlreadyExistsException("Ya existe un cliente con el email: " + email);
+        }
+        return new ClientAlreadyExistsException(
+                "Ya existe un cliente con el documento " + documentId + " o el email " + email);
+    }
+
+    static boolean isConstraintViolation(RuntimeException exception) {
+        return findViolation(exception) != null;
+    }
+
+    private static ConstraintViolationException findViolation(Throwable exception) {
+        for (Throwable current = exception; current != null; current = current.getCause()) {
+            if (current instanceof ConstraintViolationException violation) {
+                return violation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Nombre de la restricción violada; si el driver no lo informa se usa el mensaje SQL
+     */
+    private static String describe(ConstraintViolationException violation) {
+        if (violation.getConstraintName() != null) {
+            return violation.getConstraintName().toLowerCase(Locale.ROOT);
+        }
+        String message = violation.getSQLException() != null ? violation.getSQLException().getMessage() : null;
+        return message != null ? message.toLowerCase(Locale.ROOT) : "";
+    }
+}
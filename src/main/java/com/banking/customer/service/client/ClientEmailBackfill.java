@@ -0,0 +1,52 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.entity.repository.ClientRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Migración al arrancar: rellena email_normalized en las filas anteriores a la columna. Si hay clientes
+ * cuyos emails solo se distinguen por mayúsculas o espacios, el relleno violaría uk_client_email y
+ * detendría el arranque: esos clientes se dejan sin normalizar y se informan en el log para corregirlos
+ * a mano (mientras tanto no se encuentran por email). Sin filas pendientes no hace nada más que un count.
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientEmailBackfill {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    // Antes que los demás observadores del arranque, que ya leen el email normalizado
+    void onStart(@Observes @Priority(Interceptor.Priority.APPLICATION) StartupEvent event) {
+        backfill();
+    }
+
+    /**
+     * Rellena los emails normalizados pendientes y devuelve los emails en conflicto que quedan sin rellenar
+     */
+    Map<String, List<Long>> backfill() {
+        long pending = QuarkusTransaction.requiringNew().call(() -> clientRepository.countWithoutNormalizedEmail());
+        if (pending == 0) {
+            return Map.of();
+        }
+        return QuarkusTransaction.requiringNew().call(() -> {
+            Map<String, List<Long>> collisions = clientRepository.findEmailCollisions();
+            collisions.forEach((email, ids) ->
+                    log.error("Emails de clientes que solo se distinguen por mayúsculas o espacios ({}): ids {}; se dejan sin normalizar",
+                            email, ids));
+            int normalized = clientRepository.normalizeEmails();
+            log.info("Email normalizado rellenado en {} de {} clientes pendientes", normalized, pending);
+            return collisions;
+        });
+    }
+}
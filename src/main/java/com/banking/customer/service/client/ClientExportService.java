@@ -0,0 +1,75 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.VirtualThreadDispatcher;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApplicationScoped
+@Slf4j
+public class ClientExportService {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.export.page-size", defaultValue = "1000")
+    int pageSize;
+
+    private Counter exportedRowsCounter;
+    private Counter abortedExportsCounter;
+
+    @jakarta.annotation.PostConstruct
+    void init() {
+        exportedRowsCounter = meterRegistry.counter("clients.export.rows");
+        abortedExportsCounter = meterRegistry.counter("clients.export.aborted");
+    }
+
+    /**
+     * Recorre todos los clientes en orden de id por páginas keyset de app.clients.export.page-size filas.
+     * Cada página es una consulta corta fuera del event loop: entre páginas no queda ninguna conexión ni
+     * transacción abierta, y la siguiente solo se lee cuando el cliente HTTP ha consumido la anterior.
+     * Si el cliente se desconecta la suscripción se cancela en la siguiente escritura y no se leen más páginas.
+     */
+    public Multi<ClientResponse> export() {
+        log.info("Iniciando exportación NDJSON de clientes (página: {})", pageSize);
+        AtomicLong rows = new AtomicLong();
+        return Multi.createBy().repeating()
+                .uni(AtomicLong::new, afterId -> dispatcher.dispatch(() -> nextPage(afterId)))
+                .until(List::isEmpty)
+                .onItem().transformToIterable(page -> page)
+                .onItem().invoke(rows::incrementAndGet)
+                .onCompletion().invoke(() -> {
+                    exportedRowsCounter.increment(rows.get());
+                    log.info("Exportación NDJSON finalizada: {} clientes", rows.get());
+                })
+                .onCancellation().invoke(() -> {
+                    exportedRowsCounter.increment(rows.get());
+                    abortedExportsCounter.increment();
+                    log.warn("Exportación de clientes interrumpida tras {} filas", rows.get());
+                });
+    }
+
+    private List<ClientResponse> nextPage(AtomicLong afterId) {
+        // findPage lee limit + 1 filas
+        List<ClientResponse> page = clientRepository.findPage(afterId.get(), null, pageSize - 1);
+        if (!page.isEmpty()) {
+            afterId.set(page.get(page.size() - 1).getId());
+        }
+        return page;
+    }
+}
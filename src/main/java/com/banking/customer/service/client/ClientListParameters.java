@@ -0,0 +1,51 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.entity.Client;
+
+import java.util.Locale;
+
+/**
+ * Validación de los parámetros del listado y la búsqueda de clientes,
+ * compartida por las pilas bloqueante y reactiva
+ */
+final class ClientListParameters {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private ClientListParameters() {
+    }
+
+    static int resolveLimit(Integer limit, int defaultLimit, int maxLimit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1) {
+            throw new InvalidClientRequestException("El límite de la página debe ser mayor a cero");
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    static String resolveQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidClientRequestException("El parámetro de búsqueda q es obligatorio");
+        }
+        String trimmed = query.trim();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidClientRequestException("La búsqueda no puede superar " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        return trimmed;
+    }
+
+    static String resolveStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        String normalized = status.trim().toUpperCase(Locale.ROOT);
+        if (!Client.isValidStatus(normalized)) {
+            throw new InvalidClientStatusException("Estado de cliente inválido: " + status);
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,112 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientResponse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Claves de una búsqueda múltiple (POST /api/v1/clients/lookup) sin repetidos y en el orden de la petición,
+ * compartidas por las pilas bloqueante y reactiva. Arma la respuesta con una entrada por clave, null si
+ * no existe, en lugar de fallar por cada cliente que falta.
+ */
+final class ClientLookupKeys {
+
+    private final List<String> documentIds;
+    private final List<Long> ids;
+
+    private ClientLookupKeys(List<String> documentIds, List<Long> ids) {
+        this.documentIds = documentIds;
+        this.ids = ids;
+    }
+
+    static ClientLookupKeys of(ClientLookupRequest request, int maxSize) {
+        Set<String> documentIds = new LinkedHashSet<>();
+        Set<Long> ids = new LinkedHashSet<>();
+        if (request != null && request.getDocumentIds() != null) {
+            for (String documentId : request.getDocumentIds()) {
+                if (documentId == null || documentId.isBlank()) {
+                    throw new InvalidClientRequestException("Los documentos de la búsqueda no pueden estar vacíos");
+                }
+                documentIds.add(documentId);
+            }
+        }
+        if (request != null && request.getIds() != null) {
+            for (Long id : request.getIds()) {
+                if (id == null) {
+                    throw new InvalidClientRequestException("Los ids de la búsqueda no pueden ser nulos");
+                }
+                ids.add(id);
+            }
+        }
+        int size = documentIds.size() + ids.size();
+        if (size == 0) {
+            throw new InvalidClientRequestException("Indique al menos un documento o un id");
+        }
+        if (size > maxSize) {
+            throw new InvalidClientRequestException("La búsqueda supera el máximo de " + maxSize + " claves");
+        }
+        return new ClientLookupKeys(List.copyOf(documentIds), List.copyOf(ids));
+    }
+
+    List<String> documentIds() {
+        return documentIds;
+    }
+
+    List<Long> ids() {
+        return ids;
+    }
+
+    int size() {
+        return documentIds.size() + ids.size();
+    }
+
+    /**
+     * Documentos que no están entre los ya resueltos (p. ej. desde la cache)
+     */
+    List<String> pendingDocumentIds(Map<String, ClientResponse> resolved) {
+        return resolved.isEmpty()
+                ? documentIds
+                : documentIds.stream().filter(documentId -> !resolved.containsKey(documentId)).toList();
+    }
+
+    /**
+     * Una entrada por clave pedida con el cliente resuelto (de la cache o de las filas leídas) o null
+     */
+    ClientLookupResponse toResponse(Map<String, ClientResponse> cached, Collection<ClientResponse> clients) {
+        Map<String, ClientResponse> byDocumentId = new HashMap<>(cached);
+        Map<Long, ClientResponse> byId = new HashMap<>();
+        for (ClientResponse client : clients) {
+            byDocumentId.put(client.getDocumentId(), client);
+            byId.put(client.getId(), client);
+        }
+
+        int found = 0;
+        Map<String, ClientResponse> documents = new LinkedHashMap<>();
+        for (String documentId : documentIds) {
+            ClientResponse client = byDocumentId.get(documentId);
+            documents.put(documentId, client);
+            found += client != null ? 1 : 0;
+        }
+        Map<Long, ClientResponse> clientsById = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ClientResponse client = byId.get(id);
+            clientsById.put(id, client);
+            found += client != null ? 1 : 0;
+        }
+        return ClientLookupResponse.builder()
+                .found(found)
+                .missing(size() - found)
+                .documentIds(documents)
+                .ids(clientsById)
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchHit;
+import com.banking.customer.service.dto.ClientSearchResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Índice en memoria de trigramas sobre Client.name para la búsqueda por nombre tolerante a erratas.
+ * Se carga al arrancar recorriendo la tabla una vez y se mantiene al día con las altas y los cambios
+ * de nombre que notifican los servicios (al confirmar la transacción).
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientNameIndex {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @ConfigProperty(name = "app.clients.search.fetch-size", defaultValue = "5000")
+    int fetchSize;
+
+    private final TrigramIndex index = new TrigramIndex();
+    private final AtomicLong indexedClients = new AtomicLong();
+
+    @jakarta.annotation.PostConstruct
+    void registerMetrics() {
+        Gauge.builder("clients.search.index.clients", indexedClients, AtomicLong::get)
+                .description("Clientes indexados para la búsqueda por nombre")
+                .register(meterRegistry);
+        Gauge.builder("clients.search.index.trigrams", index, TrigramIndex::trigramCount)
+                .description("Trigramas distintos del índice de búsqueda por nombre")
+                .register(meterRegistry);
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        long loaded = QuarkusTransaction.requiringNew().call(() -> {
+            long rows = 0;
+            try (Stream<Object[]> names = clientRepository.streamNames(fetchSize)) {
+                for (Object[] name : (Iterable<Object[]>) names::iterator) {
+                    index.add((Long) name[0], (String) name[1]);
+                    rows++;
+                }
+            }
+            return rows;
+        });
+        indexedClients.set(loaded);
+        log.info("Índice de búsqueda por nombre cargado con {} clientes", loaded);
+    }
+
+    /**
+     * Registra un cliente creado
+     */
+    public void added(long id, String name) {
+        apply(() -> {
+            index.add(id, name);
+            indexedClients.incrementAndGet();
+        });
+    }
+
+    /**
+     * Registra un cambio de nombre
+     */
+    public void renamed(long id, String previousName, String name) {
+        apply(() -> index.replace(id, previousName, name));
+    }
+
+    /**
+     * Ids de los clientes cuyo nombre se parece más a la consulta, de mayor a menor coincidencia
+     */
+    List<TrigramIndex.Match> search(String query, double minScore, int limit) {
+        return index.search(query, minScore, limit);
+    }
+
+    /**
+     * Ids de los resultados de una búsqueda
+     */
+    static List<Long> ids(List<TrigramIndex.Match> matches) {
+        return matches.stream().map(TrigramIndex.Match::id).toList();
+    }
+
+    /**
+     * Combina los resultados del índice con los clientes leídos, en el orden del índice.
+     * Los ids que ya no existen en la base de datos se descartan.
+     */
+    static ClientSearchResponse toSearchResponse(String query, int limit, List<TrigramIndex.Match> matches,
+                                                 List<ClientResponse> clients) {
+        Map<Long, ClientResponse> byId = clients.stream()
+                .collect(Collectors.toMap(ClientResponse::getId, Function.identity()));
+        List<ClientSearchHit> items = matches.stream()
+                .filter(match -> byId.containsKey(match.id()))
+                .map(match -> ClientSearchHit.builder()
+                        .score(match.score())
+                        .client(byId.get(match.id()))
+                        .build())
+                .toList();
+        return ClientSearchResponse.builder()
+                .query(query)
+                .limit(limit)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Aplica el cambio al confirmar la transacción activa, o de inmediato si no hay ninguna
+     */
+    private void apply(Runnable change) {
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            change.run();
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    change.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor opaco para la paginación keyset del listado de clientes.
+ * Codifica el último id devuelto para que el cliente no dependa del formato interno.
+ */
+final class ClientPageCursor {
+
+    private static final String PREFIX = "id:";
+
+    private ClientPageCursor() {
+    }
+
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new InvalidClientRequestException("Cursor de paginación inválido");
+            }
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidClientRequestException("Cursor de paginación inválido");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.service.dto.ClientPatchRequest;
+
+/**
+ * Columnas que escribe un PATCH (JSON Merge Patch), compartido por las pilas bloqueante y reactiva.
+ * Solo se admiten nombre, documento, email y estado; cada campo ausente (null) queda como null y el
+ * UPDATE no escribe su columna.
+ */
+record ClientPatch(String name, String documentId, String email, String status) {
+
+    /**
+     * Valida la petición y la traduce a columnas: debe incluir al menos un campo y, si envía el estado,
+     * debe ser válido
+     */
+    static ClientPatch from(ClientPatchRequest patch) {
+        if (patch == null || patch.isEmpty()) {
+            throw new InvalidClientRequestException("La petición no incluye ningún campo a modificar");
+        }
+        return new ClientPatch(patch.getName(), patch.getDocumentId(), patch.getEmail(), resolveStatus(patch.getStatus()));
+    }
+
+    private static String resolveStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        String normalized = ClientListParameters.resolveStatus(status);
+        if (normalized == null) {
+            throw new InvalidClientStatusException("Estado de cliente inválido: " + status);
+        }
+        return normalized;
+    }
+}
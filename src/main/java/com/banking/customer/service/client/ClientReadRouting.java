@@ -0,0 +1,190 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.repository.ClientReplicaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.quarkus.arc.Arc;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Decide si una lectura se sirve desde la réplica o desde el primario. Tras una escritura se entrega un
+ * token de consistencia (la posición WAL del primario después del commit, en formato LSN de PostgreSQL,
+ * p. ej. 16/B374D848); una lectura que lo reenvía va al primario mientras la réplica no haya reproducido
+ * esa posición, así que quien escribe siempre lee su escritura. Sin token las lecturas van a la réplica.
+ * La última posición reproducida conocida se guarda en memoria: solo se vuelve a consultar a la réplica
+ * cuando llega un token posterior.
+ * <p>
+ * Los servicios registran cada escritura con {@link #recordWrite()} dentro de su transacción. La posición
+ * del commit solo se puede leer después de confirmar (el registro de commit se escribe en el WAL detrás de
+ * cualquier posición visible dentro de la transacción), así que cuesta una consulta más al primario por
+ * transacción confirmada, con una conexión del pool ya libre; solo con PostgreSQL y la réplica activada.
+ */
+@ApplicationScoped
+public class ClientReadRouting {
+
+    private static final Pattern LSN = Pattern.compile("[0-9A-Fa-f]{1,8}/[0-9A-Fa-f]{1,8}");
+    private static final Object WRITE_KEY = ClientReadRouting.class.getName() + ".write";
+
+    @Inject
+    ClientReplicaRepository replicaRepository;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @Inject
+    ClientWritePosition writePosition;
+
+    @ConfigProperty(name = "app.clients.replica.enabled", defaultValue = "true")
+    boolean enabled;
+
+    private final AtomicLong replayed = new AtomicLong(-1);
+    private final AtomicLong lastWrite = new AtomicLong(-1);
+    // Transacciones con escrituras cuya posición aún no se conoce (sin confirmar o leyéndola tras el commit)
+    private final AtomicInteger pendingWrites = new AtomicInteger();
+    private Counter replicaReads;
+    private Counter primaryReads;
+
+    @jakarta.annotation.PostConstruct
+    void initMetrics() {
+        replicaReads = Counter.builder("clients.reads.routed")
+                .description("Lecturas de clientes servidas desde la réplica")
+                .tag("service", "customer-service")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        primaryReads = Counter.builder("clients.reads.routed")
+                .description("Lecturas de clientes servidas desde el primario")
+                .tag("service", "customer-service")
+                .tag("target", "primary")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registra que la transacción activa escribe clientes (una vez por transacción). Desde ahora y hasta
+     * que se conoce la posición del commit las cargas de la cache van al primario, así que da igual en qué
+     * orden terminen esta sincronización y la invalidación de {@link ClientCache#evict}: una carga entre el
+     * commit y la invalidación nunca cachea la fila anterior desde la réplica. Al confirmarse, la posición
+     * pasa a ser la última escritura de la instancia y, si hay una petición activa, la de esa petición
+     * ({@link #writeToken()}).
+     */
+    public void recordWrite() {
+        if (!enabled || transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE
+                || transactionRegistry.getResource(WRITE_KEY) != null) {
+            return;
+        }
+        transactionRegistry.putResource(WRITE_KEY, Boolean.TRUE);
+        pendingWrites.incrementAndGet();
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == Status.STATUS_COMMITTED) {
+                        replicaRepository.primaryPosition().ifPresent(position -> {
+                            lastWrite.accumulateAndGet(position, Math::max);
+                            if (Arc.container().requestContext().isActive()) {
+                                writePosition.advance(position);
+                            }
+                        });
+                    }
+                } finally {
+                    pendingWrites.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    /**
+     * Token de consistencia de las escrituras confirmadas en la petición actual ({@link #recordWrite()}); null
+     * si no ha escrito, si la réplica está desactivada o si la base de datos no expone posiciones WAL (las
+     * lecturas ya ven la escritura)
+     */
+    public String writeToken() {
+        long position = writePosition.get();
+        return position < 0 ? null : format(position);
+    }
+
+    /**
+     * Si una lectura con el token dado (null: sin token) se sirve desde la réplica. Un token mal formado
+     * es un error del cliente (400).
+     */
+    public boolean useReplica(String consistencyToken) {
+        if (!enabled) {
+            return false;
+        }
+        return route(consistencyToken == null || reached(parse(consistencyToken)));
+    }
+
+    /**
+     * Si una carga de la cache de clientes se sirve desde la réplica: solo cuando ya ha reproducido la
+     * última escritura de esta instancia, para que una lectura retrasada no vuelva a cachear el valor que
+     * la escritura acaba de invalidar
+     */
+    public boolean useReplicaForCache() {
+        if (!enabled) {
+            return false;
+        }
+        long position = lastWrite.get();
+        return route(pendingWrites.get() == 0 && (position < 0 || reached(position)));
+    }
+
+    /**
+     * Si la réplica ha reproducido la posición actual del primario (sin retraso ahora mismo)
+     */
+    public boolean replicaCaughtUp() {
+        if (!enabled) {
+            return false;
+        }
+        return replicaRepository.primaryPosition().map(this::reached).orElse(true);
+    }
+
+    private boolean reached(long position) {
+        if (replayed.get() >= position) {
+            return true;
+        }
+        Optional<Long> current = replicaRepository.replayedPosition();
+        if (current.isEmpty()) {
+            // El datasource no es un standby (o no es PostgreSQL): lee lo mismo que el primario
+            return true;
+        }
+        return replayed.accumulateAndGet(current.get(), Math::max) >= position;
+    }
+
+    private boolean route(boolean replica) {
+        (replica ? replicaReads : primaryReads).increment();
+        return replica;
+    }
+
+    /**
+     * Posición WAL (bytes) en formato LSN: mitad alta y mitad baja en hexadecimal separadas por /
+     */
+    static String format(long position) {
+        return Long.toHexString(position >>> 32).toUpperCase(Locale.ROOT) + "/"
+                + Long.toHexString(position & 0xFFFFFFFFL).toUpperCase(Locale.ROOT);
+    }
+
+    static long parse(String token) {
+        if (!LSN.matcher(token).matches()) {
+            throw new InvalidClientRequestException("Token de consistencia inválido: " + token);
+        }
+        int slash = token.indexOf('/');
+        return (Long.parseLong(token.substring(0, slash), 16) << 32) | Long.parseLong(token.substring(slash + 1), 16);
+    }
+}
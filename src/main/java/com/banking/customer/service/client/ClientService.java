@@ -1,21 +1,36 @@
 package com.banking.customer.service.client;
 
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientPatchRequest;
 import com.banking.customer.service.dto.ClientRequest;
 import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchResponse;
 import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
 import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
 import com.banking.customer.controller.config.exception.ClientNotFoundException;
-import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import com.banking.customer.entity.repository.ClientReplicaRepository;
 import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.entity.repository.ClientUpdate;
+import com.banking.customer.service.metrics.ClientMetrics;
+import com.banking.customer.service.outbox.ClientOutbox;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 @ApplicationScoped
 @Slf4j
@@ -24,9 +39,45 @@ public class ClientService {
     @Inject
     ClientRepository clientRepository;
 
+    @Inject
+    ClientReplicaRepository replicaRepository;
+
+    @Inject
+    ClientReadRouting readRouting;
+
     @Inject
     MeterRegistry meterRegistry;
 
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientMetrics clientMetrics;
+
+    @Inject
+    ClientNameIndex nameIndex;
+
+    @Inject
+    ClientOutbox outbox;
+
+    @ConfigProperty(name = "app.clients.page.default-limit", defaultValue = "50")
+    int defaultPageLimit;
+
+    @ConfigProperty(name = "app.clients.page.max-limit", defaultValue = "500")
+    int maxPageLimit;
+
+    @ConfigProperty(name = "app.clients.search.default-limit", defaultValue = "20")
+    int defaultSearchLimit;
+
+    @ConfigProperty(name = "app.clients.search.max-limit", defaultValue = "100")
+    int maxSearchLimit;
+
+    @ConfigProperty(name = "app.clients.search.min-score", defaultValue = "0.5")
+    double minSearchScore;
+
+    @ConfigProperty(name = "app.clients.lookup.max-size", defaultValue = "1000")
+    int maxLookupSize;
+
     private Counter getClientCounter;
     private Counter createClientCounter;
     private Counter updateClientCounter;
@@ -39,45 +90,146 @@ public class ClientService {
     }
 
     /**
-    * Obtiene todos los clientes
+    * Obtiene una página de clientes usando paginación keyset sobre el id
     */
-    public List<ClientResponse> getAll() {
-        log.info("Consultando todos los clientes");
-        return clientRepository.listAll().stream()
-                .map(ClientResponse::fromEntity)
-                .collect(Collectors.toList());
+    public ClientPageResponse getAll(String cursor, String status, Integer limit) {
+        return getAll(cursor, status, limit, null);
+    }
+
+    /**
+     * Obtiene una página de clientes leyendo solo las columnas de {@code fields} (null: todas)
+     */
+    public ClientPageResponse getAll(String cursor, String status, Integer limit, ClientFields fields) {
+        return getAll(cursor, status, limit, fields, null);
+    }
+
+    /**
+     * Obtiene una página de clientes desde la réplica, o desde el primario si aún no ha reproducido la
+     * escritura del token de consistencia ({@link ClientReadRouting})
+     */
+    public ClientPageResponse getAll(String cursor, String status, Integer limit, ClientFields fields,
+                                     String consistencyToken) {
+        int pageSize = ClientListParameters.resolveLimit(limit, defaultPageLimit, maxPageLimit);
+        String statusFilter = ClientListParameters.resolveStatus(status);
+        long afterId = ClientPageCursor.decode(cursor);
+        log.info("Consultando clientes después del id {} (limite: {}, estado: {})", afterId, pageSize, statusFilter);
+
+        List<ClientResponse> rows;
+        if (readRouting.useReplica(consistencyToken)) {
+            rows = replicaRepository.findPage(afterId, statusFilter, pageSize, fields);
+        } else {
+            rows = fields == null
+                    ? clientRepository.findPage(afterId, statusFilter, pageSize)
+                    : clientRepository.findPage(afterId, statusFilter, pageSize, fields);
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<ClientResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return ClientPageResponse.builder()
+                .items(items)
+                .limit(pageSize)
+                .next(hasNext ? ClientPageCursor.encode(items.get(items.size() - 1).getId()) : null)
+                .build();
     }
 
     /**
-    * Busca un cliente por documento de identidad
+    * Busca un cliente por documento de identidad (con cache en memoria)
     */
     public ClientResponse getClientByDocumentId(String documentId) {
+        return getClientByDocumentId(documentId, null);
+    }
+
+    /**
+     * Busca un cliente por documento de identidad. Sin token usa la cache, que carga desde la réplica; con
+     * token lee sin cache (puede guardar una lectura de la réplica anterior a la escritura del token), de la
+     * réplica si ya la ha reproducido y si no del primario
+     */
+    public ClientResponse getClientByDocumentId(String documentId, String consistencyToken) {
         log.info("Consultando cliente con documento: {}", documentId);
         getClientCounter.increment();
 
-        Client client = clientRepository.findByDocumentId(documentId)
-                .orElseThrow(() -> new ClientNotFoundException("Cliente no encontrado con documento: " + documentId));
+        if (consistencyToken == null) {
+            return clientCache.getByDocumentId(documentId, this::loadByDocumentId);
+        }
+        Optional<ClientResponse> client = readRouting.useReplica(consistencyToken)
+                ? replicaRepository.findResponseByDocumentId(documentId)
+                : clientRepository.findResponseByDocumentId(documentId);
+        return client.orElseThrow(() -> notFound(documentId));
+    }
+
+    /**
+     * Busca un cliente por id
+     */
+    public ClientResponse getClientById(Long id) {
+        log.info("Consultando cliente con ID: {}", id);
+        getClientCounter.increment();
+
+        return clientRepository.findResponseById(id).orElseThrow(() -> new ClientNotFoundException(id));
+    }
+
+    /**
+     * Busca un cliente por email sin distinguir mayúsculas ni espacios alrededor
+     */
+    public ClientResponse getClientByEmail(String email) {
+        return getClientByEmail(email, null);
+    }
+
+    /**
+     * Busca un cliente por email leyendo solo las columnas de {@code fields} (null: todas)
+     */
+    public ClientResponse getClientByEmail(String email, ClientFields fields) {
+        log.info("Consultando cliente con email: {}", email);
+        getClientCounter.increment();
+
+        return (fields == null ? clientRepository.findResponseByEmail(email) : clientRepository.findResponseByEmail(email, fields))
+                .orElseThrow(() -> new ClientNotFoundException("Cliente no encontrado con email: " + email));
+    }
+
+    /**
+     * Resuelve varios clientes por documento y/o id: los documentos ya cacheados no se consultan y el resto
+     * se lee con una única consulta. Los que no existen quedan a null en la respuesta, sin lanzar
+     * {@link ClientNotFoundException} por cada uno.
+     */
+    public ClientLookupResponse lookup(ClientLookupRequest request) {
+        ClientLookupKeys keys = ClientLookupKeys.of(request, maxLookupSize);
+        getClientCounter.increment(keys.size());
+
+        Map<String, ClientResponse> cached = clientCache.getPresent(keys.documentIds());
+        List<String> pending = keys.pendingDocumentIds(cached);
+        List<ClientResponse> clients = pending.isEmpty() && keys.ids().isEmpty()
+                ? List.of()
+                : clientRepository.findResponsesByKeys(pending, keys.ids());
+        ClientLookupResponse response = keys.toResponse(cached, clients);
+        log.info("Búsqueda múltiple de {} claves: {} encontradas ({} desde cache), {} sin cliente",
+                keys.size(), response.getFound(), cached.size(), response.getMissing());
+        return response;
+    }
 
-        return ClientResponse.fromEntity(client);
+    /**
+     * Busca clientes por parecido del nombre (trigramas, sin tildes) usando el índice en memoria;
+     * solo los ids encontrados se leen de la base de datos, con una consulta
+     */
+    public ClientSearchResponse search(String query, Integer limit) {
+        String text = ClientListParameters.resolveQuery(query);
+        int size = ClientListParameters.resolveLimit(limit, defaultSearchLimit, maxSearchLimit);
+        log.info("Buscando clientes por nombre: '{}' (limite: {})", text, size);
+
+        List<TrigramIndex.Match> matches = nameIndex.search(text, minSearchScore, size);
+        List<ClientResponse> clients = matches.isEmpty()
+                ? List.of()
+                : clientRepository.findResponsesByIds(ClientNameIndex.ids(matches));
+        return ClientNameIndex.toSearchResponse(text, size, matches, clients);
     }
 
     /**
-     * Crea un nuevo cliente
+     * Crea un nuevo cliente con un único INSERT; la unicidad la garantizan las
+     * restricciones de la tabla y los conflictos se devuelven como 409. El evento CREATED
+     * se escribe en el outbox en la misma transacción.
      */
     @Transactional
     public ClientResponse create(ClientRequest request) {
         log.info("Creando nuevo cliente con documento: {}", request.getDocumentId());
 
-        // Validar que no exista
-        if (clientRepository.existsByDocumentId(request.getDocumentId())) {
-            throw new ClientAlreadyExistsException("Ya existe un cliente con el documento: " + request.getDocumentId());
-        }
-
-        if (clientRepository.existsByEmail(request.getEmail())) {
-            throw new ClientAlreadyExistsException("Ya existe un cliente con el email: " + request.getEmail());
-        }
-
-        // Crear cliente
         Client client = Client.builder()
                 .name(request.getName())
                 .documentId(request.getDocumentId())
@@ -85,11 +237,22 @@ public class ClientService {
                 .status(request.getStatus() != null ? request.getStatus() : "ACTIVE")
                 .build();
 
-        clientRepository.persist(client);
+        try {
+            clientRepository.persist(client);
+            clientRepository.flush();
+        } catch (PersistenceException e) {
+            throw ClientConflicts.translate(e, request.getDocumentId(), request.getEmail()).orElseThrow(() -> e);
+        }
+        ClientResponse response = ClientResponse.fromEntity(client);
+        outbox.record(ClientOutboxEvent.CREATED, response);
+        readRouting.recordWrite();
+        clientCache.evict(client.getDocumentId());
+        clientMetrics.created(client.getStatus(), 1);
+        nameIndex.added(client.getId(), client.getName());
         createClientCounter.increment();
 
         log.info("Cliente creado exitosamente con ID: {}", client.getId());
-        return ClientResponse.fromEntity(client);
+        return response;
     }
 
     /**
@@ -97,59 +260,123 @@ public class ClientService {
      */
     @Transactional
     public ClientResponse update(Long id, ClientRequest request) {
-        log.info("Actualizando cliente con ID: {}", id);
-
-        Client client = clientRepository.findByIdOptional(id)
-                .orElseThrow(() -> new ClientNotFoundException(id));
-
-        // Validar documento único (si cambió)
-        if (!client.getDocumentId().equals(request.getDocumentId())) {
-            if (clientRepository.existsByDocumentId(request.getDocumentId())) {
-                throw new ClientAlreadyExistsException("Ya existe un cliente con el documento: " + request.getDocumentId());
-            }
-            client.setDocumentId(request.getDocumentId());
-        }
-
-        if (!client.getEmail().equals(request.getEmail())) {
-            if (clientRepository.existsByEmail(request.getEmail())) {
-                throw new ClientAlreadyExistsException("Ya existe un cliente con el email: " + request.getEmail());
-            }
-            client.setEmail(request.getEmail());
-        }
-
-        client.setName(request.getName());
-        if (request.getStatus() != null) {
-            client.setStatus(request.getStatus());
-        }
+        return update(id, request, null);
+    }
 
-        clientRepository.persist(client);
-        updateClientCounter.increment();
+    /**
+     * Actualiza un cliente existente si su versión es {@code expectedVersion} (null: cualquiera)
+     */
+    @Transactional
+    public ClientResponse update(Long id, ClientRequest request, Long expectedVersion) {
+        log.info("Actualizando cliente con ID: {}", id);
+        return write(id, request.getName(), request.getDocumentId(), request.getEmail(), request.getStatus(), expectedVersion);
+    }
 
-        log.info("Cliente actualizado exitosamente: {}", id);
-        return ClientResponse.fromEntity(client);
+    /**
+     * Modifica solo los campos presentes del cliente (PATCH) si su versión es {@code expectedVersion}
+     * (null: cualquiera); el UPDATE solo escribe esas columnas
+     */
+    @Transactional
+    public ClientResponse patch(Long id, ClientPatchRequest patch, Long expectedVersion) {
+        log.info("Modificando parcialmente cliente con ID: {}", id);
+        ClientPatch changes = ClientPatch.from(patch);
+        return write(id, changes.name(), changes.documentId(), changes.email(), changes.status(), expectedVersion);
     }
 
     /**
-    * Elimina un cliente (soft delete - cambia a INACTIVE)
+    * Elimina un cliente (soft delete - cambia a INACTIVE) con un único UPDATE, sin cargar la entidad;
+    * si ya estaba inactivo no cambia nada ni se emite el evento DELETED
     */
     @Transactional
     public void delete(Long id) {
         log.info("Eliminando cliente con ID: {}", id);
 
-        Client client = clientRepository.findByIdOptional(id)
+        LocalDateTime now = LocalDateTime.now();
+        ClientResponse previous = clientRepository.deactivateById(id, now)
                 .orElseThrow(() -> new ClientNotFoundException(id));
-
-        client.deactivate();
-        clientRepository.persist(client);
+        if (!"INACTIVE".equals(previous.getStatus())) {
+            outbox.record(ClientOutboxEvent.DELETED, updated(previous, null, null, null, "INACTIVE", now));
+        }
+        readRouting.recordWrite();
+        clientCache.evict(previous.getDocumentId());
+        clientMetrics.transitioned(previous.getStatus(), "INACTIVE", 1);
 
         log.info("Cliente eliminado (inactivado) exitosamente: {}", id);
     }
 
 
     /**
-     * Cuenta clientes activos
+     * Cuenta clientes activos (en la réplica)
      */
     public long countActive() {
-        return clientRepository.countActiveClients();
+        return readRouting.useReplica(null) ? replicaRepository.countByStatus("ACTIVE") : clientRepository.countActiveClients();
+    }
+
+    /**
+     * Escribe las columnas no nulas con un único UPDATE que devuelve la fila anterior, sin cargar la entidad:
+     * la versión se comprueba en la propia sentencia y la unicidad la garantizan las restricciones de la
+     * tabla (409), así que solo se comprueban las columnas escritas. La sentencia devuelve la fila aunque no
+     * la escriba, así que 404 y 412 no necesitan otra consulta. Si ningún valor cambia no se escribe nada
+     * y se devuelve el cliente tal cual; si cambia, se escribe el evento UPDATED.
+     */
+    private ClientResponse write(Long id, String name, String documentId, String email, String status, Long expectedVersion) {
+        LocalDateTime now = LocalDateTime.now();
+        ClientUpdate update;
+        try {
+            update = clientRepository.updateById(id, name, documentId, email, status, now, expectedVersion).orElse(null);
+        } catch (PersistenceException e) {
+            throw ClientConflicts.translate(e, documentId, email).orElseThrow(() -> e);
+        }
+        if (update == null) {
+            throw new ClientNotFoundException(id);
+        }
+        ClientResponse previous = update.previous();
+        if (expectedVersion != null && !expectedVersion.equals(previous.getVersion())) {
+            throw new ClientVersionConflictException(id);
+        }
+        updateClientCounter.increment();
+        if (!update.written()) {
+            log.info("Cliente sin cambios: {}", id);
+            return previous;
+        }
+
+        ClientResponse client = updated(previous, name, documentId, email, status, now);
+        outbox.record(ClientOutboxEvent.UPDATED, client);
+        readRouting.recordWrite();
+        clientCache.evict(previous.getDocumentId(), client.getDocumentId());
+        clientMetrics.transitioned(previous.getStatus(), client.getStatus(), 1);
+        nameIndex.renamed(client.getId(), previous.getName(), client.getName());
+
+        log.info("Cliente actualizado exitosamente: {}", id);
+        return client;
+    }
+
+    /**
+     * Cliente tras aplicar los valores no nulos sobre la fila anterior, con las mismas reglas que
+     * {@link ClientRepository#updateById}
+     */
+    private static ClientResponse updated(ClientResponse previous, String name, String documentId, String email, String status,
+                                          LocalDateTime now) {
+        return ClientResponse.builder()
+                .id(previous.getId())
+                .name(name != null ? name : previous.getName())
+                .documentId(documentId != null ? documentId : previous.getDocumentId())
+                .email(email != null ? email : previous.getEmail())
+                .status(status != null ? status : previous.getStatus())
+                .createdAt(previous.getCreatedAt())
+                .updatedAt(now)
+                .version(previous.getVersion() + 1)
+                .build();
+    }
+
+    private ClientResponse loadByDocumentId(String documentId) {
+        Optional<ClientResponse> client = readRouting.useReplicaForCache()
+                ? replicaRepository.findResponseByDocumentId(documentId)
+                : clientRepository.findResponseByDocumentId(documentId);
+        return client.orElseThrow(() -> notFound(documentId));
+    }
+
+    private static ClientNotFoundException notFound(String documentId) {
+        return new ClientNotFoundException("Cliente no encontrado con documento: " + documentId);
     }
 }
@@ -0,0 +1,112 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientDailyStats;
+import com.banking.customer.service.dto.ClientStatsResponse;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Estadísticas de clientes para los cuadros de mando: totales por estado y altas y modificaciones
+ * por día. Se calculan con una sola consulta agregada y se cachean por ventana durante un TTL corto
+ * (quarkus.cache.caffeine."client-stats"), de modo que muchos paneles no multiplican las consultas.
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientStatsService {
+
+    public static final String CACHE_NAME = "client-stats";
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @ConfigProperty(name = "app.clients.stats.default-days", defaultValue = "30")
+    int defaultDays;
+
+    @ConfigProperty(name = "app.clients.stats.max-days", defaultValue = "365")
+    int maxDays;
+
+    /**
+     * Estadísticas de los últimos {@code days} días (incluido hoy), desde cache si están vigentes
+     */
+    public ClientStatsResponse getStats(Integer days) {
+        int window = days != null ? days : defaultDays;
+        if (window < 1 || window > maxDays) {
+            throw new InvalidClientRequestException("La ventana de estadísticas debe estar entre 1 y " + maxDays + " días");
+        }
+        return cache.get(window, this::compute).await().indefinitely();
+    }
+
+    private ClientStatsResponse compute(int days) {
+        LocalDate since = LocalDate.now().minusDays(days - 1L);
+        log.info("Calculando estadísticas de clientes desde {}", since);
+        List<Object[]> rows = QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.aggregateStats(since.atStartOfDay()));
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Client.STATUSES.forEach(status -> byStatus.put(status, 0L));
+        Map<LocalDate, long[]> byDay = new TreeMap<>();
+        for (int i = 0; i < days; i++) {
+            byDay.put(since.plusDays(i), new long[2]);
+        }
+
+        long total = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[3]).longValue();
+            total += count;
+            byStatus.merge((String) row[0], count, Long::sum);
+            LocalDate createdDay = toLocalDate(row[1]);
+            if (createdDay != null && byDay.containsKey(createdDay)) {
+                byDay.get(createdDay)[0] += count;
+            }
+            LocalDate updatedDay = toLocalDate(row[2]);
+            if (updatedDay != null && byDay.containsKey(updatedDay)) {
+                byDay.get(updatedDay)[1] += count;
+            }
+        }
+
+        List<ClientDailyStats> daily = new ArrayList<>(byDay.size());
+        byDay.forEach((date, counts) -> daily.add(ClientDailyStats.builder()
+                .date(date)
+                .created(counts[0])
+                .lastUpdated(counts[1])
+                .build()));
+
+        return ClientStatsResponse.builder()
+                .total(total)
+                .byStatus(byStatus)
+                .days(days)
+                .since(since)
+                .daily(daily)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // Según el driver, las columnas date llegan como java.sql.Date o como LocalDate
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+}
@@ -0,0 +1,184 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ClientCriteria;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientStatusTransitionRequest;
+import com.banking.customer.service.dto.ClientStatusTransitionResponse;
+import com.banking.customer.service.metrics.ClientMetrics;
+import com.banking.customer.service.outbox.ClientOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Cambios de estado masivos (activar, inactivar, bloquear) mediante UPDATE por bloques,
+ * sin cargar entidades en el contexto de persistencia. Cada bloque se confirma en su propia
+ * transacción para no mantener bloqueos sobre miles de filas, junto con un evento UPDATED en el
+ * outbox por cada cliente que cambia (leídos con FOR UPDATE antes del UPDATE). Esas mismas filas dan
+ * el estado previo para los contadores por estado y los documentos a invalidar en la cache.
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientStatusService {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientReadRouting readRouting;
+
+    @Inject
+    ClientMetrics clientMetrics;
+
+    @Inject
+    ClientOutbox outbox;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.bulk.chunk-size", defaultValue = "1000")
+    int chunkSize;
+
+    @ConfigProperty(name = "app.clients.bulk.max-ids", defaultValue = "100000")
+    int maxIds;
+
+    private Counter bulkUpdatedCounter;
+
+    @jakarta.annotation.PostConstruct
+    void initMetrics() {
+        bulkUpdatedCounter = meterRegistry.counter("clients.bulk.status.updated.count");
+    }
+
+    /**
+     * Aplica el estado destino a una lista de ids o a los clientes que cumplen el criterio
+     */
+    public ClientStatusTransitionResponse transition(ClientStatusTransitionRequest request) {
+        String status = normalizeStatus(request.getStatus());
+        String currentStatus = request.getCurrentStatus() != null ? normalizeStatus(request.getCurrentStatus()) : null;
+        ClientCriteria criteria = new ClientCriteria(currentStatus, request.getCreatedFrom(), request.getCreatedTo());
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+
+        if (byIds == !criteria.isEmpty()) {
+            throw new InvalidClientRequestException("Indique una lista de ids o un criterio de selección, no ambos");
+        }
+
+        List<ClientStatusTransitionResponse.Chunk> chunks = byIds
+                ? transitionByIds(request.getIds(), status)
+                : transitionByCriteria(criteria, status);
+
+        long updated = chunks.stream().mapToLong(ClientStatusTransitionResponse.Chunk::getUpdated).sum();
+        bulkUpdatedCounter.increment(updated);
+        log.info("Cambio masivo a {}: {} clientes actualizados en {} bloques", status, updated, chunks.size());
+
+        return ClientStatusTransitionResponse.builder()
+                .status(status)
+                .updated(updated)
+                .chunks(chunks)
+                .build();
+    }
+
+    private List<ClientStatusTransitionResponse.Chunk> transitionByIds(List<Long> ids, String status) {
+        List<Long> distinctIds = ids.stream().distinct().sorted().toList();
+        if (distinctIds.size() > maxIds) {
+            throw new InvalidClientRequestException("La lista supera el máximo de " + maxIds + " ids");
+        }
+
+        List<ClientStatusTransitionResponse.Chunk> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            List<Long> chunkIds = distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()));
+            int updated = QuarkusTransaction.requiringNew().call(() -> {
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                List<ClientResponse> changed = clientRepository.updateStatusByIds(chunkIds, status, now);
+                applyChanges(changed, status, now);
+                return changed.size();
+            });
+            chunks.add(chunk(chunks.size(), chunkIds.get(0), chunkIds.get(chunkIds.size() - 1), updated));
+        }
+        return chunks;
+    }
+
+    private List<ClientStatusTransitionResponse.Chunk> transitionByCriteria(ClientCriteria criteria, String status) {
+        Optional<long[]> range = QuarkusTransaction.requiringNew().call(() -> clientRepository.findIdRange(criteria));
+        if (range.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClientStatusTransitionResponse.Chunk> chunks = new ArrayList<>();
+        long maxId = range.get()[1];
+        for (long lowerExclusive = range.get()[0] - 1; lowerExclusive < maxId; lowerExclusive += chunkSize) {
+            long from = lowerExclusive;
+            long to = Math.min(lowerExclusive + chunkSize, maxId);
+            int updated = QuarkusTransaction.requiringNew().call(() -> {
+                LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                List<ClientResponse> changed = clientRepository.updateStatusByRange(from, to, status, criteria, now);
+                applyChanges(changed, status, now);
+                return changed.size();
+            });
+            chunks.add(chunk(chunks.size(), from + 1, to, updated));
+        }
+        return chunks;
+    }
+
+    /**
+     * Completa el bloque con las filas tal como estaban antes del UPDATE masivo, que las devuelve en la misma
+     * sentencia (estado, updatedAt y versión nuevos con now truncado a la precisión de la columna): los
+     * contadores por estado se mueven desde el estado previo de cada fila y solo se invalidan sus documentos
+     * en la cache, ambos al confirmar el bloque; además se escribe el evento de cada cliente en el outbox
+     */
+    private void applyChanges(List<ClientResponse> changed, String status, LocalDateTime now) {
+        changed.stream()
+                .collect(Collectors.groupingBy(ClientResponse::getStatus, Collectors.counting()))
+                .forEach((previous, count) -> clientMetrics.transitioned(previous, status, count));
+        readRouting.recordWrite();
+        clientCache.evict(changed.stream().map(ClientResponse::getDocumentId).toArray(String[]::new));
+        outbox.recordAll(ClientOutboxEvent.UPDATED, changed.stream()
+                .map(previous -> ClientResponse.builder()
+                        .id(previous.getId())
+                        .name(previous.getName())
+                        .documentId(previous.getDocumentId())
+                        .email(previous.getEmail())
+                        .status(status)
+                        .createdAt(previous.getCreatedAt())
+                        .updatedAt(now)
+                        .version(previous.getVersion() + 1)
+                        .build())
+                .toList());
+    }
+
+    private ClientStatusTransitionResponse.Chunk chunk(int index, long fromId, long toId, int updated) {
+        return ClientStatusTransitionResponse.Chunk.builder()
+                .index(index)
+                .fromId(fromId)
+                .toId(toId)
+                .updated(updated)
+                .build();
+    }
+
+    private String normalizeStatus(String status) {
+        String normalized = status == null ? null : status.trim().toUpperCase(Locale.ROOT);
+        if (!Client.isValidStatus(normalized)) {
+            throw new InvalidClientStatusException("Estado de cliente inválido: " + status);
+        }
+        return normalized;
+    }
+}
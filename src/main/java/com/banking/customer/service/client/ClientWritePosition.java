@@ -0,0 +1,22 @@
+package com.banking.customer.service.client;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * Posición WAL de la última escritura confirmada durante la petición actual ({@link ClientReadRouting}).
+ * Vive lo que la petición: una escritura sin petición activa (gRPC, tareas de arranque) no deja posición
+ * que otra petición pueda devolver como propia.
+ */
+@RequestScoped
+public class ClientWritePosition {
+
+    private long position = -1;
+
+    void advance(long value) {
+        position = Math.max(position, value);
+    }
+
+    long get() {
+        return position;
+    }
+}
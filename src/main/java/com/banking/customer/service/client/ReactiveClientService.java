@@ -0,0 +1,273 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ReactiveClientRepository;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientPatchRequest;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchResponse;
+import com.banking.customer.service.metrics.ClientMetrics;
+import com.banking.customer.service.outbox.ClientOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Uni;
+import io.vertx.pgclient.PgException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+
+/**
+ * Variante reactiva de {@link ClientService}: no bloquea hilos y se ejecuta en el event loop.
+ * La unicidad la garantizan las restricciones de la tabla (sin consultas previas). Cada escritura
+ * inserta su evento de outbox en la misma transacción de la conexión reactiva.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "app.clients.reactive.enabled", stringValue = "true")
+@Slf4j
+public class ReactiveClientService {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @Inject
+    ReactiveClientRepository clientRepository;
+
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientMetrics clientMetrics;
+
+    @Inject
+    ClientNameIndex nameIndex;
+
+    @Inject
+    ClientOutbox outbox;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.page.default-limit", defaultValue = "50")
+    int defaultPageLimit;
+
+    @ConfigProperty(name = "app.clients.page.max-limit", defaultValue = "500")
+    int maxPageLimit;
+
+    @ConfigProperty(name = "app.clients.search.default-limit", defaultValue = "20")
+    int defaultSearchLimit;
+
+    @ConfigProperty(name = "app.clients.search.max-limit", defaultValue = "100")
+    int maxSearchLimit;
+
+    @ConfigProperty(name = "app.clients.search.min-score", defaultValue = "0.5")
+    double minSearchScore;
+
+    @ConfigProperty(name = "app.clients.lookup.max-size", defaultValue = "1000")
+    int maxLookupSize;
+
+    private Counter getClientCounter;
+    private Counter createClientCounter;
+    private Counter updateClientCounter;
+
+    @jakarta.annotation.PostConstruct
+    void initMetrics() {
+        getClientCounter = meterRegistry.counter("clients.get.count");
+        createClientCounter = meterRegistry.counter("clients.create.count");
+        updateClientCounter = meterRegistry.counter("clients.update.count");
+    }
+
+    /**
+     * Obtiene una página de clientes usando paginación keyset sobre el id
+     */
+    public Uni<ClientPageResponse> getAll(String cursor, String status, Integer limit) {
+        return getAll(cursor, status, limit, null);
+    }
+
+    /**
+     * Obtiene una página de clientes leyendo solo las columnas de {@code fields} (null: todas)
+     */
+    public Uni<ClientPageResponse> getAll(String cursor, String status, Integer limit, ClientFields fields) {
+        int pageSize = ClientListParameters.resolveLimit(limit, defaultPageLimit, maxPageLimit);
+        String statusFilter = ClientListParameters.resolveStatus(status);
+        long afterId = ClientPageCursor.decode(cursor);
+
+        Uni<List<ClientResponse>> page = fields == null
+                ? clientRepository.findPage(afterId, statusFilter, pageSize)
+                : clientRepository.findPage(afterId, statusFilter, pageSize, fields);
+        return page.map(rows -> {
+            boolean hasNext = rows.size() > pageSize;
+            List<ClientResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+            return ClientPageResponse.builder()
+                    .items(items)
+                    .limit(pageSize)
+                    .next(hasNext ? ClientPageCursor.encode(items.get(items.size() - 1).getId()) : null)
+                    .build();
+        });
+    }
+
+    /**
+     * Busca un cliente por documento de identidad (con cache en memoria)
+     */
+    public Uni<ClientResponse> getClientByDocumentId(String documentId) {
+        getClientCounter.increment();
+        return clientCache.getByDocumentIdAsync(documentId, key -> clientRepository.findByDocumentId(key)
+                .onItem().ifNull().failWith(() -> new ClientNotFoundException("Cliente no encontrado con documento: " + key)));
+    }
+
+    /**
+     * Busca un cliente por email sin distinguir mayúsculas ni espacios alrededor
+     */
+    public Uni<ClientResponse> getClientByEmail(String email) {
+        return getClientByEmail(email, null);
+    }
+
+    /**
+     * Busca un cliente por email leyendo solo las columnas de {@code fields} (null: todas)
+     */
+    public Uni<ClientResponse> getClientByEmail(String email, ClientFields fields) {
+        getClientCounter.increment();
+        return (fields == null ? clientRepository.findByEmail(email) : clientRepository.findByEmail(email, fields))
+                .onItem().ifNull().failWith(() -> new ClientNotFoundException("Cliente no encontrado con email: " + email));
+    }
+
+    /**
+     * Resuelve varios clientes por documento y/o id con una única consulta (los documentos cacheados no
+     * se consultan); los que no existen quedan a null en la respuesta
+     */
+    public Uni<ClientLookupResponse> lookup(ClientLookupRequest request) {
+        ClientLookupKeys keys = ClientLookupKeys.of(request, maxLookupSize);
+        getClientCounter.increment(keys.size());
+
+        Map<String, ClientResponse> cached = clientCache.getPresent(keys.documentIds());
+        List<String> pending = keys.pendingDocumentIds(cached);
+        Uni<List<ClientResponse>> clients = pending.isEmpty() && keys.ids().isEmpty()
+                ? Uni.createFrom().item(List.of())
+                : clientRepository.findByKeys(pending, keys.ids());
+        return clients.map(rows -> keys.toResponse(cached, rows));
+    }
+
+    /**
+     * Busca clientes por parecido del nombre con el índice en memoria; solo los ids encontrados se leen
+     */
+    public Uni<ClientSearchResponse> search(String query, Integer limit) {
+        String text = ClientListParameters.resolveQuery(query);
+        int size = ClientListParameters.resolveLimit(limit, defaultSearchLimit, maxSearchLimit);
+
+        List<TrigramIndex.Match> matches = nameIndex.search(text, minSearchScore, size);
+        Uni<List<ClientResponse>> clients = matches.isEmpty()
+                ? Uni.createFrom().item(List.of())
+                : clientRepository.findByIds(ClientNameIndex.ids(matches));
+        return clients.map(rows -> ClientNameIndex.toSearchResponse(text, size, matches, rows));
+    }
+
+    /**
+     * Crea un nuevo cliente con un único INSERT; los conflictos de unicidad se devuelven como 409
+     */
+    public Uni<ClientResponse> create(ClientRequest request) {
+        String status = request.getStatus() != null ? request.getStatus() : "ACTIVE";
+        return clientRepository.withTransaction(connection -> clientRepository
+                        .insert(connection, request.getName(), request.getDocumentId(), request.getEmail(), status, LocalDateTime.now())
+                        .call(client -> clientRepository.insertOutbox(connection, outbox.event(ClientOutboxEvent.CREATED, client))))
+                .onFailure(ReactiveClientService::isUniqueViolation).transform(e -> conflict(e, request))
+                .call(client -> {
+                    clientMetrics.created(client.getStatus(), 1);
+                    nameIndex.added(client.getId(), client.getName());
+                    createClientCounter.increment();
+                    return clientCache.evictAsync(client.getDocumentId());
+                });
+    }
+
+    /**
+     * Actualiza un cliente existente con un único UPDATE
+     */
+    public Uni<ClientResponse> update(Long id, ClientRequest request) {
+        return update(id, request, null);
+    }
+
+    /**
+     * Actualiza un cliente existente si su versión es {@code expectedVersion} (null: cualquiera)
+     */
+    public Uni<ClientResponse> update(Long id, ClientRequest request, Long expectedVersion) {
+        return write(id, request.getName(), request.getDocumentId(), request.getEmail(), request.getStatus(), expectedVersion);
+    }
+
+    /**
+     * Modifica solo los campos presentes del cliente (PATCH) si su versión es {@code expectedVersion} (null: cualquiera)
+     */
+    public Uni<ClientResponse> patch(Long id, ClientPatchRequest patch, Long expectedVersion) {
+        ClientPatch changes = ClientPatch.from(patch);
+        return write(id, changes.name(), changes.documentId(), changes.email(), changes.status(), expectedVersion);
+    }
+
+    /**
+     * Escribe las columnas no nulas con un único UPDATE. La versión se comprueba en la propia sentencia,
+     * que devuelve la fila aunque no la escriba: sin fila el cliente no existe (404); si no se escribió y
+     * la versión no es la esperada, se modificó entretanto (412); si no, ningún valor cambiaba.
+     */
+    private Uni<ClientResponse> write(Long id, String name, String documentId, String email, String status,
+                                      Long expectedVersion) {
+        return clientRepository.withTransaction(connection -> clientRepository
+                        .update(connection, id, name, documentId, email, status, LocalDateTime.now(), expectedVersion)
+                        .call(row -> row == null || row.getLong("version").equals(row.getLong("previous_version"))
+                                ? Uni.createFrom().voidItem()
+                                : clientRepository.insertOutbox(connection,
+                                        outbox.event(ClientOutboxEvent.UPDATED, ReactiveClientRepository.toResponse(row)))))
+                .onFailure(ReactiveClientService::isUniqueViolation).transform(e -> conflict(e, documentId, email))
+                .onItem().ifNull().failWith(() -> new ClientNotFoundException(id))
+                .invoke(row -> {
+                    if (expectedVersion != null && !expectedVersion.equals(row.getLong("previous_version"))) {
+                        throw new ClientVersionConflictException(id);
+                    }
+                })
+                .flatMap(row -> {
+                    ClientResponse client = ReactiveClientRepository.toResponse(row);
+                    clientMetrics.transitioned(row.getString("previous_status"), client.getStatus(), 1);
+                    nameIndex.renamed(client.getId(), row.getString("previous_name"), client.getName());
+                    updateClientCounter.increment();
+                    return clientCache.evictAsync(row.getString("previous_document_id"), client.getDocumentId())
+                            .replaceWith(client);
+                });
+    }
+
+    /**
+     * Elimina un cliente (soft delete - cambia a INACTIVE)
+     */
+    public Uni<Void> delete(Long id) {
+        return clientRepository.withTransaction(connection -> clientRepository.deactivate(connection, id, LocalDateTime.now())
+                        .call(row -> row == null || "INACTIVE".equals(row.getString("previous_status"))
+                                ? Uni.createFrom().voidItem()
+                                : clientRepository.insertOutbox(connection,
+                                        outbox.event(ClientOutboxEvent.DELETED, ReactiveClientRepository.toResponse(row)))))
+                .onItem().ifNull().failWith(() -> new ClientNotFoundException(id))
+                .flatMap(row -> {
+                    clientMetrics.transitioned(row.getString("previous_status"), "INACTIVE", 1);
+                    return clientCache.evictAsync(row.getString("document_id"));
+                });
+    }
+
+    private static boolean isUniqueViolation(Throwable failure) {
+        return failure instanceof PgException pg && UNIQUE_VIOLATION.equals(pg.getSqlState());
+    }
+
+    private static Throwable conflict(Throwable failure, ClientRequest request) {
+        return conflict(failure, request.getDocumentId(), request.getEmail());
+    }
+
+    private static Throwable conflict(Throwable failure, String documentId, String email) {
+        PgException pg = (PgException) failure;
+        String constraint = pg.getConstraint() != null ? pg.getConstraint() : String.valueOf(pg.getErrorMessage());
+        return ClientConflicts.forConstraint(constraint.toLowerCase(Locale.ROOT), documentId, email);
+    }
+}
@@ -0,0 +1,344 @@
+package com.banking.customer.service.client;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas sobre textos cortos (nombres), al estilo de pg_trgm.
+ * El texto se pliega (sin tildes, en minúsculas) y cada palabra se rellena con dos espacios
+ * delante y uno detrás antes de partirla en trigramas. Cada id (cualquier long) recibe al indexarse
+ * un número interno consecutivo, y cada trigrama guarda la lista ordenada de números internos que
+ * lo contienen: las listas son de int aunque los ids de client sean bigint.
+ */
+public final class TrigramIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final int MAX_TRIGRAMS = 0xFF;
+
+    // Peor resultado primero: menos coincidencias, más trigramas y mayor id
+    private static final Comparator<Candidate> WORST_FIRST = Comparator.comparingInt(Candidate::shared)
+            .thenComparing(Comparator.comparingInt(Candidate::trigramCount).reversed())
+            .thenComparing(Comparator.comparingLong(Candidate::id).reversed());
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final DocNumbers docNumbers = new DocNumbers();
+    // Id y número de trigramas de cada texto indexado (por número interno), para desempatar sin guardar el texto
+    private long[] ids = new long[1024];
+    private byte[] trigramCounts = new byte[1024];
+    private int docs;
+
+    /**
+     * Resultado de una búsqueda: fracción de trigramas de la consulta presentes en el texto
+     */
+    public record Match(long id, double score) {
+    }
+
+    private record Candidate(long id, int shared, int trigramCount) {
+    }
+
+    /**
+     * Indexa el texto de un id; indexar dos veces el mismo texto no tiene efecto
+     */
+    public void add(long id, String text) {
+        long[] trigrams = trigrams(text);
+        lock.writeLock().lock();
+        try {
+            int doc = doc(id);
+            for (long trigram : trigrams) {
+                postings.computeIfAbsent(trigram, key -> new Postings()).insert(doc);
+            }
+            trigramCounts[doc] = (byte) Math.min(trigrams.length, MAX_TRIGRAMS);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sustituye el texto indexado de un id por uno nuevo
+     */
+    public void replace(long id, String previousText, String text) {
+        if (fold(previousText).equals(fold(text))) {
+            return;
+        }
+        long[] previous = trigrams(previousText);
+        lock.writeLock().lock();
+        try {
+            int doc = doc(id);
+            for (long trigram : previous) {
+                Postings list = postings.get(trigram);
+                if (list != null && list.remove(doc) && list.size == 0) {
+                    postings.remove(trigram);
+                }
+            }
+            add(id, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Devuelve hasta {@code limit} ids cuyo texto contiene al menos la fracción {@code minScore}
+     * de los trigramas de la consulta, de mayor a menor coincidencia. A igual coincidencia se
+     * prefiere el texto con menos trigramas (más parecido a la consulta) y después el id menor.
+     * <p>
+     * Recorre los números internos en orden con un cursor por lista. Uno con {@code k} coincidencias tiene que
+     * aparecer en alguna de las {@code n - k + 1} listas más cortas ("esenciales"): solo esas generan
+     * candidatos, y en las demás se avanza a saltos (búsqueda exponencial) hasta el candidato.
+     * Cuando ya hay {@code limit} resultados, el mínimo de coincidencias sube al del peor de ellos y
+     * las listas esenciales se reducen, normalmente a la del trigrama más raro.
+     */
+    public List<Match> search(String query, double minScore, int limit) {
+        long[] trigrams = trigrams(query);
+        if (trigrams.length == 0 || limit < 1) {
+            return List.of();
+        }
+        int n = trigrams.length;
+        int threshold = Math.max(1, (int) Math.ceil(minScore * n));
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[n];
+            for (int i = 0; i < n; i++) {
+                lists[i] = postings.getOrDefault(trigrams[i], Postings.EMPTY);
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+            int[] cursors = new int[n];
+            int essential = n - threshold + 1;
+            PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, WORST_FIRST);
+            while (true) {
+                int doc = Integer.MAX_VALUE;
+                for (int i = 0; i < essential; i++) {
+                    if (cursors[i] < lists[i].size) {
+                        doc = Math.min(doc, lists[i].ids[cursors[i]]);
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+
+                int shared = 0;
+                for (int i = 0; i < essential; i++) {
+                    if (cursors[i] < lists[i].size && lists[i].ids[cursors[i]] == doc) {
+                        shared++;
+                        cursors[i]++;
+                    }
+                }
+                for (int i = essential; i < n && shared + (n - i) >= threshold; i++) {
+                    cursors[i] = lists[i].advance(cursors[i], doc);
+                    if (cursors[i] < lists[i].size && lists[i].ids[cursors[i]] == doc) {
+                        shared++;
+                    }
+                }
+                if (shared < threshold) {
+                    continue;
+                }
+
+                Candidate candidate = new Candidate(ids[doc], shared, trigramCounts[doc] & MAX_TRIGRAMS);
+                if (top.size() < limit) {
+                    top.add(candidate);
+                } else if (WORST_FIRST.compare(candidate, top.peek()) > 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+                if (top.size() == limit && top.peek().shared() > threshold) {
+                    threshold = top.peek().shared();
+                    essential = n - threshold + 1;
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Candidate candidate = top.poll();
+                matches.add(new Match(candidate.id(), (double) candidate.shared() / n));
+            }
+            Collections.reverse(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Número de trigramas distintos indexados
+     */
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Pliega el texto para comparar: sin tildes ni diéresis y en minúsculas
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Trigramas distintos del texto plegado, codificados como tres caracteres de 16 bits
+     */
+    static long[] trigrams(String text) {
+        Set<Long> trigrams = new LinkedHashSet<>();
+        for (String word : fold(text).split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2));
+            }
+        }
+        return trigrams.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Número interno del id, asignando el siguiente si aún no está indexado (con el bloqueo de escritura)
+    private int doc(long id) {
+        int doc = docNumbers.get(id);
+        if (doc >= 0) {
+            return doc;
+        }
+        if (docs == Integer.MAX_VALUE) {
+            throw new IllegalStateException("El índice de trigramas admite como máximo " + Integer.MAX_VALUE + " textos");
+        }
+        doc = docs++;
+        if (doc == ids.length) {
+            int capacity = doc + (doc >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            trigramCounts = Arrays.copyOf(trigramCounts, capacity);
+        }
+        ids[doc] = id;
+        docNumbers.put(id, doc);
+        return doc;
+    }
+
+    /**
+     * Tabla hash abierta de id a número interno con arrays primitivos, sin un Long y un Integer por cliente.
+     * Guarda el número más uno: un 0 marca el hueco vacío y cualquier long es un id válido.
+     */
+    private static final class DocNumbers {
+
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        private int get(long id) {
+            int mask = keys.length - 1;
+            for (int slot = slot(id, mask); values[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == id) {
+                    return values[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void put(long id, int doc) {
+            if (2 * (size + 1) > keys.length) {
+                long[] oldKeys = keys;
+                int[] oldValues = values;
+                keys = new long[oldKeys.length * 2];
+                values = new int[oldKeys.length * 2];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldValues[i] != 0) {
+                        insert(oldKeys[i], oldValues[i]);
+                    }
+                }
+            }
+            insert(id, doc + 1);
+            size++;
+        }
+
+        private void insert(long id, int value) {
+            int mask = keys.length - 1;
+            int slot = slot(id, mask);
+            while (values[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = id;
+            values[slot] = value;
+        }
+
+        private static int slot(long id, int mask) {
+            long hash = id * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+
+    /**
+     * Lista ordenada de números internos; se asignan en orden creciente,
+     * así que insertar suele ser añadir al final
+     */
+    private static final class Postings {
+
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ids = new int[4];
+        private int size;
+
+        private void insert(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int position = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        /**
+         * Primera posición desde {@code from} con id mayor o igual que {@code target}:
+         * avanza a saltos que se duplican y termina con una búsqueda binaria
+         */
+        private int advance(int from, int target) {
+            if (from >= size || ids[from] >= target) {
+                return from;
+            }
+            int low = from;
+            int step = 1;
+            int high = from + step;
+            while (high < size && ids[high] < target) {
+                low = high;
+                step <<= 1;
+                high = low + step;
+            }
+            int index = Arrays.binarySearch(ids, low + 1, Math.min(high, size - 1) + 1, target);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientBatchItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String INVALID = "INVALID";
+
+    private int index;
+    private String status; // CREATED, DUPLICATE, INVALID
+    private ClientResponse client;
+    private List<String> errors;
+}
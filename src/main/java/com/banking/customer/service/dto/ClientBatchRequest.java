@@ -0,0 +1,18 @@
+package com.banking.customer.service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientBatchRequest {
+
+    // Cada elemento se valida por separado para devolver un resultado por cliente
+    @NotEmpty(message = "El lote debe contener al menos un cliente")
+    private List<ClientRequest> clients;
+}
@@ -0,0 +1,18 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientBatchResponse {
+
+    private int received;
+    private int created;
+    private int rejected;
+    private List<ClientBatchItemResult> results;
+}
@@ -0,0 +1,25 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensaje de cambio de un cliente publicado en el topic de eventos: lleva el estado completo del
+ * cliente tras el cambio para que los servicios consumidores mantengan su réplica sin consultar
+ * este servicio. La versión crece con cada cambio, así que un consumidor puede descartar duplicados
+ * y mensajes antiguos comparándola con la que ya tiene.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientChangeEvent {
+
+    private String type; // CREATED, UPDATED, DELETED
+    private Long clientId;
+    private Long version;
+    private LocalDateTime occurredAt;
+    private ClientResponse client;
+}
@@ -0,0 +1,19 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientDailyStats {
+
+    private LocalDate date;
+    private long created;
+    // Clientes cuya última modificación (updated_at) fue ese día, no modificaciones del día: un cliente
+    // modificado varias veces cuenta una vez, y solo en el día de su último cambio
+    private long lastUpdated;
+}
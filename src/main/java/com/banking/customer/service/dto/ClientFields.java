@@ -0,0 +1,179 @@
+package com.banking.customer.service.dto;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de {@link ClientResponse} pedidos con ?fields= (sparse fieldsets). Solo esas columnas se leen
+ * de la base de datos y solo esos campos se serializan; id y version se leen siempre porque el cursor
+ * de la página y el ETag dependen de ellos.
+ */
+public final class ClientFields {
+
+    private enum Field {
+        ID("id", "id", ClientResponse::getId, (client, value) -> client.setId((Long) value)),
+        NAME("name", "name", ClientResponse::getName, (client, value) -> client.setName((String) value)),
+        DOCUMENT_ID("documentId", "document_id", ClientResponse::getDocumentId, (client, value) -> client.setDocumentId((String) value)),
+        EMAIL("email", "email", ClientResponse::getEmail, (client, value) -> client.setEmail((String) value)),
+        STATUS("status", "status", ClientResponse::getStatus, (client, value) -> client.setStatus((String) value)),
+        CREATED_AT("createdAt", "created_at", ClientResponse::getCreatedAt, (client, value) -> client.setCreatedAt((LocalDateTime) value)),
+        UPDATED_AT("updatedAt", "updated_at", ClientResponse::getUpdatedAt, (client, value) -> client.setUpdatedAt((LocalDateTime) value)),
+        VERSION("version", "version", ClientResponse::getVersion, (client, value) -> client.setVersion((Long) value));
+
+        private final String name;
+        private final String column;
+        private final Function<ClientResponse, Object> getter;
+        private final BiConsumer<ClientResponse, Object> setter;
+
+        Field(String name, String column, Function<ClientResponse, Object> getter, BiConsumer<ClientResponse, Object> setter) {
+            this.name = name;
+            this.column = column;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    private static final String ALLOWED = Arrays.stream(Field.values()).map(field -> field.name).collect(Collectors.joining(", "));
+
+    private final List<Field> requested;
+    private final List<Field> selected;
+
+    private ClientFields(EnumSet<Field> requested) {
+        this.requested = List.copyOf(requested);
+        EnumSet<Field> selected = EnumSet.copyOf(requested);
+        selected.add(Field.ID);
+        selected.add(Field.VERSION);
+        this.selected = List.copyOf(selected);
+    }
+
+    /**
+     * Interpreta la lista separada por comas de ?fields=; null si no se indica (respuesta completa)
+     */
+    public static ClientFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        EnumSet<Field> requested = EnumSet.noneOf(Field.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                requested.add(Arrays.stream(Field.values())
+                        .filter(field -> field.name.equals(trimmed))
+                        .findFirst()
+                        .orElseThrow(() -> new InvalidClientRequestException(
+                                "Campo desconocido en fields: " + trimmed + " (admitidos: " + ALLOWED + ")")));
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidClientRequestException("El parámetro fields debe incluir al menos un campo");
+        }
+        return new ClientFields(requested);
+    }
+
+    /**
+     * Nombres de los campos pedidos, en el orden de {@link ClientResponse}
+     */
+    public List<String> names() {
+        return requested.stream().map(field -> field.name).toList();
+    }
+
+    /**
+     * Si el campo (nombre de {@link ClientResponse}) está entre los pedidos
+     */
+    public boolean includes(String name) {
+        for (Field field : requested) {
+            if (field.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lista de selección JPQL de las columnas a leer (las pedidas más id y version)
+     */
+    public String select(String alias) {
+        return selected.stream().map(field -> alias + "." + field.name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Lista de selección SQL de las columnas a leer (las pedidas más id y version)
+     */
+    public String columns() {
+        return selected.stream().map(field -> field.column).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Construye la respuesta parcial a partir de una fila con las columnas de {@link #select}/{@link #columns},
+     * dadas por posición
+     */
+    public ClientResponse read(IntFunction<Object> row) {
+        ClientResponse client = new ClientResponse();
+        for (int i = 0; i < selected.size(); i++) {
+            selected.get(i).setter.accept(client, row.apply(i));
+        }
+        return client;
+    }
+
+    /**
+     * Representación de un cliente con solo los campos pedidos
+     */
+    public Projection project(ClientResponse client) {
+        Projection body = new Projection(client, this);
+        for (Field field : requested) {
+            body.put(field.name, field.getter.apply(client));
+        }
+        return body;
+    }
+
+    /**
+     * Representación de una página con solo los campos pedidos de cada cliente
+     */
+    public Projection project(ClientPageResponse page) {
+        List<Map<String, Object>> items = new ArrayList<>(page.getItems().size());
+        for (ClientResponse client : page.getItems()) {
+            items.add(project(client));
+        }
+        Projection body = new Projection(page, this);
+        body.put("items", items);
+        body.put("limit", page.getLimit());
+        body.put("next", page.getNext());
+        return body;
+    }
+
+    /**
+     * Cuerpo recortado de una respuesta: se serializa como un mapa (JSON, CBOR, Smile) y conserva la
+     * respuesta de origen y los campos pedidos para los formatos con esquema (Protobuf)
+     */
+    public static final class Projection extends LinkedHashMap<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object source;
+        private final transient ClientFields fields;
+
+        private Projection(Object source, ClientFields fields) {
+            this.source = source;
+            this.fields = fields;
+        }
+
+        public Object getSource() {
+            return source;
+        }
+
+        public ClientFields getFields() {
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientLookupRequest {
+
+    // Documentos y/o ids a resolver (al menos uno en total)
+    private List<String> documentIds;
+    private List<Long> ids;
+}
@@ -0,0 +1,19 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientLookupResponse {
+
+    private int found;
+    private int missing;
+    // Una entrada por clave pedida, en el orden de la petición; null si no existe
+    private Map<String, ClientResponse> documentIds;
+    private Map<Long, ClientResponse> ids;
+}
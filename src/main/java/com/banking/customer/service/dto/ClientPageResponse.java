@@ -0,0 +1,17 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientPageResponse {
+
+    private List<ClientResponse> items;
+    private int limit;
+    private String next; // cursor opaco de la siguiente página, null si es la última
+}
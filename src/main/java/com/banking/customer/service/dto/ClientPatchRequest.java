@@ -0,0 +1,39 @@
+package com.banking.customer.service.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+/**
+ * Cambios parciales de un cliente (PATCH, JSON Merge Patch): solo se modifican los campos presentes.
+ * Ningún campo del cliente admite borrarse, así que un valor null equivale a no enviarlo.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientPatchRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El nombre no puede estar vacío")
+    @Size(min = 2, max = 100, message = "El nombre debe tener entre 2 y 100 caracteres")
+    private String name;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El documento de identidad no puede estar vacío")
+    @Size(min = 5, max = 20, message = "El documento debe tener entre 5 y 20 caracteres")
+    private String documentId;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "El email no puede estar vacío")
+    @Email(message = "El email debe ser válido")
+    private String email;
+
+    private String status; // ACTIVE, INACTIVE, BLOCKED
+
+    /**
+     * Indica si la petición no incluye ningún campo
+     */
+    public boolean isEmpty() {
+        return name == null && documentId == null && email == null && status == null;
+    }
+}
@@ -19,6 +19,7 @@ public class ClientResponse {
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static ClientResponse fromEntity(Client client) {
         return ClientResponse.builder()
@@ -29,6 +30,7 @@ public class ClientResponse {
                 .status(client.getStatus())
                 .createdAt(client.getCreatedAt())
                 .updatedAt(client.getUpdatedAt())
+                .version(client.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,14 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientSearchHit {
+
+    private double score; // fracción de trigramas de la búsqueda presentes en el nombre (0..1)
+    private ClientResponse client;
+}
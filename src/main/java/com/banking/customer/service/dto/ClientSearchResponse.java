@@ -0,0 +1,17 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientSearchResponse {
+
+    private String query;
+    private int limit;
+    private List<ClientSearchHit> items; // de mayor a menor parecido
+}
@@ -0,0 +1,23 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientStatsResponse {
+
+    private long total;
+    private Map<String, Long> byStatus;
+    private int days;
+    private LocalDate since;
+    private List<ClientDailyStats> daily; // un elemento por día de la ventana, también los días sin actividad
+    private LocalDateTime generatedAt;
+}
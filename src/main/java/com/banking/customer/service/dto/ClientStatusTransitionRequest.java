@@ -0,0 +1,26 @@
+package com.banking.customer.service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientStatusTransitionRequest {
+
+    @NotBlank(message = "El estado destino no puede estar vacío")
+    private String status; // ACTIVE, INACTIVE, BLOCKED
+
+    // Selección por ids...
+    private List<Long> ids;
+
+    // ...o por criterio (al menos uno)
+    private String currentStatus;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
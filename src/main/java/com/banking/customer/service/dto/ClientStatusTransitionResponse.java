@@ -0,0 +1,29 @@
+package com.banking.customer.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientStatusTransitionResponse {
+
+    private String status;
+    private long updated;
+    private List<Chunk> chunks;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Chunk {
+        private int index;
+        private long fromId;
+        private long toId;
+        private int updated;
+    }
+}
@@ -1,12 +1,36 @@
 package com.banking.customer.service.metrics;
 
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientReplicaRepository;
 import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.client.ClientReadRouting;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Contadores de clientes por estado mantenidos en memoria. Los servicios notifican altas y cambios
+ * de estado (al confirmar la transacción) y una tarea programada los reconcilia con un único
+ * GROUP BY status, de modo que los gauges no consultan la base de datos en cada scrape.
+ */
 @ApplicationScoped
 @Slf4j
 public class ClientMetrics {
@@ -14,34 +38,178 @@ public class ClientMetrics {
     @Inject
     ClientRepository clientRepository;
 
+    @Inject
+    ClientReplicaRepository replicaRepository;
+
+    @Inject
+    ClientReadRouting readRouting;
+
     @Inject
     MeterRegistry meterRegistry;
 
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    private final Map<String, AtomicLong> byStatus = new ConcurrentHashMap<>();
+    // Cambios aplicados desde que empezó la reconciliación en curso (null si no hay ninguna); se accede con el monitor
+    private Map<String, Long> duringReconcile;
+    private Counter reconcileDrift;
+
     @jakarta.annotation.PostConstruct
     void registerMetrics() {
         log.info("Registrando métricas personalizadas de clientes");
+        Client.STATUSES.forEach(this::counter);
 
         // Gauge para el total de clientes
-        Gauge.builder("clients.total", clientRepository, ClientRepository::count)
+        Gauge.builder("clients.total", this, ClientMetrics::total)
                 .description("Número total de clientes en el sistema")
                 .tag("service", "customer-service")
                 .register(meterRegistry);
 
         // Gauge para clientes activos
-        Gauge.builder("clients.active", clientRepository, ClientRepository::countActiveClients)
+        Gauge.builder("clients.active", counter("ACTIVE"), AtomicLong::get)
                 .description("Número de clientes activos")
                 .tag("service", "customer-service")
                 .tag("status", "active")
                 .register(meterRegistry);
 
         // Gauge para clientes inactivos
-        Gauge.builder("clients.inactive", clientRepository,
-                repo -> repo.count() - repo.countActiveClients())
+        Gauge.builder("clients.inactive", counter("INACTIVE"), AtomicLong::get)
                 .description("Número de clientes inactivos")
                 .tag("service", "customer-service")
                 .tag("status", "inactive")
                 .register(meterRegistry);
 
+        // Gauge para clientes bloqueados
+        Gauge.builder("clients.blocked", counter("BLOCKED"), AtomicLong::get)
+                .description("Número de clientes bloqueados")
+                .tag("service", "customer-service")
+                .tag("status", "blocked")
+                .register(meterRegistry);
+
+        reconcileDrift = Counter.builder("clients.status.reconcile.drift")
+                .description("Diferencia absoluta corregida por la reconciliación de los contadores por estado")
+                .tag("service", "customer-service")
+                .register(meterRegistry);
+
         log.info("Métricas personalizadas registradas exitosamente");
     }
+
+    void onStart(@Observes StartupEvent event) {
+        reconcile();
+    }
+
+    /**
+     * Registra clientes creados con el estado dado
+     */
+    public void created(String status, long count) {
+        apply(() -> add(status, count));
+    }
+
+    /**
+     * Registra clientes que pasaron de un estado a otro
+     */
+    public void transitioned(String fromStatus, String toStatus, long count) {
+        if (count == 0 || fromStatus == null || fromStatus.equals(toStatus)) {
+            return;
+        }
+        apply(() -> {
+            add(fromStatus, -count);
+            add(toStatus, count);
+        });
+    }
+
+    /**
+     * Valor actual del contador de un estado
+     */
+    public long count(String status) {
+        AtomicLong counter = byStatus.get(status);
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Total de clientes (suma de todos los estados)
+     */
+    public long total() {
+        return byStatus.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * Recalcula los contadores con un único GROUP BY status, en la réplica si no va por detrás del primario
+     * (si no, fijaría valores anteriores a escrituras ya sumadas en memoria). Los cambios confirmados
+     * mientras corre la consulta pueden no estar en su resultado: se anotan aparte y se vuelven a sumar
+     * sobre él, en vez de perderse al fijar los contadores.
+     */
+    @Scheduled(every = "${app.clients.metrics.reconcile-every:5m}", delayed = "${app.clients.metrics.reconcile-every:5m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public void reconcile() {
+        reconcile(() -> readRouting.replicaCaughtUp()
+                ? replicaRepository.countByStatus()
+                : QuarkusTransaction.requiringNew().call(() -> clientRepository.countByStatus()));
+    }
+
+    void reconcile(Supplier<Map<String, Long>> countByStatus) {
+        synchronized (this) {
+            duringReconcile = new HashMap<>();
+        }
+        Map<String, Long> counts;
+        try {
+            counts = countByStatus.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                duringReconcile = null;
+            }
+            throw e;
+        }
+
+        long drift = 0;
+        synchronized (this) {
+            Map<String, Long> changes = duringReconcile;
+            duringReconcile = null;
+            Set<String> statuses = new HashSet<>(byStatus.keySet());
+            statuses.addAll(counts.keySet());
+            statuses.addAll(changes.keySet());
+            for (String status : statuses) {
+                long reconciled = counts.getOrDefault(status, 0L) + changes.getOrDefault(status, 0L);
+                long previous = counter(status).getAndSet(reconciled);
+                drift += Math.abs(previous - reconciled);
+            }
+            log.debug("Contadores por estado reconciliados: {} más {} confirmados durante la consulta (diferencia {})",
+                    counts, changes, drift);
+        }
+        reconcileDrift.increment(drift);
+    }
+
+    /**
+     * Aplica el cambio al confirmar la transacción activa, o de inmediato si no hay ninguna
+     */
+    private void apply(Runnable change) {
+        if (transactionRegistry.getTransactionStatus() != Status.STATUS_ACTIVE) {
+            change.run();
+            return;
+        }
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    change.run();
+                }
+            }
+        });
+    }
+
+    private synchronized void add(String status, long count) {
+        counter(status).addAndGet(count);
+        if (duringReconcile != null) {
+            duringReconcile.merge(status, count, Long::sum);
+        }
+    }
+
+    private AtomicLong counter(String status) {
+        return byStatus.computeIfAbsent(status, key -> new AtomicLong());
+    }
 }
@@ -0,0 +1,73 @@
+package com.banking.customer.service.outbox;
+
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ClientOutboxRepository;
+import com.banking.customer.service.dto.ClientChangeEvent;
+import com.banking.customer.service.dto.ClientResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Escribe los eventos de cambio de clientes en la tabla outbox dentro de la transacción del propio
+ * cambio: si se revierte no queda evento y si se confirma {@link ClientOutboxRelay} lo publicará.
+ * Exige una transacción activa (MANDATORY) para que un evento nunca se confirme por separado.
+ */
+@ApplicationScoped
+public class ClientOutbox {
+
+    @Inject
+    ClientOutboxRepository outboxRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    /**
+     * Registra el cambio de un cliente con su estado tras el cambio
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void record(String type, ClientResponse client) {
+        outboxRepository.insertAll(List.of(event(type, client)));
+    }
+
+    /**
+     * Registra el mismo tipo de cambio para varios clientes, con sentencias INSERT de varias filas
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void recordAll(String type, Collection<ClientResponse> clients) {
+        if (!clients.isEmpty()) {
+            outboxRepository.insertAll(clients.stream().map(client -> event(type, client)).toList());
+        }
+    }
+
+    /**
+     * Fila de outbox con el mensaje JSON ({@link ClientChangeEvent}) del cambio
+     */
+    public ClientOutboxEvent event(String type, ClientResponse client) {
+        ClientChangeEvent message = ClientChangeEvent.builder()
+                .type(type)
+                .clientId(client.getId())
+                .version(client.getVersion())
+                .occurredAt(client.getUpdatedAt() != null ? client.getUpdatedAt() : client.getCreatedAt())
+                .client(client)
+                .build();
+        try {
+            return ClientOutboxEvent.builder()
+                    .clientId(client.getId())
+                    .eventType(type)
+                    .clientVersion(client.getVersion())
+                    .payload(objectMapper.writeValueAsString(message))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.banking.customer.service.outbox;
+
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ClientOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.reactive.messaging.MutinyEmitter;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.reactive.messaging.Channel;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.eclipse.microprofile.reactive.messaging.OnOverflow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publica los eventos de la tabla outbox en el canal client-events (Kafka) por lotes de hasta
+ * app.clients.outbox.batch-size. Cada app.clients.outbox.linger vacía la tabla: lee el lote más
+ * antiguo bloqueándolo, lo envía entero, espera a que el broker confirme todos los mensajes y
+ * solo entonces lo borra en la misma transacción; si un envío falla la transacción se revierte y
+ * el lote se reintenta en la siguiente pasada (entrega al menos una vez). La clave del mensaje es
+ * el id del cliente, así que todos sus eventos van a la misma partición, en el orden del outbox.
+ * <p>
+ * Mientras espera las confirmaciones la pasada ocupa una conexión del pool principal y los bloqueos de
+ * las filas del lote. Los bloqueos solo frenan a otra instancia del relay (las escrituras insertan filas
+ * nuevas) y son los que mantienen el orden por cliente entre instancias. La conexión se resta a las
+ * peticiones, así que app.clients.outbox.send-timeout se limita a la mitad del acquisition-timeout del
+ * pool: un broker lento nunca retiene la conexión más de lo que una petición esperaría por ella.
+ */
+@ApplicationScoped
+@Slf4j
+public class ClientOutboxRelay {
+
+    public static final String CHANNEL = "client-events";
+
+    @Inject
+    ClientOutboxRepository outboxRepository;
+
+    // Como mucho un lote en vuelo: el relay espera las confirmaciones antes de leer el siguiente
+    @Inject
+    @Channel(CHANNEL)
+    @OnOverflow(OnOverflow.Strategy.UNBOUNDED_BUFFER)
+    MutinyEmitter<String> emitter;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "app.clients.outbox.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "app.clients.outbox.send-timeout", defaultValue = "2S")
+    Duration sendTimeout;
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.acquisition-timeout", defaultValue = "5S")
+    Duration acquisitionTimeout;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private Counter publishedCounter;
+    private Counter failedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void init() {
+        Duration configured = sendTimeout;
+        sendTimeout = capSendTimeout(configured, acquisitionTimeout);
+        if (!sendTimeout.equals(configured)) {
+            log.warn("app.clients.outbox.send-timeout ({}) limitado a {}: la mitad del acquisition-timeout del pool",
+                    configured, sendTimeout);
+        }
+        Gauge.builder("clients.outbox.lag.seconds", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Antigüedad del evento pendiente más antiguo en la última pasada del relay")
+                .tag("service", "customer-service")
+                .register(meterRegistry);
+        publishedCounter = Counter.builder("clients.outbox.published.count")
+                .description("Eventos de cambio de clientes publicados y confirmados por el broker")
+                .tag("service", "customer-service")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("clients.outbox.failed.count")
+                .description("Eventos de lotes fallidos que quedan en el outbox para reintentarse")
+                .tag("service", "customer-service")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("clients.outbox.batch")
+                .description("Duración de la publicación de un lote, del envío a la última confirmación")
+                .tag("service", "customer-service")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(every = "${app.clients.outbox.linger:200ms}", delayed = "${app.clients.outbox.linger:200ms}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledDrain() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("No se pudo publicar un lote de eventos de clientes, se reintentará: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publica lotes hasta vaciar el outbox (un lote incompleto indica que no quedan más) y devuelve los
+     * eventos publicados
+     */
+    public int drain() {
+        int total = 0;
+        int published;
+        do {
+            published = QuarkusTransaction.requiringNew().call(this::publishBatch);
+            total += published;
+        } while (published == batchSize);
+        if (total > 0) {
+            log.debug("Publicados {} eventos de clientes", total);
+        }
+        return total;
+    }
+
+    private int publishBatch() {
+        List<ClientOutboxEvent> events = outboxRepository.lockOldest(batchSize);
+        if (events.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, Duration.between(events.get(0).getCreatedAt(), LocalDateTime.now()).toMillis()));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Uni.join().all(events.stream().map(this::send).toList())
+                    .andFailFast()
+                    .await().atMost(sendTimeout);
+        } catch (RuntimeException e) {
+            failedCounter.increment(events.size());
+            throw e;
+        }
+        outboxRepository.deleteByIds(events.stream().map(ClientOutboxEvent::getId).toList());
+        sample.stop(batchTimer);
+        publishedCounter.increment(events.size());
+        return events.size();
+    }
+
+    /**
+     * Tiempo máximo de espera de las confirmaciones de un lote: el configurado, sin pasar de la mitad del
+     * tiempo que una petición espera una conexión del pool
+     */
+    static Duration capSendTimeout(Duration sendTimeout, Duration acquisitionTimeout) {
+        Duration cap = acquisitionTimeout.dividedBy(2);
+        return sendTimeout.compareTo(cap) > 0 ? cap : sendTimeout;
+    }
+
+    private Uni<Void> send(ClientOutboxEvent event) {
+        return emitter.sendMessage(Message.of(event.getPayload())
+                .addMetadata(OutgoingKafkaRecordMetadata.<String>builder()
+                        .withKey(String.valueOf(event.getClientId()))
+                        .withHeaders(List.of(new RecordHeader("event-type", event.getEventType().getBytes(StandardCharsets.UTF_8))))
+                        .build()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.client.ClientBatchService;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientBatchResponse;
+import com.banking.customer.service.dto.ClientRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara el alta individual con el alta por lotes.
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientBatchCreateBenchmark
+ */
+@QuarkusTest
+@Tag("benchmark")
+@Slf4j
+class ClientBatchCreateBenchmark {
+
+    private static final int CLIENTS = 5_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientBatchService clientBatchService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void benchmarkSingleVersusBatchCreate() {
+        long singleStart = System.nanoTime();
+        for (int i = 0; i < CLIENTS; i++) {
+            clientService.create(request("S", i));
+        }
+        double singleSeconds = (System.nanoTime() - singleStart) / 1_000_000_000.0;
+
+        long batchStart = System.nanoTime();
+        int created = 0;
+        for (int offset = 0; offset < CLIENTS; offset += BATCH_SIZE) {
+            int from = offset;
+            List<ClientRequest> batch = IntStream.range(from, from + BATCH_SIZE)
+                    .mapToObj(i -> request("B", i))
+                    .toList();
+            ClientBatchResponse response = clientBatchService.createBatch(batch);
+            created += response.getCreated();
+        }
+        double batchSeconds = (System.nanoTime() - batchStart) / 1_000_000_000.0;
+
+        log.info("Alta individual: {} clientes en {} s ({} clientes/s)",
+                CLIENTS, String.format("%.2f", singleSeconds), Math.round(CLIENTS / singleSeconds));
+        log.info("Alta por lotes de {}: {} clientes en {} s ({} clientes/s)",
+                BATCH_SIZE, created, String.format("%.2f", batchSeconds), Math.round(created / batchSeconds));
+
+        assertEquals(CLIENTS, created);
+        assertEquals(2L * CLIENTS, QuarkusTransaction.requiringNew().call(() -> clientRepository.count()));
+    }
+
+    private ClientRequest request(String prefix, int i) {
+        return ClientRequest.builder()
+                .name("Benchmark Client " + i)
+                .documentId(String.format("%sB%07d", prefix, i))
+                .email(prefix.toLowerCase() + "-bench" + i + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.controller.config.json.ClientJsonModule;
+import com.banking.customer.controller.config.media.ClientMediaTypes;
+import com.banking.customer.controller.config.media.ClientProtobuf;
+import com.banking.customer.controller.config.media.ProtobufMessageBodyWriter;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.protobuf.CodedInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JMH: tamaño y coste de codificar y decodificar ClientResponse y una página de 500 clientes (el límite
+ * máximo) en cada formato negociable: JSON, CBOR, Smile y Protobuf. La codificación usa los mismos
+ * ObjectMapper y MessageBodyWriter que las respuestas; la decodificación es la que haría un consumidor (Jackson por reflexión
+ * o {@link ClientProtobuf}).
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientBinaryFormatsBenchmark
+ */
+@Tag("benchmark")
+@Slf4j
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBinaryFormatsBenchmark {
+
+    private static final int PAGE_SIZE = 500;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"single", "page500"})
+    public String payload;
+
+    private final ProtobufMessageBodyWriter protobuf = new ProtobufMessageBodyWriter();
+    private ObjectMapper mapper;
+    private Object value;
+    private Class<?> type;
+    private byte[] encoded;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = mapper(format);
+        ClientPageResponse page = page();
+        value = payload.equals("single") ? page.getItems().get(0) : page;
+        type = value.getClass();
+        out = new ByteArrayOutputStream(256 * 1024);
+        encode();
+        encoded = out.toByteArray();
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        out.reset();
+        if (mapper == null) {
+            protobuf.writeTo(value, type, type, null, ClientMediaTypes.APPLICATION_PROTOBUF_TYPE, null, out);
+        } else {
+            mapper.writeValue(out, value);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if (mapper == null) {
+            CodedInputStream in = CodedInputStream.newInstance(encoded);
+            return type == ClientResponse.class ? ClientProtobuf.readClient(in) : ClientProtobuf.readPage(in);
+        }
+        return mapper.readValue(encoded, type);
+    }
+
+    @Test
+    void benchmarkFormats() throws Exception {
+        Map<String, Integer> sizes = new TreeMap<>();
+        for (String name : List.of("json", "cbor", "smile", "protobuf")) {
+            for (String kind : List.of("single", "page500")) {
+                ClientBinaryFormatsBenchmark state = new ClientBinaryFormatsBenchmark();
+                state.format = name;
+                state.payload = kind;
+                state.setUp();
+                sizes.put(kind + "/" + name, state.encoded.length);
+                assertEquals(state.value.getClass(), state.decode().getClass());
+            }
+        }
+
+        Map<String, Double> scores = new TreeMap<>();
+        for (RunResult result : new Runner(new OptionsBuilder()
+                .include(ClientBinaryFormatsBenchmark.class.getName() + "\\.")
+                .build()).run()) {
+            String benchmark = result.getParams().getBenchmark();
+            String key = result.getParams().getParam("payload") + "/" + result.getParams().getParam("format")
+                    + " " + benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            scores.put(key, result.getPrimaryResult().getScore());
+        }
+        sizes.forEach((key, bytes) -> log.info("{}: {} bytes, encode {} µs, decode {} µs", key, bytes,
+                String.format("%.3f", scores.get(key + " encode")), String.format("%.3f", scores.get(key + " decode"))));
+
+        assertTrue(sizes.get("page500/protobuf") < sizes.get("page500/json"));
+        assertTrue(sizes.get("page500/cbor") < sizes.get("page500/json"));
+        assertTrue(scores.get("page500/protobuf decode") < scores.get("page500/json decode"));
+    }
+
+    // Como el ObjectMapper de Quarkus (y las copias con otra factoría de los escritores binarios); null para Protobuf
+    private static ObjectMapper mapper(String format) {
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new ClientJsonModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return switch (format) {
+            case "json" -> json;
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> null;
+        };
+    }
+
+    private static ClientPageResponse page() {
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 30, 15, 123_456_000);
+        List<ClientResponse> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(ClientResponse.builder()
+                    .id(1_000_000L + i)
+                    .name("Benchmark Client " + i)
+                    .documentId(String.format("BIN%08d", i))
+                    .email("binary.client" + i + "@example.com")
+                    .status(i % 10 == 0 ? "BLOCKED" : "ACTIVE")
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now)
+                    .version((long) i % 7)
+                    .build());
+        }
+        return ClientPageResponse.builder().items(items).limit(PAGE_SIZE).next("MTAwMDQ5OQ").build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rendimiento y corrección de ClientService.create bajo contención.
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientCreateConcurrencyBenchmark
+ */
+@QuarkusTest
+@Tag("benchmark")
+@Slf4j
+class ClientCreateConcurrencyBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 250;
+    private static final int DISTINCT_DOCUMENTS = 100;
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void benchmarkCreate_UniqueDocuments() throws Exception {
+        Result result = run((thread, i) -> "U" + thread + "-" + i);
+
+        log.info("create() sin contención: {} ok, {} conflictos, {} ops/s",
+                result.created, result.conflicts, result.throughput());
+        assertEquals(THREADS * REQUESTS_PER_THREAD, result.created);
+        assertEquals(0, result.conflicts);
+    }
+
+    @Test
+    void benchmarkCreate_ContendedDocuments() throws Exception {
+        // Todos los hilos compiten por el mismo conjunto reducido de documentos
+        Result result = run((thread, i) -> "C" + (i % DISTINCT_DOCUMENTS));
+
+        long rows = QuarkusTransaction.requiringNew().call(() -> clientRepository.count());
+        log.info("create() con contención: {} ok, {} conflictos (409), {} errores, {} ops/s",
+                result.created, result.conflicts, result.errors, result.throughput());
+        assertEquals(DISTINCT_DOCUMENTS, result.created);
+        assertEquals(THREADS * REQUESTS_PER_THREAD - DISTINCT_DOCUMENTS, result.conflicts);
+        assertEquals(0, result.errors);
+        assertEquals(DISTINCT_DOCUMENTS, rows);
+    }
+
+    private Result run(DocumentIdFactory documentIds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Result result = new Result();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    String documentId = documentIds.create(thread, i);
+                    try {
+                        clientService.create(ClientRequest.builder()
+                                .name("Bench Client")
+                                .documentId("BENCH" + documentId)
+                                .email("bench-" + thread + "-" + i + "@example.com")
+                                .build());
+                        result.createdCounter.incrementAndGet();
+                    } catch (ClientAlreadyExistsException e) {
+                        result.conflictCounter.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        result.errorCounter.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        result.elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        result.created = result.createdCounter.get();
+        result.conflicts = result.conflictCounter.get();
+        result.errors = result.errorCounter.get();
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface DocumentIdFactory {
+        String create(int thread, int iteration);
+    }
+
+    private static final class Result {
+        private final AtomicInteger createdCounter = new AtomicInteger();
+        private final AtomicInteger conflictCounter = new AtomicInteger();
+        private final AtomicInteger errorCounter = new AtomicInteger();
+        private int created;
+        private int conflicts;
+        private int errors;
+        private long elapsedNanos;
+
+        private long throughput() {
+            return Math.round((created + conflicts + errors) / (elapsedNanos / 1_000_000_000.0));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara la comprobación de email sin distinguir mayúsculas por la columna normalizada
+ * (índice único uk_client_email) con la alternativa lower(email) = ?, que no puede usar ningún índice.
+ * Muestra además el plan de ambas consultas. Se ejecuta sobre H2; en PostgreSQL la consulta
+ * count(*) por email_normalized solo lee el índice (Index Only Scan).
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientEmailLookupBenchmark
+ */
+@QuarkusTest
+@Tag("benchmark")
+@Slf4j
+class ClientEmailLookupBenchmark {
+
+    private static final int CLIENTS = 200_000;
+    private static final int INDEX_LOOKUPS = 20_000;
+    private static final int SCAN_LOOKUPS = 50;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            clientRepository.getEntityManager()
+                    .createNativeQuery("insert into client (id, name, document_id, email, email_normalized, status, created_at) "
+                            + "select nextval('client_id_seq'), 'Email Client ' || x, 'MAIL' || x, "
+                            + "'Client.' || x || '@Example.com', 'client.' || x || '@example.com', 'ACTIVE', current_timestamp "
+                            + "from system_range(1, " + CLIENTS + ")")
+                    .executeUpdate();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void benchmarkNormalizedColumnVersusLowerScan() {
+        String indexPlan = plan("select count(*) from client where email_normalized = 'client.1@example.com'");
+        String scanPlan = plan("select count(*) from client where lower(email) = 'client.1@example.com'");
+        log.info("Plan por columna normalizada: {}", indexPlan);
+        log.info("Plan por lower(email): {}", scanPlan);
+
+        double indexMicros = microsPerLookup(INDEX_LOOKUPS, i -> QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.existsByEmail(email(i))));
+        double scanMicros = microsPerLookup(SCAN_LOOKUPS, i -> QuarkusTransaction.requiringNew().call(() ->
+                ((Number) clientRepository.getEntityManager()
+                        .createNativeQuery("select count(*) from client where lower(email) = ?1")
+                        .setParameter(1, Client.normalizeEmail(email(i)))
+                        .getSingleResult()).longValue() > 0));
+
+        log.info("existsByEmail sobre {} clientes: índice {} µs/consulta, lower(email) {} µs/consulta",
+                CLIENTS, String.format("%.1f", indexMicros), String.format("%.1f", scanMicros));
+
+        assertTrue(indexPlan.toUpperCase().contains(Client.EMAIL_CONSTRAINT.toUpperCase()), indexPlan);
+        assertTrue(scanPlan.contains("tableScan"), scanPlan);
+        assertTrue(indexMicros < scanMicros);
+    }
+
+    private double microsPerLookup(int lookups, IntPredicate lookup) {
+        for (int i = 0; i < Math.min(lookups, 1_000); i++) {
+            assertTrue(lookup.test(i));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            assertTrue(lookup.test(i));
+        }
+        return (System.nanoTime() - start) / 1_000.0 / lookups;
+    }
+
+    private String plan(String sql) {
+        return QuarkusTransaction.requiringNew().call(() -> String.valueOf(clientRepository.getEntityManager()
+                .createNativeQuery("explain " + sql)
+                .getSingleResult()).replaceAll("\\s+", " "));
+    }
+
+    // Mayúsculas y espacios distintos de los guardados: la comparación debe normalizar
+    private static String email(int i) {
+        return " CLIENT." + (i % CLIENTS + 1) + "@EXAMPLE.com";
+    }
+}
@@ -0,0 +1,182 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.proto.v1.ClientLookupGrpc;
+import com.banking.customer.proto.v1.GetByDocumentIdRequest;
+import com.banking.customer.proto.v1.LookupRequest;
+import com.banking.customer.proto.v1.LookupResult;
+import com.banking.customer.proto.v1.MutinyClientLookupGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.smallrye.mutiny.Multi;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara la latencia de las consultas internas por REST (JSON sobre HTTP/1.1) y por la interfaz gRPC
+ * (HTTP/2 en el mismo puerto): búsquedas sueltas secuenciales (p50/p99) y la resolución de
+ * {@link #CLIENTS} documentos, con un GET por documento, con POST /api/v1/clients/lookup y con un
+ * stream BatchLookup. Ambos caminos usan ClientService y su cache, así que se mide el transporte.
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientGrpcLatencyBenchmark
+ */
+@QuarkusTest
+@Tag("benchmark")
+@Slf4j
+class ClientGrpcLatencyBenchmark {
+
+    private static final int CLIENTS = 1_000;
+    private static final int WARMUP = 2_000;
+    private static final int LOOKUPS = 10_000;
+    private static final int BULK_ROUNDS = 20;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @TestHTTPResource("/")
+    URI root;
+
+    private HttpClient http;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            for (int i = 0; i < CLIENTS; i++) {
+                clientRepository.persist(Client.builder()
+                        .name("Grpc Client " + i)
+                        .documentId(documentId(i))
+                        .email("grpc" + i + "@example.com")
+                        .status("ACTIVE")
+                        .build());
+            }
+        });
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        channel = ManagedChannelBuilder.forAddress(root.getHost(), root.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+    }
+
+    @Test
+    @TestSecurity(user = "benchmark", roles = {"USER"})
+    void benchmarkSingleLookups() {
+        ClientLookupGrpc.ClientLookupBlockingStub grpc = ClientLookupGrpc.newBlockingStub(channel);
+
+        long[] rest = latencies(i -> assertEquals(200, get("api/v1/clients/document/" + documentId(i)).statusCode()));
+        long[] unary = latencies(i -> assertEquals(documentId(i), grpc.getByDocumentId(
+                GetByDocumentIdRequest.newBuilder().setDocumentId(documentId(i)).build()).getDocumentId()));
+
+        log.info("Búsqueda por documento, {} llamadas secuenciales: REST GET p50 {} µs, p99 {} µs; gRPC GetByDocumentId p50 {} µs, p99 {} µs",
+                LOOKUPS, micros(rest, 0.50), micros(rest, 0.99), micros(unary, 0.50), micros(unary, 0.99));
+    }
+
+    @Test
+    @TestSecurity(user = "benchmark", roles = {"USER"})
+    void benchmarkBulkLookups() {
+        MutinyClientLookupGrpc.MutinyClientLookupStub grpc = MutinyClientLookupGrpc.newMutinyStub(channel);
+        String body = IntStream.range(0, CLIENTS)
+                .mapToObj(i -> "\"" + documentId(i) + "\"")
+                .collect(Collectors.joining(",", "{\"documentIds\":[", "]}"));
+
+        long[] loop = rounds(() -> {
+            for (int i = 0; i < CLIENTS; i++) {
+                assertEquals(200, get("api/v1/clients/document/" + documentId(i)).statusCode());
+            }
+        });
+        long[] lookup = rounds(() -> assertEquals(200, send(HttpRequest.newBuilder(root.resolve("api/v1/clients/lookup"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build()).statusCode()));
+        long[] stream = rounds(() -> {
+            List<LookupResult> results = grpc.batchLookup(Multi.createFrom().range(0, CLIENTS)
+                            .map(i -> LookupRequest.newBuilder().setDocumentId(documentId(i)).build()))
+                    .collect().asList()
+                    .await().atMost(TIMEOUT);
+            assertEquals(CLIENTS, results.size());
+            assertTrue(results.stream().allMatch(LookupResult::hasClient));
+        });
+
+        log.info("Resolución de {} documentos (mediana de {} rondas): un GET por documento {} ms, POST /lookup {} ms, gRPC BatchLookup {} ms",
+                CLIENTS, BULK_ROUNDS, millis(loop), millis(lookup), millis(stream));
+    }
+
+    private long[] latencies(IntConsumer call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(i % CLIENTS);
+        }
+        long[] latencies = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            call.accept(i % CLIENTS);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private long[] rounds(Runnable round) {
+        for (int i = 0; i < 3; i++) {
+            round.run();
+        }
+        long[] durations = new long[BULK_ROUNDS];
+        for (int i = 0; i < BULK_ROUNDS; i++) {
+            long start = System.nanoTime();
+            round.run();
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations;
+    }
+
+    private HttpResponse<Void> get(String path) {
+        return send(HttpRequest.newBuilder(root.resolve(path)).header("Accept", "application/json").GET().build());
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String documentId(int i) {
+        return String.format("GRPC%06d", i);
+    }
+
+    private static String micros(long[] sorted, double percentile) {
+        return String.format("%.0f", sorted[(int) (sorted.length * percentile)] / 1_000.0);
+    }
+
+    private static String millis(long[] sorted) {
+        return String.format("%.1f", sorted[sorted.length / 2] / 1_000_000.0);
+    }
+}
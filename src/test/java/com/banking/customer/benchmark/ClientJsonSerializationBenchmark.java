@@ -0,0 +1,157 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.controller.config.json.ClientJsonModule;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JMH: serialización de ClientResponse (un objeto), de una página de 10.000 clientes y de ErrorResponse
+ * con el serializador por reflexión de Jackson frente a {@link ClientJsonModule}. Se escribe en un
+ * ByteArrayOutputStream reutilizado, como el flujo de salida de la respuesta; el perfilador GC da los
+ * bytes asignados por operación (gc.alloc.rate.norm).
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientJsonSerializationBenchmark
+ */
+@Tag("benchmark")
+@Slf4j
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientJsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private ObjectWriter reflective;
+    private ObjectWriter tuned;
+    private ClientResponse client;
+    private ClientPageResponse page;
+    private ErrorResponse error;
+    private ByteArrayOutputStream out;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        reflective = mapper.writer();
+        tuned = mapper.copy().registerModule(new ClientJsonModule()).writer();
+
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 30, 15, 123_456_000);
+        List<ClientResponse> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(ClientResponse.builder()
+                    .id((long) i + 1)
+                    .name("Benchmark Client " + i)
+                    .documentId(String.format("JSON%06d", i))
+                    .email("json" + i + "@example.com")
+                    .status(i % 10 == 0 ? "BLOCKED" : "ACTIVE")
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(i % 2 == 0 ? now : null)
+                    .version((long) i % 7)
+                    .build());
+        }
+        client = items.get(1);
+        page = ClientPageResponse.builder().items(items).limit(PAGE_SIZE).next("MTAwMDA").build();
+        error = ErrorResponse.of(404, "Not Found", "Cliente no encontrado con documento: JSON000001",
+                "/api/v1/clients/document/JSON000001");
+        out = new ByteArrayOutputStream(4 * 1024 * 1024);
+    }
+
+    @Benchmark
+    public int singleReflective() throws IOException {
+        return write(reflective, client);
+    }
+
+    @Benchmark
+    public int singleTuned() throws IOException {
+        return write(tuned, client);
+    }
+
+    @Benchmark
+    public int page10kReflective() throws IOException {
+        return write(reflective, page);
+    }
+
+    @Benchmark
+    public int page10kTuned() throws IOException {
+        return write(tuned, page);
+    }
+
+    @Benchmark
+    public int errorReflective() throws IOException {
+        return write(reflective, error);
+    }
+
+    @Benchmark
+    public int errorTuned() throws IOException {
+        return write(tuned, error);
+    }
+
+    private int write(ObjectWriter writer, Object value) throws IOException {
+        out.reset();
+        writer.writeValue(out, value);
+        return out.size();
+    }
+
+    @Test
+    void benchmarkReflectiveVersusTunedSerializers() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(ClientJsonSerializationBenchmark.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        Map<String, double[]> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            String name = result.getParams().getBenchmark();
+            name = name.substring(name.lastIndexOf('.') + 1);
+            double micros = result.getPrimaryResult().getScore();
+            double bytes = result.getSecondaryResults().get("gc.alloc.rate.norm").getScore();
+            scores.put(name, new double[]{micros, bytes});
+            log.info("{}: {} µs/op, {} B/op", name, String.format("%.3f", micros), String.format("%.0f", bytes));
+        }
+
+        assertTrue(scores.get("singleTuned")[0] < scores.get("singleReflective")[0]);
+        assertTrue(scores.get("page10kTuned")[0] < scores.get("page10kReflective")[0]);
+        assertTrue(scores.get("page10kTuned")[1] < scores.get("page10kReflective")[1]);
+    }
+}
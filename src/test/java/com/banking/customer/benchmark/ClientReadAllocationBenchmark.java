@@ -0,0 +1,92 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara los bytes asignados por petición de lectura entre cargar entidades gestionadas
+ * y copiarlas a {@link ClientResponse} (antes) y proyectar directamente a DTO (después).
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=ClientReadAllocationBenchmark
+ */
+@QuarkusTest
+@Tag("benchmark")
+@Slf4j
+class ClientReadAllocationBenchmark {
+
+    private static final int CLIENTS = 2_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            for (int i = 0; i < CLIENTS; i++) {
+                clientRepository.persist(Client.builder()
+                        .name("Benchmark Client " + i)
+                        .documentId(String.format("READ%06d", i))
+                        .email("read" + i + "@example.com")
+                        .status("ACTIVE")
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    void benchmarkEntityVersusProjectionReads() {
+        long entityLookup = bytesPerRequest(i -> QuarkusTransaction.requiringNew().call(() ->
+                ClientResponse.fromEntity(clientRepository.findByDocumentId(documentId(i)).orElseThrow())));
+        long projectionLookup = bytesPerRequest(i -> QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.findResponseByDocumentId(documentId(i)).orElseThrow()));
+
+        long entityPage = bytesPerRequest(i -> QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.find("id > ?1", Sort.by("id"), 0L).range(0, PAGE_SIZE).list().stream()
+                        .map(ClientResponse::fromEntity)
+                        .toList()));
+        long projectionPage = bytesPerRequest(i -> QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.findPage(0L, null, PAGE_SIZE)));
+
+        log.info("GET por documento: entidad {} B/petición, proyección {} B/petición", entityLookup, projectionLookup);
+        log.info("GET página de {}: entidad {} B/petición, proyección {} B/petición", PAGE_SIZE, entityPage, projectionPage);
+
+        List<ClientResponse> page = QuarkusTransaction.requiringNew().call(() -> clientRepository.findPage(0L, null, PAGE_SIZE));
+        assertEquals(PAGE_SIZE + 1, page.size());
+        assertTrue(projectionPage < entityPage);
+    }
+
+    private long bytesPerRequest(IntConsumer request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.accept(i);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.accept(i);
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    private String documentId(int i) {
+        return String.format("READ%06d", i % CLIENTS);
+    }
+}
@@ -0,0 +1,161 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.TokenRequest;
+import com.banking.customer.service.dto.TokenResponse;
+import com.banking.customer.service.keycloak.KeycloakService;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Prueba de carga de los endpoints bloqueantes con 1000 peticiones concurrentes.
+ * Las subclases fijan el modelo de hilos (worker o virtual) mediante un perfil de test.
+ * Keycloak se simula con una espera de {@link #KEYCLOAK_LATENCY_MS} ms, como la llamada HTTP síncrona real.
+ */
+@Slf4j
+abstract class ThreadModelLoadBenchmark {
+
+    private static final int CONCURRENCY = 1_000;
+    private static final int REQUESTS = 10_000;
+    private static final int CLIENTS = 1_000;
+    private static final long KEYCLOAK_LATENCY_MS = 50;
+
+    @InjectMock
+    KeycloakService keycloakService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @TestHTTPResource("/")
+    URI root;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            for (int i = 0; i < CLIENTS; i++) {
+                clientRepository.persist(Client.builder()
+                        .name("Load Client " + i)
+                        .documentId(String.format("LOAD%06d", i))
+                        .email("load" + i + "@example.com")
+                        .status("ACTIVE")
+                        .build());
+            }
+        });
+        when(keycloakService.getToken(any(TokenRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(KEYCLOAK_LATENCY_MS);
+            TokenResponse token = new TokenResponse();
+            token.setAccessToken("token");
+            token.setTokenType("Bearer");
+            return token;
+        });
+    }
+
+    /**
+     * Nombre del modelo de hilos para el informe
+     */
+    abstract String threadModel();
+
+    @Test
+    @TestSecurity(user = "loadUser", roles = {"USER"})
+    void benchmarkClientLookups() throws Exception {
+        Result result = run(i -> HttpRequest.newBuilder(root.resolve(
+                        "api/v1/clients/document/" + String.format("LOAD%06d", i % CLIENTS)))
+                .GET()
+                .build());
+        report("GET /api/v1/clients/document/{id}", result);
+    }
+
+    @Test
+    void benchmarkTokenRequests() throws Exception {
+        Result result = run(i -> HttpRequest.newBuilder(root.resolve("api/v1/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"user" + i + "\",\"password\":\"secret\",\"grantType\":\"password\"}"))
+                .build());
+        report("POST /api/v1/auth/token", result);
+    }
+
+    private Result run(IntFunction<HttpRequest> requests) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(64);
+        HttpClient http = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        try (RecordingStream pinning = new RecordingStream()) {
+            AtomicLong pinnedEvents = new AtomicLong();
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            pinning.startAsync();
+
+            long[] latencies = new long[REQUESTS];
+            AtomicLong failures = new AtomicLong();
+            Semaphore inFlight = new Semaphore(CONCURRENCY);
+            List<CompletableFuture<?>> futures = new ArrayList<>(REQUESTS);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                futures.add(http.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, error) -> {
+                            latencies[index] = System.nanoTime() - sent;
+                            if (error != null || response.statusCode() >= 300) {
+                                failures.incrementAndGet();
+                            }
+                            inFlight.release();
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((ignored, error) -> null).join();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            Arrays.sort(latencies);
+            return new Result(REQUESTS / seconds,
+                    latencies[(int) (REQUESTS * 0.50)] / 1_000_000.0,
+                    latencies[(int) (REQUESTS * 0.99)] / 1_000_000.0,
+                    failures.get(),
+                    pinnedEvents.get());
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private void report(String endpoint, Result result) {
+        log.info("{} [{}] {} peticiones, concurrencia {}: {} req/s, p50 {} ms, p99 {} ms, errores {}, eventos de pinning {}",
+                endpoint, threadModel(), REQUESTS, CONCURRENCY, Math.round(result.throughput()),
+                String.format("%.1f", result.p50Millis()), String.format("%.1f", result.p99Millis()),
+                result.failures(), result.pinnedEvents());
+        assertEquals(0, result.failures());
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, long failures, long pinnedEvents) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.banking.customer.benchmark;
+
+import com.banking.customer.service.client.TrigramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latencia de la búsqueda por nombre sobre el índice de trigramas con un millón de nombres
+ * sintéticos (nombres y apellidos hispanos frecuentes, con y sin tilde). Los ids empiezan por encima
+ * de 2^31, como en una tabla client con ids bigint grandes.
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=TrigramIndexBenchmark
+ */
+@Tag("benchmark")
+@Slf4j
+class TrigramIndexBenchmark {
+
+    private static final int CLIENTS = 1_000_000;
+    private static final long FIRST_ID = 1L << 32;
+    private static final int WARMUP = 2_000;
+    private static final int QUERIES = 5_000;
+
+    private static final String[] FIRST_NAMES = {"María", "José", "Juan", "Ana", "Luis", "Carmen", "Jorge", "Lucía",
+            "Pedro", "Sofía", "Miguel", "Valentina", "Andrés", "Camila", "Diego", "Isabel", "Javier", "Paula",
+            "Fernando", "Elena", "Ricardo", "Gabriela", "Manuel", "Daniela", "Raúl", "Adriana", "Sergio", "Natalia"};
+    private static final String[] LAST_NAMES = {"García", "Rodríguez", "González", "Fernández", "López", "Martínez",
+            "Sánchez", "Pérez", "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz",
+            "Álvarez", "Romero", "Alonso", "Gutiérrez", "Navarro", "Torres", "Domínguez", "Vázquez", "Ramos",
+            "Gil", "Ramírez", "Serrano", "Blanco", "Molina", "Morales", "Suárez", "Ortega", "Delgado", "Castro",
+            "Ortiz", "Rubio", "Marín", "Sanz", "Núñez", "Iglesias", "Medina", "Garrido", "Cortés", "Castillo"};
+    private static final String[] QUERIES_TEXT = {"maria garcia", "jose perez", "lucia fernandes", "gonzales",
+            "andres muñoz", "valentina rodrigues", "castillo", "ricardo nuñez ortiz", "gabriela dominguez", "sanz"};
+
+    @Test
+    void benchmarkSearchLatency() {
+        Random random = new Random(42);
+        TrigramIndex index = new TrigramIndex();
+        long loadStart = System.nanoTime();
+        for (long id = FIRST_ID; id < FIRST_ID + CLIENTS; id++) {
+            index.add(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        }
+        log.info("Índice cargado con {} nombres en {} ms ({} trigramas)", CLIENTS,
+                (System.nanoTime() - loadStart) / 1_000_000, index.trigramCount());
+
+        for (int i = 0; i < WARMUP; i++) {
+            index.search(QUERIES_TEXT[i % QUERIES_TEXT.length], 0.5, 20);
+        }
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            long start = System.nanoTime();
+            assertFalse(index.search(QUERIES_TEXT[i % QUERIES_TEXT.length], 0.5, 20).isEmpty());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        for (String query : QUERIES_TEXT) {
+            long start = System.nanoTime();
+            index.search(query, 0.5, 20);
+            log.info("'{}': {} ms", query, String.format("%.2f", (System.nanoTime() - start) / 1_000_000.0));
+        }
+        log.info("Búsqueda sobre {} nombres: p50 {} ms, p99 {} ms", CLIENTS,
+                String.format("%.2f", latencies[QUERIES / 2] / 1_000_000.0),
+                String.format("%.2f", latencies[(int) (QUERIES * 0.99)] / 1_000_000.0));
+    }
+}
@@ -0,0 +1,33 @@
+package com.banking.customer.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.Map;
+
+/**
+ * Carga sobre hilos virtuales (quarkus.virtual-threads.enabled=true); requiere Java 21+.
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=VirtualThreadsLoadBenchmark
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsLoadBenchmark.Profile.class)
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsLoadBenchmark extends ThreadModelLoadBenchmark {
+
+    @Override
+    String threadModel() {
+        return "virtual";
+    }
+
+    public static class Profile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.virtual-threads.enabled", "true");
+        }
+    }
+}
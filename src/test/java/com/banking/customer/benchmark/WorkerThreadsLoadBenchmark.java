@@ -0,0 +1,30 @@
+package com.banking.customer.benchmark;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import org.junit.jupiter.api.Tag;
+
+import java.util.Map;
+
+/**
+ * Carga sobre el pool de hilos worker (quarkus.virtual-threads.enabled=false).
+ * Ejecutar con: ./mvnw test -Pbenchmark -Dtest=WorkerThreadsLoadBenchmark
+ */
+@QuarkusTest
+@TestProfile(WorkerThreadsLoadBenchmark.Profile.class)
+@Tag("benchmark")
+class WorkerThreadsLoadBenchmark extends ThreadModelLoadBenchmark {
+
+    @Override
+    String threadModel() {
+        return "worker";
+    }
+
+    public static class Profile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.virtual-threads.enabled", "false");
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.service.client.ClientBatchService;
+import com.banking.customer.service.client.ClientStatusService;
+import com.banking.customer.service.dto.ClientBatchItemResult;
+import com.banking.customer.service.dto.ClientBatchRequest;
+import com.banking.customer.service.dto.ClientBatchResponse;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientStatusTransitionRequest;
+import com.banking.customer.service.dto.ClientStatusTransitionResponse;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@QuarkusTest
+class ClientBulkControllerTest {
+
+    @InjectMock
+    ClientBatchService clientBatchService;
+
+    @InjectMock
+    ClientStatusService clientStatusService;
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testCreateBatch_WithAdminRole_ReturnsResultPerItem() {
+        ClientBatchRequest request = ClientBatchRequest.builder()
+            .clients(List.of(
+                ClientRequest.builder().name("Batch One").documentId("BATCH001").email("one@example.com").build(),
+                ClientRequest.builder().name("Batch Two").documentId("BATCH001").email("two@example.com").build()))
+            .build();
+
+        ClientBatchResponse response = ClientBatchResponse.builder()
+            .received(2)
+            .created(1)
+            .rejected(1)
+            .results(List.of(
+                ClientBatchItemResult.builder().index(0).status(ClientBatchItemResult.CREATED)
+                    .client(createClientResponse(1L, "Batch One", "BATCH001", "one@example.com", "ACTIVE")).build(),
+                ClientBatchItemResult.builder().index(1).status(ClientBatchItemResult.DUPLICATE)
+                    .errors(List.of("Documento repetido en el lote: BATCH001")).build()))
+            .build();
+
+        when(clientBatchService.createBatch(anyList())).thenReturn(response);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(request)
+            .when()
+            .post("/api/v1/clients/batch")
+            .then()
+            .statusCode(200)
+            .body("created", is(1))
+            .body("rejected", is(1))
+            .body("results[0].status", equalTo("CREATED"))
+            .body("results[1].status", equalTo("DUPLICATE"));
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testCreateBatch_WithoutClients_Returns400() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"clients\": []}")
+            .when()
+            .post("/api/v1/clients/batch")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testCreateBatch_WithUserRole_Returns403() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"clients\": []}")
+            .when()
+            .post("/api/v1/clients/batch")
+            .then()
+            .statusCode(403);
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testTransitionStatus_WithAdminRole_ReturnsChunkCounts() {
+        ClientStatusTransitionResponse response = ClientStatusTransitionResponse.builder()
+            .status("BLOCKED")
+            .updated(3)
+            .chunks(List.of(ClientStatusTransitionResponse.Chunk.builder()
+                .index(0).fromId(1L).toId(3L).updated(3).build()))
+            .build();
+
+        when(clientStatusService.transition(any(ClientStatusTransitionRequest.class))).thenReturn(response);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"status\": \"BLOCKED\", \"ids\": [1, 2, 3]}")
+            .when()
+            .post("/api/v1/clients/status")
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("BLOCKED"))
+            .body("updated", is(3))
+            .body("chunks[0].updated", is(3));
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testTransitionStatus_WithoutStatus_Returns400() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [1, 2, 3]}")
+            .when()
+            .post("/api/v1/clients/status")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testTransitionStatus_WithUserRole_Returns403() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"status\": \"BLOCKED\", \"ids\": [1]}")
+            .when()
+            .post("/api/v1/clients/status")
+            .then()
+            .statusCode(403);
+    }
+
+    private ClientResponse createClientResponse(Long id, String name, String documentId, String email, String status) {
+        return ClientResponse.builder()
+            .id(id)
+            .name(name)
+            .documentId(documentId)
+            .email(email)
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,237 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.media.ClientMediaTypes;
+import com.banking.customer.controller.config.media.ClientProtobuf;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.protobuf.CodedInputStream;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Negociación de formato (Accept) de los endpoints de clientes: JSON por defecto, CBOR, Smile y Protobuf
+ */
+@QuarkusTest
+class ClientControllerContentNegotiationTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 5, 9, 7, 3, 123_000_000);
+
+    private final ObjectMapper cbor = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+    private final ObjectMapper smile = SmileMapper.builder().addModule(new JavaTimeModule()).build();
+
+    @InjectMock
+    ClientService clientService;
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetByDocument_WithoutAccept_ReturnsJson() {
+        when(clientService.getClientByDocumentId("DOC7", null)).thenReturn(client());
+
+        given()
+            .when()
+            .get("/api/v1/clients/document/DOC7")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .header("ETag", equalTo("\"7-3\""))
+            .header("Vary", containsStringIgnoringCase("accept"))
+            .body("name", equalTo("María García"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetByDocument_WithCbor_ReturnsCborWithItsOwnETag() throws Exception {
+        when(clientService.getClientByDocumentId("DOC7", null)).thenReturn(client());
+
+        Response response = given()
+            .accept(ClientMediaTypes.APPLICATION_CBOR)
+            .when()
+            .get("/api/v1/clients/document/DOC7");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(ClientMediaTypes.APPLICATION_CBOR, response.contentType());
+        assertEquals("\"7-3+cbor\"", response.header("ETag"));
+        ClientResponse decoded = cbor.readValue(response.asByteArray(), ClientResponse.class);
+        assertEquals("María García", decoded.getName());
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+        assertEquals(3L, decoded.getVersion());
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetByDocument_WithSmile_ReturnsSmile() throws Exception {
+        when(clientService.getClientByDocumentId("DOC7", null)).thenReturn(client());
+
+        Response response = given()
+            .accept(ClientMediaTypes.APPLICATION_SMILE)
+            .when()
+            .get("/api/v1/clients/document/DOC7");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(ClientMediaTypes.APPLICATION_SMILE, response.contentType());
+        assertEquals("\"7-3+smile\"", response.header("ETag"));
+        assertEquals("DOC7", smile.readValue(response.asByteArray(), ClientResponse.class).getDocumentId());
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetByDocument_WithProtobuf_ReturnsClientMessage() throws Exception {
+        when(clientService.getClientByDocumentId("DOC7", null)).thenReturn(client());
+
+        Response response = given()
+            .accept(ClientMediaTypes.APPLICATION_PROTOBUF)
+            .when()
+            .get("/api/v1/clients/document/DOC7");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(ClientMediaTypes.APPLICATION_PROTOBUF, response.contentType());
+        assertEquals("\"7-3+protobuf\"", response.header("ETag"));
+        ClientResponse decoded = ClientProtobuf.readClient(CodedInputStream.newInstance(response.asByteArray()));
+        assertEquals(7L, decoded.getId());
+        assertEquals("maria@example.com", decoded.getEmail());
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetByDocument_IfNoneMatchOnlyMatchesTheSameRepresentation() {
+        when(clientService.getClientByDocumentId("DOC7", null)).thenReturn(client());
+
+        given()
+            .accept(ClientMediaTypes.APPLICATION_CBOR)
+            .header("If-None-Match", "\"7-3+cbor\"")
+            .when()
+            .get("/api/v1/clients/document/DOC7")
+            .then()
+            .statusCode(304);
+
+        given()
+            .accept(ClientMediaTypes.APPLICATION_CBOR)
+            .header("If-None-Match", "\"7-3\"")
+            .when()
+            .get("/api/v1/clients/document/DOC7")
+            .then()
+            .statusCode(200);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAll_WithProtobufAndFields_WritesOnlyRequestedFields() throws Exception {
+        when(clientService.getAll(isNull(), isNull(), isNull(), any(), isNull())).thenReturn(ClientPageResponse.builder()
+                .items(List.of(client()))
+                .limit(50)
+                .next("Nw")
+                .build());
+
+        Response response = given()
+            .accept(ClientMediaTypes.APPLICATION_PROTOBUF)
+            .queryParam("fields", "status")
+            .when()
+            .get("/api/v1/clients");
+
+        assertEquals(200, response.statusCode());
+        ClientPageResponse page = ClientProtobuf.readPage(CodedInputStream.newInstance(response.asByteArray()));
+        assertEquals("ACTIVE", page.getItems().get(0).getStatus());
+        assertNull(page.getItems().get(0).getName());
+        assertNull(page.getItems().get(0).getId());
+        assertEquals("Nw", page.getNext());
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testNotFound_WithProtobuf_ReturnsErrorMessage() throws Exception {
+        when(clientService.getClientByDocumentId("MISSING", null))
+            .thenThrow(new ClientNotFoundException("Cliente no encontrado con documento: MISSING"));
+
+        Response response = given()
+            .accept(ClientMediaTypes.APPLICATION_PROTOBUF)
+            .when()
+            .get("/api/v1/clients/document/MISSING");
+
+        assertEquals(404, response.statusCode());
+        ErrorResponse error = ClientProtobuf.readError(CodedInputStream.newInstance(response.asByteArray()));
+        assertEquals(404, error.getStatus());
+        assertEquals("Cliente no encontrado con documento: MISSING", error.getMessage());
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testCreate_WithCborAccept_KeepsJsonRequestAndAnswersInCbor() throws Exception {
+        when(clientService.create(any(ClientRequest.class))).thenReturn(client());
+
+        Response response = given()
+            .contentType(ContentType.JSON)
+            .accept(ClientMediaTypes.APPLICATION_CBOR)
+            .body("{\"name\":\"María García\",\"documentId\":\"DOC00007\",\"email\":\"maria@example.com\"}")
+            .when()
+            .post("/api/v1/clients");
+
+        assertEquals(201, response.statusCode());
+        assertEquals("\"7-3+cbor\"", response.header("ETag"));
+        assertEquals(7L, cbor.readValue(response.asByteArray(), ClientResponse.class).getId());
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testSearch_WithProtobuf_IsNotAcceptable() {
+        given()
+            .accept(ClientMediaTypes.APPLICATION_PROTOBUF)
+            .queryParam("q", "maria")
+            .when()
+            .get("/api/v1/clients/search")
+            .then()
+            .statusCode(406);
+    }
+
+    @Test
+    void testSchema_IsPublished() {
+        given()
+            .when()
+            .get("/schemas/client/v1/client.proto")
+            .then()
+            .statusCode(200)
+            .body(containsString("message Client {"), containsString("message ClientPage {"));
+    }
+
+    @Test
+    void testExpectedVersion_AcceptsETagsOfEveryRepresentation() {
+        assertEquals(3L, ClientETags.expectedVersion("\"7-3\"", 7L));
+        assertEquals(3L, ClientETags.expectedVersion("\"7-3+protobuf\"", 7L));
+        assertEquals(-1L, ClientETags.expectedVersion("\"7-x+cbor\"", 7L));
+    }
+
+    private static ClientResponse client() {
+        return ClientResponse.builder()
+                .id(7L)
+                .name("María García")
+                .documentId("DOC7")
+                .email("maria@example.com")
+                .status("ACTIVE")
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .version(3L)
+                .build();
+    }
+}
@@ -2,25 +2,42 @@ package com.banking.customer.controller.client;
 
 import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
 import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
 import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientPatchRequest;
 import com.banking.customer.service.dto.ClientRequest;
 import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchHit;
+import com.banking.customer.service.dto.ClientSearchResponse;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.security.TestSecurity;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @QuarkusTest
@@ -37,16 +54,17 @@ class ClientControllerTest {
             createClientResponse(2L, "Jane Doe", "DOC002", "jane@example.com", "ACTIVE")
         );
 
-        when(clientService.getAll()).thenReturn(clients);
+        when(clientService.getAll(null, null, null, null, null)).thenReturn(createPage(clients, null));
 
         given()
             .when()
             .get("/api/v1/clients")
             .then()
             .statusCode(200)
-            .body("size()", is(2))
-            .body("[0].name", equalTo("John Doe"))
-            .body("[1].name", equalTo("Jane Doe"));
+            .body("items.size()", is(2))
+            .body("items[0].name", equalTo("John Doe"))
+            .body("items[1].name", equalTo("Jane Doe"))
+            .body("next", nullValue());
     }
 
     @Test
@@ -56,14 +74,83 @@ class ClientControllerTest {
             createClientResponse(1L, "Client 1", "DOC001", "client1@example.com", "ACTIVE")
         );
 
-        when(clientService.getAll()).thenReturn(clients);
+        when(clientService.getAll(null, null, null, null, null)).thenReturn(createPage(clients, null));
 
         given()
             .when()
             .get("/api/v1/clients")
             .then()
             .statusCode(200)
-            .body("size()", is(1));
+            .body("items.size()", is(1));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAllClients_WithCursorAndFilters_PassesThemToService() {
+        List<ClientResponse> clients = Arrays.asList(
+            createClientResponse(3L, "Client 3", "DOC003", "client3@example.com", "BLOCKED")
+        );
+
+        when(clientService.getAll("abc", "BLOCKED", 1, null, null)).thenReturn(createPage(clients, "def"));
+
+        given()
+            .queryParam("cursor", "abc")
+            .queryParam("status", "BLOCKED")
+            .queryParam("limit", 1)
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .body("items[0].status", equalTo("BLOCKED"))
+            .body("next", equalTo("def"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAllClients_WithFields_SerializesOnlyThoseFields() {
+        List<ClientResponse> clients = List.of(
+            createClientResponse(1L, "John Doe", "DOC001", "john@example.com", "ACTIVE")
+        );
+
+        when(clientService.getAll(isNull(), isNull(), isNull(), argThat(fields -> fields != null
+                && fields.names().equals(List.of("id", "status"))), isNull())).thenReturn(createPage(clients, "next"));
+
+        given()
+            .queryParam("fields", "status,id")
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .body("items[0].size()", is(2))
+            .body("items[0].id", is(1))
+            .body("items[0].status", equalTo("ACTIVE"))
+            .body("next", equalTo("next"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAllClients_WithUnknownField_Returns400() {
+        given()
+            .queryParam("fields", "id,password")
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAllClients_WithInvalidCursor_Returns400() {
+        when(clientService.getAll("bad", null, null, null, null))
+            .thenThrow(new InvalidClientRequestException("Cursor de paginación inválido"));
+
+        given()
+            .queryParam("cursor", "bad")
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(400);
     }
 
     @Test
@@ -75,12 +162,30 @@ class ClientControllerTest {
             .statusCode(401);
     }
 
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetClientByDocumentId_WithFields_SerializesOnlyThoseFieldsWithSameETag() {
+        ClientResponse client = createClientResponse(7L, "John Doe", "DOC123", "john@example.com", "BLOCKED");
+
+        when(clientService.getClientByDocumentId("DOC123", null)).thenReturn(client);
+
+        given()
+            .queryParam("fields", "status")
+            .when()
+            .get("/api/v1/clients/document/DOC123")
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo("\"7-0\""))
+            .body("size()", is(1))
+            .body("status", equalTo("BLOCKED"));
+    }
+
     @Test
     @TestSecurity(user = "testUser", roles = {"USER"})
     void testGetClientByDocumentId_WhenExists_ReturnsClient() {
         ClientResponse client = createClientResponse(1L, "John Doe", "DOC123", "john@example.com", "ACTIVE");
 
-        when(clientService.getClientByDocumentId("DOC123")).thenReturn(client);
+        when(clientService.getClientByDocumentId("DOC123", null)).thenReturn(client);
 
         given()
             .when()
@@ -95,7 +200,7 @@ class ClientControllerTest {
     @Test
     @TestSecurity(user = "testUser", roles = {"USER"})
     void testGetClientByDocumentId_WhenNotExists_Returns404() {
-        when(clientService.getClientByDocumentId("NONEXISTENT"))
+        when(clientService.getClientByDocumentId("NONEXISTENT", null))
             .thenThrow(new ClientNotFoundException("Cliente no encontrado"));
 
         given()
@@ -105,6 +210,202 @@ class ClientControllerTest {
             .statusCode(404);
     }
 
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetClientByDocumentId_ReturnsStrongETagFromVersion() {
+        ClientResponse client = createClientResponse(7L, "John Doe", "DOC123", "john@example.com", "ACTIVE");
+        client.setVersion(3L);
+
+        when(clientService.getClientByDocumentId("DOC123", null)).thenReturn(client);
+
+        given()
+            .when()
+            .get("/api/v1/clients/document/DOC123")
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo("\"7-3\""))
+            .body("version", equalTo(3));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetClientByDocumentId_WithMatchingIfNoneMatch_Returns304WithoutBody() {
+        ClientResponse client = createClientResponse(7L, "John Doe", "DOC123", "john@example.com", "ACTIVE");
+        client.setVersion(3L);
+
+        when(clientService.getClientByDocumentId("DOC123", null)).thenReturn(client);
+
+        given()
+            .header("If-None-Match", "\"7-3\"")
+            .when()
+            .get("/api/v1/clients/document/DOC123")
+            .then()
+            .statusCode(304)
+            .header("ETag", equalTo("\"7-3\""))
+            .body(emptyString());
+
+        given()
+            .header("If-None-Match", "\"7-2\"")
+            .when()
+            .get("/api/v1/clients/document/DOC123")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("John Doe"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetAllClients_WithMatchingIfNoneMatch_Returns304UntilAVersionChanges() {
+        ClientResponse first = createClientResponse(1L, "John Doe", "DOC001", "john@example.com", "ACTIVE");
+        ClientResponse second = createClientResponse(2L, "Jane Doe", "DOC002", "jane@example.com", "ACTIVE");
+        when(clientService.getAll(null, null, null, null, null)).thenReturn(createPage(List.of(first, second), null));
+
+        String etag = given()
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(304)
+            .body(emptyString());
+
+        second.setVersion(1L);
+        given()
+            .header("If-None-Match", etag)
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetClientByEmail_WhenExists_ReturnsClient() {
+        ClientResponse client = createClientResponse(1L, "Juan Perez", "DOC123", "Juan.Perez@Email.com", "ACTIVE");
+
+        when(clientService.getClientByEmail("juan.perez@email.com", null)).thenReturn(client);
+
+        given()
+            .when()
+            .get("/api/v1/clients/email/juan.perez@email.com")
+            .then()
+            .statusCode(200)
+            .body("documentId", equalTo("DOC123"))
+            .body("email", equalTo("Juan.Perez@Email.com"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetClientByEmail_WhenNotExists_Returns404() {
+        when(clientService.getClientByEmail("missing@email.com", null))
+            .thenThrow(new ClientNotFoundException("Cliente no encontrado con email: missing@email.com"));
+
+        given()
+            .when()
+            .get("/api/v1/clients/email/missing@email.com")
+            .then()
+            .statusCode(404);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testSearchClients_ReturnsRankedHits() {
+        ClientResponse client = createClientResponse(7L, "María García", "DOC777", "maria@example.com", "ACTIVE");
+        when(clientService.search("garcia", 5)).thenReturn(ClientSearchResponse.builder()
+            .query("garcia")
+            .limit(5)
+            .items(List.of(ClientSearchHit.builder().score(1.0).client(client).build()))
+            .build());
+
+        given()
+            .queryParam("q", "garcia")
+            .queryParam("limit", 5)
+            .when()
+            .get("/api/v1/clients/search")
+            .then()
+            .statusCode(200)
+            .body("query", equalTo("garcia"))
+            .body("items.size()", is(1))
+            .body("items[0].score", equalTo(1.0f))
+            .body("items[0].client.name", equalTo("María García"));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testSearchClients_WithoutQuery_Returns400() {
+        when(clientService.search(null, null))
+            .thenThrow(new InvalidClientRequestException("El parámetro de búsqueda q es obligatorio"));
+
+        given()
+            .when()
+            .get("/api/v1/clients/search")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @TestSecurity(user = "statementJob", roles = {"USER"})
+    void testLookupClients_ReturnsOneEntryPerKeyWithNullForMisses() {
+        ClientResponse byDocument = createClientResponse(7L, "María García", "DOC777", "maria@example.com", "ACTIVE");
+        ClientResponse byId = createClientResponse(8L, "Pedro Ruiz", "DOC888", "pedro@example.com", "ACTIVE");
+        Map<String, ClientResponse> documents = new LinkedHashMap<>();
+        documents.put("DOC777", byDocument);
+        documents.put("MISSING9", null);
+        Map<Long, ClientResponse> ids = new LinkedHashMap<>();
+        ids.put(8L, byId);
+        when(clientService.lookup(argThat(request -> request.getDocumentIds().equals(List.of("DOC777", "MISSING9"))
+                && request.getIds().equals(List.of(8L)))))
+            .thenReturn(ClientLookupResponse.builder().found(2).missing(1).documentIds(documents).ids(ids).build());
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"documentIds\": [\"DOC777\", \"MISSING9\"], \"ids\": [8]}")
+            .when()
+            .post("/api/v1/clients/lookup")
+            .then()
+            .statusCode(200)
+            .body("found", is(2))
+            .body("missing", is(1))
+            .body("documentIds.DOC777.name", equalTo("María García"))
+            .body("documentIds", hasKey("MISSING9"))
+            .body("documentIds.MISSING9", nullValue())
+            .body("ids.'8'.documentId", equalTo("DOC888"));
+    }
+
+    @Test
+    @TestSecurity(user = "statementJob", roles = {"USER"})
+    void testLookupClients_WithoutKeys_Returns400() {
+        when(clientService.lookup(any(ClientLookupRequest.class)))
+            .thenThrow(new InvalidClientRequestException("Indique al menos un documento o un id"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{}")
+            .when()
+            .post("/api/v1/clients/lookup")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testLookupClients_WithoutAuthentication_Returns401() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"ids\": [1]}")
+            .when()
+            .post("/api/v1/clients/lookup")
+            .then()
+            .statusCode(401);
+    }
+
     @Test
     @TestSecurity(user = "adminUser", roles = {"ADMIN"})
     void testCreateClient_WithAdminRole_CreatesClient() {
@@ -197,7 +498,7 @@ class ClientControllerTest {
 
         ClientResponse response = createClientResponse(1L, "Updated Client", "DOC123", "updated@example.com", "ACTIVE");
 
-        when(clientService.update(anyLong(), any(ClientRequest.class))).thenReturn(response);
+        when(clientService.update(anyLong(), any(ClientRequest.class), any())).thenReturn(response);
 
         given()
             .contentType(ContentType.JSON)
@@ -237,7 +538,7 @@ class ClientControllerTest {
             .email("updated@example.com")
             .build();
 
-        when(clientService.update(anyLong(), any(ClientRequest.class)))
+        when(clientService.update(anyLong(), any(ClientRequest.class), any()))
             .thenThrow(new ClientNotFoundException(999L));
 
         given()
@@ -249,6 +550,104 @@ class ClientControllerTest {
             .statusCode(404);
     }
 
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testUpdateClient_WithIfMatch_PassesExpectedVersionAndReturnsNewETag() {
+        ClientRequest request = ClientRequest.builder()
+            .name("Updated Client")
+            .documentId("DOC123")
+            .email("updated@example.com")
+            .build();
+
+        ClientResponse response = createClientResponse(1L, "Updated Client", "DOC123", "updated@example.com", "ACTIVE");
+        response.setVersion(5L);
+
+        when(clientService.update(eq(1L), any(ClientRequest.class), eq(4L))).thenReturn(response);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", "\"1-4\"")
+            .body(request)
+            .when()
+            .put("/api/v1/clients/1")
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo("\"1-5\""));
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testUpdateClient_WithStaleIfMatch_Returns412() {
+        ClientRequest request = ClientRequest.builder()
+            .name("Updated Client")
+            .documentId("DOC123")
+            .email("updated@example.com")
+            .build();
+
+        when(clientService.update(eq(1L), any(ClientRequest.class), eq(2L)))
+            .thenThrow(new ClientVersionConflictException(1L));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", "\"1-2\"")
+            .body(request)
+            .when()
+            .put("/api/v1/clients/1")
+            .then()
+            .statusCode(412)
+            .body("status", equalTo(412));
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testPatchClient_WithMergePatch_PassesOnlySentFields() {
+        ClientResponse response = createClientResponse(1L, "John Doe", "DOC123", "john@example.com", "BLOCKED");
+        response.setVersion(2L);
+
+        when(clientService.patch(eq(1L), any(ClientPatchRequest.class), eq(1L))).thenReturn(response);
+
+        given()
+            .contentType("application/merge-patch+json")
+            .header("If-Match", "\"1-1\"")
+            .body("{\"status\":\"BLOCKED\"}")
+            .when()
+            .patch("/api/v1/clients/1")
+            .then()
+            .statusCode(200)
+            .header("ETag", equalTo("\"1-2\""))
+            .body("status", equalTo("BLOCKED"));
+
+        ArgumentCaptor<ClientPatchRequest> captor = ArgumentCaptor.forClass(ClientPatchRequest.class);
+        verify(clientService).patch(eq(1L), captor.capture(), eq(1L));
+        assertEquals("BLOCKED", captor.getValue().getStatus());
+        assertNull(captor.getValue().getName());
+        assertNull(captor.getValue().getEmail());
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testPatchClient_WithInvalidEmail_Returns400() {
+        given()
+            .contentType("application/merge-patch+json")
+            .body("{\"email\":\"not-an-email\"}")
+            .when()
+            .patch("/api/v1/clients/1")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testPatchClient_WithUserRole_Returns403() {
+        given()
+            .contentType("application/merge-patch+json")
+            .body("{\"status\":\"BLOCKED\"}")
+            .when()
+            .patch("/api/v1/clients/1")
+            .then()
+            .statusCode(403);
+    }
+
     @Test
     @TestSecurity(user = "adminUser", roles = {"ADMIN"})
     void testDeleteClient_WithAdminRole_DeletesClient() {
@@ -300,6 +699,15 @@ class ClientControllerTest {
             .status(status)
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
+            .version(0L)
+            .build();
+    }
+
+    private ClientPageResponse createPage(List<ClientResponse> items, String next) {
+        return ClientPageResponse.builder()
+            .items(items)
+            .limit(50)
+            .next(next)
             .build();
     }
 }
@@ -0,0 +1,80 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientExportControllerTest {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            for (int i = 1; i <= 25; i++) {
+                clientRepository.persist(Client.builder()
+                        .name("Export Client " + i)
+                        .documentId(String.format("EXP%05d", i))
+                        .email("export" + i + "@example.com")
+                        .status(i % 5 == 0 ? "BLOCKED" : "ACTIVE")
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testExport_WithAdminRole_StreamsOneJsonLinePerClient() {
+        // Páginas de 10 en los tests: tres páginas, la última incompleta
+        String body = given()
+            .when()
+            .get("/api/v1/clients/export")
+            .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .header("Content-Disposition", containsString("clients.ndjson"))
+            .extract()
+            .asString();
+
+        String[] lines = body.split("\n");
+        assertEquals(25, lines.length);
+        assertTrue(body.endsWith("\n"));
+        assertTrue(lines[0].startsWith("{"));
+        assertTrue(lines[0].contains("\"documentId\":\"EXP00001\""));
+        assertTrue(lines[24].contains("\"documentId\":\"EXP00025\""));
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].contains(String.format("\"documentId\":\"EXP%05d\"", i + 1)), lines[i]);
+        }
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testExport_WithUserRole_Returns403() {
+        given()
+            .when()
+            .get("/api/v1/clients/export")
+            .then()
+            .statusCode(403);
+    }
+
+    @Test
+    void testExport_WithoutAuth_Returns401() {
+        given()
+            .when()
+            .get("/api/v1/clients/export")
+            .then()
+            .statusCode(401);
+    }
+}
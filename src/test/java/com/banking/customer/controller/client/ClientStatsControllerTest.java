@@ -0,0 +1,85 @@
+package com.banking.customer.controller.client;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.client.ClientStatsService;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+@QuarkusTest
+class ClientStatsControllerTest {
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    @CacheName(ClientStatsService.CACHE_NAME)
+    Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.invalidateAll().await().indefinitely();
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            for (int i = 1; i <= 3; i++) {
+                clientRepository.persist(Client.builder()
+                        .name("Stats Client " + i)
+                        .documentId("STATS" + i)
+                        .email("stats" + i + "@example.com")
+                        .status(i == 3 ? "BLOCKED" : "ACTIVE")
+                        .build());
+            }
+        });
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetStats_WithUserRole_ReturnsSummary() {
+        given()
+            .queryParam("days", 3)
+            .when()
+            .get("/api/v1/clients/stats")
+            .then()
+            .statusCode(200)
+            .body("total", equalTo(3))
+            .body("byStatus.ACTIVE", equalTo(2))
+            .body("byStatus.BLOCKED", equalTo(1))
+            .body("days", equalTo(3))
+            .body("daily", hasSize(3))
+            .body("daily[2].date", equalTo(LocalDate.now().toString()))
+            .body("daily[2].created", equalTo(3))
+            .body("daily[2].lastUpdated", equalTo(0));
+    }
+
+    @Test
+    @TestSecurity(user = "testUser", roles = {"USER"})
+    void testGetStats_InvalidWindow_Returns400() {
+        given()
+            .queryParam("days", 0)
+            .when()
+            .get("/api/v1/clients/stats")
+            .then()
+            .statusCode(400);
+    }
+
+    @Test
+    void testGetStats_WithoutAuth_Returns401() {
+        given()
+            .when()
+            .get("/api/v1/clients/stats")
+            .then()
+            .statusCode(401);
+    }
+}
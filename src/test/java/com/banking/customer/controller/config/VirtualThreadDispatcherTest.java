@@ -0,0 +1,43 @@
+package com.banking.customer.controller.config;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * En tests quarkus.virtual-threads.enabled=false: el trabajo se queda en el hilo que llama salvo en el event loop
+ */
+@QuarkusTest
+class VirtualThreadDispatcherTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    VirtualThreadDispatcher dispatcher;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    void testDispatch_WithoutVirtualThreadsOnAWorker_RunsInline() {
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, dispatcher.dispatch(Thread::currentThread).await().atMost(TIMEOUT));
+    }
+
+    @Test
+    void testDispatch_FromTheEventLoop_LeavesIt() {
+        CompletableFuture<Uni<Boolean>> dispatched = new CompletableFuture<>();
+        vertx.runOnContext(ignored -> dispatched.complete(dispatcher.dispatch(Context::isOnEventLoopThread)));
+
+        assertFalse(dispatched.join().await().atMost(TIMEOUT));
+    }
+}
@@ -1,15 +1,19 @@
 package com.banking.customer.controller.config.health;
 
-import com.banking.customer.entity.repository.ClientRepository;
-import io.quarkus.test.InjectMock;
+import io.agroal.api.AgroalDataSource;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.Readiness;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @QuarkusTest
 class DatabaseHealthCheckTest {
@@ -18,53 +22,120 @@ class DatabaseHealthCheckTest {
     @Readiness
     DatabaseHealthCheck databaseHealthCheck;
 
-    @InjectMock
-    ClientRepository clientRepository;
+    private DatabaseHealthCheck standalone;
 
-    @Test
-    void testCall_WhenDatabaseIsAccessible_ReturnsUp() {
-        when(clientRepository.count()).thenReturn(10L);
+    @AfterEach
+    void tearDown() {
+        if (standalone != null) {
+            standalone.shutdown();
+        }
+    }
 
+    @Test
+    void testCall_WhenDatabaseIsAccessible_ReturnsUpWithPoolData() {
         HealthCheckResponse response = databaseHealthCheck.call();
 
         assertNotNull(response);
         assertEquals("Database connection", response.getName());
         assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
         assertTrue(response.getData().isPresent());
-        assertEquals(10L, response.getData().get().get("clients_count"));
+        assertTrue(response.getData().get().containsKey("response_time_ms"));
+        assertTrue(response.getData().get().containsKey("pool_active"));
+        assertTrue(response.getData().get().containsKey("pool_idle"));
+        assertTrue(response.getData().get().containsKey("pool_waiting"));
+        assertEquals(8L, response.getData().get().get("pool_max"));
+        assertFalse(response.getData().get().containsKey("clients_count"));
     }
 
     @Test
-    void testCall_WhenDatabaseIsNotAccessible_ReturnsDown() {
-        when(clientRepository.count()).thenThrow(new RuntimeException("Database connection failed"));
+    void testCall_WhenDatabaseIsNotAccessible_ReturnsDown() throws SQLException {
+        AgroalDataSource dataSource = dataSource();
+        when(dataSource.getConnection()).thenThrow(new SQLException("Database connection failed"));
+        standalone = healthCheck(dataSource, Duration.ofSeconds(2), Duration.ofSeconds(10));
 
-        HealthCheckResponse response = databaseHealthCheck.call();
+        HealthCheckResponse response = standalone.call();
 
-        assertNotNull(response);
         assertEquals("Database connection", response.getName());
         assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
-        assertTrue(response.getData().isPresent());
-        assertTrue(response.getData().get().containsKey("error"));
         assertEquals("Database connection failed", response.getData().get().get("error"));
     }
 
     @Test
-    void testCall_WithZeroClients_ReturnsUp() {
-        when(clientRepository.count()).thenReturn(0L);
+    void testCall_WhenDatabaseIsSlow_ReturnsDownWithinTimeout() throws SQLException {
+        AgroalDataSource dataSource = dataSource();
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return mock(Connection.class);
+        });
+        standalone = healthCheck(dataSource, Duration.ofMillis(200), Duration.ofSeconds(10));
+
+        long start = System.nanoTime();
+        HealthCheckResponse response = standalone.call();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
 
-        HealthCheckResponse response = databaseHealthCheck.call();
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertTrue(elapsedMillis < 2_000, "El probe debe respetar el timeout, tardó " + elapsedMillis + " ms");
+        assertTrue(response.getData().get().get("error").toString().contains("200 ms"));
+    }
 
-        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
-        assertEquals(0L, response.getData().get().get("clients_count"));
+    @Test
+    void testCall_WhenFirstValidationCannotRun_ReturnsDownWithoutResult() {
+        standalone = healthCheck(dataSource(), Duration.ofSeconds(2), Duration.ofSeconds(10));
+        // Sin hilo de validación (p. ej. durante el apagado) no llega a haber ningún resultado
+        standalone.shutdown();
+
+        HealthCheckResponse response = standalone.call();
+
+        assertEquals("Database connection", response.getName());
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals("Aún no hay ninguna validación de la base de datos completada", response.getData().get().get("error"));
     }
 
     @Test
-    void testCall_WithLargeNumberOfClients_ReturnsUp() {
-        when(clientRepository.count()).thenReturn(1000000L);
+    void testCall_WithinCacheTtl_ValidatesOnlyOnce() throws SQLException {
+        AgroalDataSource dataSource = dataSource();
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(connection);
+        standalone = healthCheck(dataSource, Duration.ofSeconds(2), Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(HealthCheckResponse.Status.UP, standalone.call().getStatus());
+        }
+
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).close();
+    }
 
-        HealthCheckResponse response = databaseHealthCheck.call();
+    @Test
+    void testCall_AfterCacheTtl_RefreshesInBackground() throws Exception {
+        AgroalDataSource dataSource = dataSource();
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true, false);
+        when(dataSource.getConnection()).thenReturn(connection);
+        standalone = healthCheck(dataSource, Duration.ofSeconds(2), Duration.ZERO);
+
+        assertEquals(HealthCheckResponse.Status.UP, standalone.call().getStatus());
+        // Caducado: devuelve el último resultado y revalida en segundo plano
+        assertEquals(HealthCheckResponse.Status.UP, standalone.call().getStatus());
+
+        verify(dataSource, timeout(2_000).times(2)).getConnection();
+        Thread.sleep(100);
+        assertEquals(HealthCheckResponse.Status.DOWN, standalone.call().getStatus());
+    }
 
-        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
-        assertEquals(1000000L, response.getData().get().get("clients_count"));
+    private static AgroalDataSource dataSource() {
+        AgroalDataSource dataSource = mock(AgroalDataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConfiguration().connectionPoolConfiguration().maxSize()).thenReturn(16);
+        return dataSource;
+    }
+
+    private static DatabaseHealthCheck healthCheck(AgroalDataSource dataSource, Duration timeout, Duration cacheTtl) {
+        DatabaseHealthCheck healthCheck = new DatabaseHealthCheck();
+        healthCheck.dataSource = dataSource;
+        healthCheck.timeout = timeout;
+        healthCheck.cacheTtl = cacheTtl;
+        healthCheck.init();
+        return healthCheck;
     }
 }
@@ -0,0 +1,120 @@
+package com.banking.customer.controller.config.json;
+
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientJsonModuleTest {
+
+    // Mismo formato que el ObjectMapper de Quarkus: JavaTimeModule y fechas como texto ISO
+    private final ObjectMapper reflective = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper tuned = reflective.copy().registerModule(new ClientJsonModule());
+
+    @Test
+    void testClientResponse_WritesSameBytesAsReflectiveSerializer() throws Exception {
+        assertSameJson(client(1L, LocalDateTime.of(2024, 3, 5, 9, 7, 3, 123_456_000)));
+        assertSameJson(ClientResponse.builder().id(2L).name("Sin fechas").build());
+        assertSameJson(new ClientResponse());
+    }
+
+    @Test
+    void testClientResponse_EscapesStrings() throws Exception {
+        ClientResponse client = client(3L, LocalDateTime.of(2024, 1, 1, 0, 0));
+        client.setName("María \"la\" García\\\n\t\u0001 ✓");
+        assertSameJson(client);
+    }
+
+    @Test
+    void testDateTimes_MatchIsoLocalDateTimeForEveryPrecision() throws Exception {
+        List<LocalDateTime> values = List.of(
+                LocalDateTime.of(2024, 12, 31, 23, 59),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 1),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 100_000_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 120_000_000),
+                LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123_456_789),
+                LocalDateTime.of(5, 6, 7, 8, 9, 10),
+                LocalDateTime.of(12_345, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0),
+                LocalDateTime.now());
+        for (LocalDateTime value : values) {
+            assertSameJson(client(4L, value));
+        }
+    }
+
+    @Test
+    void testPage_WritesSameBytesAsReflectiveSerializer() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        assertSameJson(ClientPageResponse.builder()
+                .items(Arrays.asList(client(1L, now), client(2L, now.minusDays(1)), null))
+                .limit(50)
+                .next("Mg")
+                .build());
+        assertSameJson(ClientPageResponse.builder().items(List.of()).limit(10).build());
+        assertSameJson(new ClientPageResponse());
+    }
+
+    @Test
+    void testErrorResponse_WritesSameBytesAsReflectiveSerializer() throws Exception {
+        assertSameJson(ErrorResponse.of(404, "Not Found", "Cliente no encontrado con ID: 1", "/api/v1/clients/1"));
+
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        validationErrors.put("email", "El email debe ser válido");
+        validationErrors.put("name", null);
+        ErrorResponse error = ErrorResponse.of(400, "Bad Request", "Errores de validación", "/api/v1/clients");
+        error.setDetails(Arrays.asList("email: El email debe ser válido", null));
+        error.setValidationErrors(validationErrors);
+        assertSameJson(error);
+        assertSameJson(new ErrorResponse());
+    }
+
+    @Test
+    void testListOfClients_UsesTunedSerializerForEachElement() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClientResponse> clients = List.of(client(1L, now), client(2L, now));
+
+        assertEquals(reflective.writeValueAsString(clients), tuned.writeValueAsString(clients));
+        assertInstanceOf(ClientJsonModule.ClientResponseSerializer.class,
+                tuned.getSerializerProviderInstance().findValueSerializer(ClientResponse.class));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertArrayEquals(reflective.writeValueAsBytes(value), tuned.writeValueAsBytes(value),
+                () -> {
+                    try {
+                        return reflective.writeValueAsString(value) + " <> " + tuned.writeValueAsString(value);
+                    } catch (Exception e) {
+                        return e.toString();
+                    }
+                });
+    }
+
+    private static ClientResponse client(Long id, LocalDateTime createdAt) {
+        return ClientResponse.builder()
+                .id(id)
+                .name("Client " + id)
+                .documentId("DOC" + id)
+                .email("client" + id + "@example.com")
+                .status("ACTIVE")
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusSeconds(1))
+                .version(id * 3)
+                .build();
+    }
+}
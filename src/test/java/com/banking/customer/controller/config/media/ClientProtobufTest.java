@@ -0,0 +1,176 @@
+package com.banking.customer.controller.config.media;
+
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientProtobufTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 5, 9, 7, 3, 123_456_789);
+
+    @Test
+    void testClient_RoundTripsEveryField() throws Exception {
+        ClientResponse client = client(7L);
+
+        ClientResponse decoded = ClientProtobuf.readClient(CodedInputStream.newInstance(encode(client)));
+
+        assertEquals(7L, decoded.getId());
+        assertEquals("María García", decoded.getName());
+        assertEquals("DOC7", decoded.getDocumentId());
+        assertEquals("maria7@example.com", decoded.getEmail());
+        assertEquals("ACTIVE", decoded.getStatus());
+        assertEquals(CREATED_AT, decoded.getCreatedAt());
+        assertNull(decoded.getUpdatedAt());
+        assertEquals(21L, decoded.getVersion());
+    }
+
+    @Test
+    void testClient_IsReadableByProtobufWithThePublishedSchema() throws Exception {
+        DynamicMessage message = DynamicMessage.parseFrom(clientDescriptor(), encode(client(7L)));
+        Descriptor descriptor = message.getDescriptorForType();
+
+        assertEquals(7L, message.getField(descriptor.findFieldByName("id")));
+        assertEquals("María García", message.getField(descriptor.findFieldByName("name")));
+        assertEquals("DOC7", message.getField(descriptor.findFieldByName("document_id")));
+        assertFalse(message.hasField(descriptor.findFieldByName("updated_at")));
+        Timestamp createdAt = Timestamp.parseFrom(((DynamicMessage) message.getField(descriptor.findFieldByName("created_at"))).toByteString());
+        assertEquals(CREATED_AT.toEpochSecond(ZoneOffset.UTC), createdAt.getSeconds());
+        assertEquals(123_456_789, createdAt.getNanos());
+    }
+
+    @Test
+    void testPage_RoundTripsItemsLimitAndCursor() throws Exception {
+        ClientPageResponse page = ClientPageResponse.builder()
+                .items(List.of(client(1L), client(2L)))
+                .limit(2)
+                .next("Mg")
+                .build();
+
+        ClientPageResponse decoded = ClientProtobuf.readPage(CodedInputStream.newInstance(encode(page)));
+
+        assertEquals(2, decoded.getItems().size());
+        assertEquals(2L, decoded.getItems().get(1).getId());
+        assertEquals(CREATED_AT, decoded.getItems().get(1).getCreatedAt());
+        assertEquals(2, decoded.getLimit());
+        assertEquals("Mg", decoded.getNext());
+    }
+
+    @Test
+    void testProjection_WritesOnlyRequestedFields() throws Exception {
+        ClientFields fields = ClientFields.parse("status");
+        ClientPageResponse page = ClientPageResponse.builder().items(List.of(client(1L))).limit(50).build();
+
+        ClientPageResponse decoded = ClientProtobuf.readPage(CodedInputStream.newInstance(encode(fields.project(page))));
+
+        ClientResponse item = decoded.getItems().get(0);
+        assertEquals("ACTIVE", item.getStatus());
+        assertNull(item.getId());
+        assertNull(item.getName());
+        assertNull(item.getVersion());
+        assertEquals(50, decoded.getLimit());
+        assertNull(decoded.getNext());
+    }
+
+    @Test
+    void testError_RoundTripsDetailsAndValidationErrors() throws Exception {
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        validationErrors.put("email", "El email debe ser válido");
+        validationErrors.put("name", "El nombre es obligatorio");
+        ErrorResponse error = ErrorResponse.of(400, "Bad Request", "Errores de validación", "/api/v1/clients");
+        error.setDetails(Arrays.asList("email: El email debe ser válido", null));
+        error.setValidationErrors(validationErrors);
+
+        ErrorResponse decoded = ClientProtobuf.readError(CodedInputStream.newInstance(encode(error)));
+
+        assertEquals(400, decoded.getStatus());
+        assertEquals("Errores de validación", decoded.getMessage());
+        assertEquals(error.getTimestamp(), decoded.getTimestamp());
+        assertEquals(List.of("email: El email debe ser válido", ""), decoded.getDetails());
+        assertEquals(validationErrors, decoded.getValidationErrors());
+    }
+
+    @Test
+    void testSupports_OnlyTypesOfTheSchema() {
+        assertTrue(ClientProtobuf.supports(ClientResponse.class));
+        assertTrue(ClientProtobuf.supports(ClientFields.Projection.class));
+        assertFalse(ClientProtobuf.supports(Map.class));
+        assertThrows(IllegalArgumentException.class, () -> encode("texto"));
+    }
+
+    private static byte[] encode(Object entity) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ClientProtobuf.write(entity, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ClientResponse client(long id) {
+        return ClientResponse.builder()
+                .id(id)
+                .name("María García")
+                .documentId("DOC" + id)
+                .email("maria" + id + "@example.com")
+                .status("ACTIVE")
+                .createdAt(CREATED_AT)
+                .version(id * 3)
+                .build();
+    }
+
+    // Mensaje Client de client.proto construido con descriptores, para leerlo con el parser de protobuf
+    private static Descriptor clientDescriptor() throws Exception {
+        DescriptorProto client = DescriptorProto.newBuilder()
+                .setName("Client")
+                .addField(field("id", 1, FieldDescriptorProto.Type.TYPE_INT64, null))
+                .addField(field("name", 2, FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("document_id", 3, FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("email", 4, FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("status", 5, FieldDescriptorProto.Type.TYPE_STRING, null))
+                .addField(field("created_at", 6, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Timestamp"))
+                .addField(field("updated_at", 7, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Timestamp"))
+                .addField(field("version", 8, FieldDescriptorProto.Type.TYPE_INT64, null))
+                .build();
+        FileDescriptorProto file = FileDescriptorProto.newBuilder()
+                .setName("client.proto")
+                .setPackage("banking.customer.v1")
+                .setSyntax("proto3")
+                .addDependency("google/protobuf/timestamp.proto")
+                .addMessageType(client)
+                .build();
+        return FileDescriptor.buildFrom(file, new FileDescriptor[]{Timestamp.getDescriptor().getFile()})
+                .findMessageTypeByName("Client");
+    }
+
+    private static FieldDescriptorProto field(String name, int number, FieldDescriptorProto.Type type, String typeName) {
+        FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL);
+        if (typeName != null) {
+            field.setTypeName(typeName);
+        }
+        return field.build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.banking.customer.controller.grpc;
+
+import com.banking.customer.controller.config.media.ClientProtobuf;
+import com.banking.customer.proto.v1.ClientPage;
+import com.banking.customer.proto.v1.Error;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ErrorResponse;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Timestamp;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Las respuestas REST en application/x-protobuf se codifican a mano con {@link ClientProtobuf} y las de gRPC
+ * con las clases generadas del mismo esquema: ambas deben producir exactamente los mismos bytes
+ */
+class ClientGrpcMessagesTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 5, 9, 7, 3, 123_456_789);
+
+    @Test
+    void testClient_EncodesToTheSameBytesAsClientProtobuf() throws Exception {
+        ClientResponse full = client(7L);
+        full.setUpdatedAt(CREATED_AT.withNano(0));
+        // Campos ausentes, un Timestamp en el origen (segundos 0) y una versión 0
+        ClientResponse sparse = ClientResponse.builder()
+                .id(8L)
+                .name("Ana")
+                .createdAt(LocalDateTime.ofEpochSecond(0, 500, ZoneOffset.UTC))
+                .version(0L)
+                .build();
+
+        for (ClientResponse client : List.of(full, sparse, new ClientResponse())) {
+            assertArrayEquals(ClientGrpcMessages.toMessage(client).toByteArray(), encode(client));
+        }
+    }
+
+    @Test
+    void testPage_EncodesToTheSameBytesAsClientProtobuf() throws Exception {
+        ClientPageResponse page = ClientPageResponse.builder()
+                .items(List.of(client(1L), client(2L)))
+                .limit(2)
+                .next("Mg")
+                .build();
+
+        ClientPage message = ClientPage.newBuilder()
+                .addAllItems(page.getItems().stream().map(ClientGrpcMessages::toMessage).toList())
+                .setLimit(page.getLimit())
+                .setNext(page.getNext())
+                .build();
+
+        assertArrayEquals(message.toByteArray(), encode(page));
+        assertArrayEquals(ClientPage.getDefaultInstance().toByteArray(), encode(ClientPageResponse.builder().items(List.of()).build()));
+    }
+
+    @Test
+    void testError_EncodesToTheSameBytesAsClientProtobuf() throws Exception {
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        validationErrors.put("email", "El email debe ser válido");
+        ErrorResponse error = ErrorResponse.builder()
+                .status(400)
+                .error("Bad Request")
+                .message("Error de validación")
+                .timestamp(CREATED_AT)
+                .path("/api/v1/clients")
+                .details(List.of("email: El email debe ser válido"))
+                .validationErrors(validationErrors)
+                .build();
+
+        Error message = Error.newBuilder()
+                .setStatus(error.getStatus())
+                .setError(error.getError())
+                .setMessage(error.getMessage())
+                .setTimestamp(Timestamp.newBuilder()
+                        .setSeconds(CREATED_AT.toEpochSecond(ZoneOffset.UTC))
+                        .setNanos(CREATED_AT.getNano()))
+                .setPath(error.getPath())
+                .addAllDetails(error.getDetails())
+                .putAllValidationErrors(validationErrors)
+                .build();
+
+        assertArrayEquals(message.toByteArray(), encode(error));
+    }
+
+    private static byte[] encode(Object entity) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        ClientProtobuf.write(entity, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static ClientResponse client(long id) {
+        return ClientResponse.builder()
+                .id(id)
+                .name("María García")
+                .documentId("DOC" + id)
+                .email("maria" + id + "@example.com")
+                .status("ACTIVE")
+                .createdAt(CREATED_AT)
+                .version(id * 3)
+                .build();
+    }
+}
@@ -0,0 +1,225 @@
+package com.banking.customer.controller.grpc;
+
+import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.proto.v1.Client;
+import com.banking.customer.proto.v1.MutinyClientLookupGrpc;
+import com.banking.customer.proto.v1.GetByDocumentIdRequest;
+import com.banking.customer.proto.v1.GetByIdRequest;
+import com.banking.customer.proto.v1.ListClientsRequest;
+import com.banking.customer.proto.v1.LookupRequest;
+import com.banking.customer.proto.v1.LookupResult;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
+import com.banking.customer.service.dto.ClientResponse;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.smallrye.mutiny.Multi;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Llama a la interfaz gRPC por el puerto HTTP de test (HTTP/2 sin TLS), el mismo servidor y la misma
+ * autenticación que los endpoints REST
+ */
+@QuarkusTest
+class ClientGrpcServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TestHTTPResource("/")
+    URI root;
+
+    @InjectMock
+    ClientService clientService;
+
+    @Inject
+    @GrpcService
+    ClientGrpcService clientGrpcService;
+
+    private ManagedChannel channel;
+    private MutinyClientLookupGrpc.MutinyClientLookupStub clientLookup;
+
+    @BeforeEach
+    void openChannel() {
+        channel = ManagedChannelBuilder.forAddress(root.getHost(), root.getPort()).usePlaintext().build();
+        clientLookup = MutinyClientLookupGrpc.newMutinyStub(channel);
+    }
+
+    @AfterEach
+    void closeChannel() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    @TestSecurity(user = "accounts", roles = {"USER"})
+    void testGetByDocumentId_ReturnsClientMessage() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 250_000_000);
+        when(clientService.getClientByDocumentId("DOC777"))
+                .thenReturn(clientResponse(7L, "María García", "DOC777", createdAt));
+
+        Client client = clientLookup.getByDocumentId(GetByDocumentIdRequest.newBuilder().setDocumentId("DOC777").build())
+                .await().atMost(TIMEOUT);
+
+        assertEquals(7L, client.getId());
+        assertEquals("María García", client.getName());
+        assertEquals("DOC777", client.getDocumentId());
+        assertEquals(createdAt.toEpochSecond(ZoneOffset.UTC), client.getCreatedAt().getSeconds());
+        assertEquals(250_000_000, client.getCreatedAt().getNanos());
+        assertEquals(3L, client.getVersion());
+        assertFalse(client.hasUpdatedAt());
+    }
+
+    @Test
+    @TestSecurity(user = "accounts", roles = {"USER"})
+    void testGetById_WhenNotExists_ReturnsNotFound() {
+        when(clientService.getClientById(99L)).thenThrow(new ClientNotFoundException(99L));
+
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () ->
+                clientLookup.getById(GetByIdRequest.newBuilder().setId(99L).build()).await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+        assertEquals("Cliente no encontrado con ID: 99", error.getStatus().getDescription());
+    }
+
+    @Test
+    void testGetById_WithoutAuthentication_IsRejected() {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () ->
+                clientLookup.getById(GetByIdRequest.newBuilder().setId(1L).build()).await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.PERMISSION_DENIED, error.getStatus().getCode());
+        verify(clientService, never()).getClientById(any());
+    }
+
+    @Test
+    @TestSecurity(user = "transactions", roles = {"USER"})
+    void testBatchLookup_ResolvesStreamedKeysWithOneLookupPerGroupInOrder() {
+        Map<String, ClientResponse> documents = new LinkedHashMap<>();
+        documents.put("DOC777", clientResponse(7L, "María García", "DOC777", null));
+        documents.put("MISSING9", null);
+        Map<Long, ClientResponse> ids = new LinkedHashMap<>();
+        ids.put(8L, clientResponse(8L, "Pedro Ruiz", "DOC888", null));
+        when(clientService.lookup(any(ClientLookupRequest.class))).thenReturn(ClientLookupResponse.builder()
+                .found(2).missing(1).documentIds(documents).ids(ids).build());
+
+        List<LookupResult> results = clientLookup.batchLookup(Multi.createFrom().items(
+                        LookupRequest.newBuilder().setDocumentId("DOC777").build(),
+                        LookupRequest.newBuilder().setId(8L).build(),
+                        LookupRequest.newBuilder().setDocumentId("MISSING9").build()))
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertEquals(3, results.size());
+        assertEquals("DOC777", results.get(0).getDocumentId());
+        assertEquals("María García", results.get(0).getClient().getName());
+        assertEquals(8L, results.get(1).getId());
+        assertEquals("DOC888", results.get(1).getClient().getDocumentId());
+        assertEquals("MISSING9", results.get(2).getDocumentId());
+        assertFalse(results.get(2).hasClient());
+
+        // Cuántos grupos forma la ventana depende de cuándo llegan los mensajes por la red:
+        // se comprueba solo que cada clave se buscó una vez
+        ArgumentCaptor<ClientLookupRequest> captor = ArgumentCaptor.forClass(ClientLookupRequest.class);
+        verify(clientService, atLeastOnce()).lookup(captor.capture());
+        assertEquals(List.of("DOC777", "MISSING9"),
+                captor.getAllValues().stream().flatMap(request -> request.getDocumentIds().stream()).toList());
+        assertEquals(List.of(8L),
+                captor.getAllValues().stream().flatMap(request -> request.getIds().stream()).toList());
+    }
+
+    @Test
+    @TestSecurity(user = "transactions", roles = {"USER"})
+    void testBatchLookup_ClosesAGroupAtBatchSizeAndTheLastOneWhenTheStreamCompletes() {
+        when(clientService.lookup(any(ClientLookupRequest.class))).thenAnswer(invocation -> {
+            ClientLookupRequest request = invocation.getArgument(0);
+            Map<Long, ClientResponse> ids = new LinkedHashMap<>();
+            request.getIds().forEach(id -> ids.put(id, clientResponse(id, "Cliente " + id, "DOC" + id, null)));
+            return ClientLookupResponse.builder().found(ids.size()).missing(0).documentIds(Map.of()).ids(ids).build();
+        });
+
+        // Sin ventana efectiva: los grupos solo se cierran por tamaño o al completarse el stream
+        List<LookupResult> results = clientGrpcService.batchLookup(Multi.createFrom().range(1, 6)
+                                .map(id -> LookupRequest.newBuilder().setId(id).build()),
+                        2, Duration.ofHours(1))
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), results.stream().map(LookupResult::getId).toList());
+        assertTrue(results.stream().allMatch(LookupResult::hasClient));
+        ArgumentCaptor<ClientLookupRequest> captor = ArgumentCaptor.forClass(ClientLookupRequest.class);
+        verify(clientService, times(3)).lookup(captor.capture());
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)),
+                captor.getAllValues().stream().map(ClientLookupRequest::getIds).toList());
+    }
+
+    @Test
+    @TestSecurity(user = "transactions", roles = {"USER"})
+    void testBatchLookup_WithoutKey_ReturnsInvalidArgument() {
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () ->
+                clientLookup.batchLookup(Multi.createFrom().item(LookupRequest.getDefaultInstance()))
+                        .collect().asList()
+                        .await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+        verify(clientService, never()).lookup(any());
+    }
+
+    @Test
+    @TestSecurity(user = "accounts", roles = {"USER"})
+    void testListClients_StreamsEveryPageFollowingTheCursor() {
+        when(clientService.getAll(null, "ACTIVE", 2)).thenReturn(page("CURSOR2",
+                clientResponse(1L, "Uno", "DOC001", null), clientResponse(2L, "Dos", "DOC002", null)));
+        when(clientService.getAll("CURSOR2", "ACTIVE", 2)).thenReturn(page(null,
+                clientResponse(3L, "Tres", "DOC003", null)));
+
+        List<Client> clients = clientLookup.listClients(ListClientsRequest.newBuilder().setStatus("ACTIVE").setPageSize(2).build())
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertEquals(List.of(1L, 2L, 3L), clients.stream().map(Client::getId).toList());
+        verify(clientService, times(2)).getAll(any(), any(), any());
+    }
+
+    private ClientResponse clientResponse(Long id, String name, String documentId, LocalDateTime createdAt) {
+        return ClientResponse.builder()
+                .id(id)
+                .name(name)
+                .documentId(documentId)
+                .email(documentId.toLowerCase() + "@example.com")
+                .status("ACTIVE")
+                .createdAt(createdAt)
+                .version(3L)
+                .build();
+    }
+
+    private ClientPageResponse page(String next, ClientResponse... items) {
+        return ClientPageResponse.builder().items(List.of(items)).limit(2).next(next).build();
+    }
+}
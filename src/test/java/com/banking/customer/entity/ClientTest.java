@@ -116,6 +116,35 @@ class ClientTest {
         assertEquals("BLOCKED", newClient.getStatus());
     }
 
+    @Test
+    void testOnCreate_NormalizesEmail() {
+        Client newClient = Client.builder()
+                .name("Jane Doe")
+                .documentId("87654321")
+                .email(" Jane.Doe@Example.COM ")
+                .build();
+
+        newClient.onCreate();
+
+        assertEquals("jane.doe@example.com", newClient.getEmailNormalized());
+        assertEquals(" Jane.Doe@Example.COM ", newClient.getEmail());
+    }
+
+    @Test
+    void testOnUpdate_RenormalizesChangedEmail() {
+        client.setEmail("New.Address@Example.com");
+
+        client.onUpdate();
+
+        assertEquals("new.address@example.com", client.getEmailNormalized());
+    }
+
+    @Test
+    void testNormalizeEmail() {
+        assertEquals("juan.perez@email.com", Client.normalizeEmail("  Juan.Perez@Email.COM"));
+        assertNull(Client.normalizeEmail(null));
+    }
+
     @Test
     void testOnUpdate_UpdatesTimestamp() throws InterruptedException {
         client.setCreatedAt(LocalDateTime.now());
@@ -162,14 +191,16 @@ class ClientTest {
     @Test
     void testAllArgsConstructor() {
         LocalDateTime now = LocalDateTime.now();
-        Client fullClient = new Client(1L, "Name", "DOC123", "email@test.com", "ACTIVE", now, now);
+        Client fullClient = new Client(1L, "Name", "DOC123", "email@test.com", "email@test.com", "ACTIVE", now, now, 4L);
 
         assertEquals(1L, fullClient.getId());
         assertEquals("Name", fullClient.getName());
         assertEquals("DOC123", fullClient.getDocumentId());
         assertEquals("email@test.com", fullClient.getEmail());
+        assertEquals("email@test.com", fullClient.getEmailNormalized());
         assertEquals("ACTIVE", fullClient.getStatus());
         assertEquals(now, fullClient.getCreatedAt());
         assertEquals(now, fullClient.getUpdatedAt());
+        assertEquals(4L, fullClient.getVersion());
     }
 }
@@ -0,0 +1,98 @@
+package com.banking.customer.entity.repository;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientReplicaRepositoryTest {
+
+    @Inject
+    ClientReplicaRepository replicaRepository;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        ids = QuarkusTransaction.requiringNew().call(() -> {
+            clientRepository.deleteAll();
+            List<Client> clients = List.of(
+                    client("REPLICA001", "ACTIVE"),
+                    client("REPLICA002", "BLOCKED"),
+                    client("REPLICA003", "ACTIVE"));
+            clients.forEach(clientRepository::persist);
+            return clients.stream().map(Client::getId).toList();
+        });
+    }
+
+    @Test
+    void testFindPage_ReadsCommittedRowsLikeThePrimary() {
+        List<ClientResponse> page = replicaRepository.findPage(0L, null, 2, null);
+        List<ClientResponse> primary = QuarkusTransaction.requiringNew().call(() -> clientRepository.findPage(0L, null, 2));
+
+        // limit + 1 filas para saber si hay página siguiente
+        assertEquals(3, page.size());
+        assertEquals(ids, page.stream().map(ClientResponse::getId).toList());
+        assertEquals(primary.get(0).getCreatedAt(), page.get(0).getCreatedAt());
+        assertEquals(0L, page.get(0).getVersion());
+        assertEquals("REPLICA002", page.get(1).getDocumentId());
+    }
+
+    @Test
+    void testFindPage_WithStatusAndFields_ReadsOnlyThoseColumns() {
+        List<ClientResponse> page = replicaRepository.findPage(ids.get(0), "ACTIVE", 10, ClientFields.parse("status,createdAt"));
+
+        assertEquals(1, page.size());
+        ClientResponse client = page.get(0);
+        assertEquals(ids.get(2), client.getId());
+        assertEquals("ACTIVE", client.getStatus());
+        assertNotNull(client.getCreatedAt());
+        assertEquals(0L, client.getVersion());
+        assertNull(client.getName());
+        assertNull(client.getDocumentId());
+    }
+
+    @Test
+    void testFindResponseByDocumentId() {
+        ClientResponse client = replicaRepository.findResponseByDocumentId("REPLICA002").orElseThrow();
+
+        assertEquals(ids.get(1), client.getId());
+        assertEquals("BLOCKED", client.getStatus());
+        assertEquals("replica002@example.com", client.getEmail());
+        assertTrue(replicaRepository.findResponseByDocumentId("MISSING").isEmpty());
+    }
+
+    @Test
+    void testCountByStatus() {
+        assertEquals(2, replicaRepository.countByStatus("ACTIVE"));
+        assertEquals(Map.of("ACTIVE", 2L, "BLOCKED", 1L), replicaRepository.countByStatus());
+    }
+
+    @Test
+    void testPositions_WithoutPostgres_AreEmpty() {
+        assertTrue(replicaRepository.primaryPosition().isEmpty());
+        assertTrue(replicaRepository.replayedPosition().isEmpty());
+    }
+
+    private static Client client(String documentId, String status) {
+        return Client.builder()
+                .name("Replica " + documentId)
+                .documentId(documentId)
+                .email(documentId.toLowerCase() + "@example.com")
+                .status(status)
+                .build();
+    }
+}
@@ -1,12 +1,22 @@
 package com.banking.customer.entity.repository;
 
 import com.banking.customer.entity.Client;
+import com.banking.customer.service.dto.ClientFields;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceException;
 import jakarta.transaction.Transactional;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -173,6 +183,101 @@ class ClientRepositoryTest {
         assertTrue(exists);
     }
 
+    @Test
+    @Transactional
+    void testExistsByEmail_IgnoresCaseAndSurroundingSpaces() {
+        clientRepository.persist(Client.builder()
+                .name("Juan Perez")
+                .documentId("CASE001")
+                .email("Juan.Perez@Email.com")
+                .status("ACTIVE")
+                .build());
+
+        assertTrue(clientRepository.existsByEmail("juan.perez@email.com"));
+        assertTrue(clientRepository.existsByEmail("  JUAN.PEREZ@EMAIL.COM "));
+    }
+
+    @Test
+    @Transactional
+    void testFindResponseByEmail_UsesNormalizedEmail() {
+        clientRepository.persist(Client.builder()
+                .name("Juan Perez")
+                .documentId("CASE002")
+                .email("Juan.Perez@Email.com")
+                .status("ACTIVE")
+                .build());
+
+        Optional<ClientResponse> found = clientRepository.findResponseByEmail("JUAN.perez@email.COM");
+
+        assertTrue(found.isPresent());
+        assertEquals("Juan.Perez@Email.com", found.get().getEmail());
+        assertTrue(clientRepository.findResponseByEmail("otro@email.com").isEmpty());
+    }
+
+    @Test
+    void testPersist_WithEmailDifferingOnlyInCase_ViolatesUniqueConstraint() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.persist(Client.builder()
+                .name("Juan Perez")
+                .documentId("CASE003")
+                .email("juan.perez@email.com")
+                .status("ACTIVE")
+                .build()));
+
+        PersistenceException exception = assertThrows(PersistenceException.class, () ->
+                QuarkusTransaction.requiringNew().run(() -> {
+                    clientRepository.persist(Client.builder()
+                            .name("Juan Perez Bis")
+                            .documentId("CASE004")
+                            .email("Juan.Perez@Email.com")
+                            .status("ACTIVE")
+                            .build());
+                    clientRepository.flush();
+                }));
+
+        assertTrue(exception.getMessage().toLowerCase().contains(Client.EMAIL_CONSTRAINT));
+    }
+
+    @Test
+    void testNormalizeEmails_BackfillsRowsWithoutNormalizedEmail() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.getEntityManager()
+                .createNativeQuery("insert into client (id, name, document_id, email, status, created_at) "
+                        + "values (nextval('client_id_seq'), 'Legacy Client', 'LEGACY01', ' Legacy@Example.com', 'ACTIVE', current_timestamp)")
+                .executeUpdate());
+
+        int updated = QuarkusTransaction.requiringNew().call(() -> clientRepository.normalizeEmails());
+
+        assertEquals(1, updated);
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> clientRepository.existsByEmail("legacy@example.com")));
+    }
+
+    @Test
+    void testNormalizeEmails_LeavesEmailsDifferingOnlyByCaseUnnormalized() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.persist(Client.builder()
+                    .name("Current Client")
+                    .documentId("LEGACY02")
+                    .email("shared@example.com")
+                    .status("ACTIVE")
+                    .build());
+            clientRepository.getEntityManager()
+                    .createNativeQuery("insert into client (id, name, document_id, email, status, created_at) values "
+                            + "(nextval('client_id_seq'), 'Legacy Client 3', 'LEGACY03', 'Shared@Example.com', 'ACTIVE', current_timestamp), "
+                            + "(nextval('client_id_seq'), 'Legacy Client 4', 'LEGACY04', 'Other@Example.com ', 'ACTIVE', current_timestamp), "
+                            + "(nextval('client_id_seq'), 'Legacy Client 5', 'LEGACY05', 'other@example.com', 'ACTIVE', current_timestamp), "
+                            + "(nextval('client_id_seq'), 'Legacy Client 6', 'LEGACY06', 'Unique@Example.com', 'ACTIVE', current_timestamp)")
+                    .executeUpdate();
+        });
+
+        Map<String, List<Long>> collisions = QuarkusTransaction.requiringNew().call(() -> clientRepository.findEmailCollisions());
+        int updated = QuarkusTransaction.requiringNew().call(() -> clientRepository.normalizeEmails());
+
+        assertEquals(List.of("other@example.com", "shared@example.com"), List.copyOf(collisions.keySet()));
+        assertEquals(2, collisions.get("shared@example.com").size());
+        assertEquals(1, updated);
+        assertEquals(3, QuarkusTransaction.requiringNew().call(() -> clientRepository.countWithoutNormalizedEmail()));
+        assertTrue(QuarkusTransaction.requiringNew().call(() -> clientRepository.existsByEmail("UNIQUE@example.com")));
+    }
+
     @Test
     @Transactional
     void testExistsByEmail_WhenNotExists_ReturnsFalse() {
@@ -206,6 +311,126 @@ class ClientRepositoryTest {
         assertEquals(2, clients.size());
     }
 
+    @Test
+    @Transactional
+    void testFindPage_ReturnsRowsAfterCursorInIdOrder() {
+        Client client1 = Client.builder()
+                .name("Client 1")
+                .documentId("DOC001")
+                .email("client1@example.com")
+                .status("ACTIVE")
+                .build();
+
+        Client client2 = Client.builder()
+                .name("Client 2")
+                .documentId("DOC002")
+                .email("client2@example.com")
+                .status("INACTIVE")
+                .build();
+
+        Client client3 = Client.builder()
+                .name("Client 3")
+                .documentId("DOC003")
+                .email("client3@example.com")
+                .status("ACTIVE")
+                .build();
+
+        clientRepository.persist(client1);
+        clientRepository.persist(client2);
+        clientRepository.persist(client3);
+
+        List<ClientResponse> firstPage = clientRepository.findPage(0L, null, 2);
+        assertEquals(3, firstPage.size());
+        assertEquals(client1.getId(), firstPage.get(0).getId());
+
+        List<ClientResponse> afterFirst = clientRepository.findPage(client1.getId(), null, 2);
+        assertEquals(2, afterFirst.size());
+        assertEquals(client2.getId(), afterFirst.get(0).getId());
+
+        List<ClientResponse> activeOnly = clientRepository.findPage(0L, "ACTIVE", 10);
+        assertEquals(2, activeOnly.size());
+        assertTrue(activeOnly.stream().allMatch(c -> "ACTIVE".equals(c.getStatus())));
+    }
+
+    @Test
+    @Transactional
+    void testFindPage_WithFields_ReadsOnlyThoseColumnsPlusIdAndVersion() {
+        clientRepository.persist(Client.builder()
+                .name("Sparse Client")
+                .documentId("SPARSE01")
+                .email("sparse@example.com")
+                .status("BLOCKED")
+                .build());
+        clientRepository.flush();
+
+        List<ClientResponse> page = clientRepository.findPage(0L, "BLOCKED", 10, ClientFields.parse("status"));
+
+        assertEquals(1, page.size());
+        ClientResponse client = page.get(0);
+        assertNotNull(client.getId());
+        assertEquals(0L, client.getVersion());
+        assertEquals("BLOCKED", client.getStatus());
+        assertNull(client.getName());
+        assertNull(client.getEmail());
+        assertNull(client.getCreatedAt());
+    }
+
+    @Test
+    @Transactional
+    void testFindResponseByEmail_WithFields_ReadsOnlyThoseColumns() {
+        clientRepository.persist(Client.builder()
+                .name("Sparse Client")
+                .documentId("SPARSE02")
+                .email("Sparse2@Example.com")
+                .status("ACTIVE")
+                .build());
+
+        Optional<ClientResponse> found = clientRepository.findResponseByEmail("sparse2@example.com", ClientFields.parse("name"));
+
+        assertTrue(found.isPresent());
+        assertEquals("Sparse Client", found.get().getName());
+        assertNull(found.get().getDocumentId());
+        assertTrue(clientRepository.findResponseByEmail("otro@example.com", ClientFields.parse("name")).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void testFindResponsesByKeys_MatchesDocumentsOrIdsInOneQuery() {
+        Client first = Client.builder().name("Lookup One").documentId("LKP001").email("lkp1@example.com").status("ACTIVE").build();
+        Client second = Client.builder().name("Lookup Two").documentId("LKP002").email("lkp2@example.com").status("ACTIVE").build();
+        Client third = Client.builder().name("Lookup Three").documentId("LKP003").email("lkp3@example.com").status("ACTIVE").build();
+        clientRepository.persist(List.of(first, second, third));
+        clientRepository.flush();
+
+        List<String> both = clientRepository.findResponsesByKeys(List.of("LKP001", "MISSING"), List.of(second.getId(), 999_999L))
+                .stream().map(ClientResponse::getDocumentId).sorted().toList();
+
+        assertEquals(List.of("LKP001", "LKP002"), both);
+        assertEquals("Lookup Three", clientRepository.findResponsesByKeys(List.of("LKP003"), List.of()).get(0).getName());
+        assertEquals("LKP002", clientRepository.findResponsesByKeys(List.of(), List.of(second.getId())).get(0).getDocumentId());
+        assertTrue(clientRepository.findResponsesByKeys(List.of(), List.of()).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void testFindResponseByDocumentId_DoesNotLoadEntities() {
+        clientRepository.persist(Client.builder()
+                .name("Projected Client")
+                .documentId("PROJ001")
+                .email("projected@example.com")
+                .status("ACTIVE")
+                .build());
+        clientRepository.flush();
+        clientRepository.getEntityManager().clear();
+
+        Optional<ClientResponse> found = clientRepository.findResponseByDocumentId("PROJ001");
+
+        assertTrue(found.isPresent());
+        assertEquals("Projected Client", found.get().getName());
+        assertEquals(0, clientRepository.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+        assertFalse(clientRepository.findResponseByDocumentId("MISSING").isPresent());
+    }
+
     @Test
     @Transactional
     void testUpdateClient() {
@@ -227,6 +452,57 @@ class ClientRepositoryTest {
         assertEquals("updated@example.com", updated.getEmail());
     }
 
+    @Test
+    void testVersion_StartsAtZeroAndIncrementsOnEveryWrite() {
+        Long id = QuarkusTransaction.requiringNew().call(() -> {
+            Client client = Client.builder()
+                    .name("Versioned Client")
+                    .documentId("VER001")
+                    .email("versioned@example.com")
+                    .status("ACTIVE")
+                    .build();
+            clientRepository.persist(client);
+            return client.getId();
+        });
+        assertEquals(0L, QuarkusTransaction.requiringNew().call(() -> clientRepository.findById(id).getVersion()));
+
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.findById(id).setName("Versioned Client Renamed"));
+        assertEquals(1L, QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.findResponseByDocumentId("VER001").orElseThrow().getVersion()));
+
+        // Los UPDATE masivos no pasan por la entidad y deben incrementar la versión explícitamente
+        List<ClientResponse> previous = QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.updateStatusByIds(List.of(id), "BLOCKED", LocalDateTime.now()));
+        assertEquals(1, previous.size());
+        assertEquals("ACTIVE", previous.get(0).getStatus());
+        assertEquals(1L, previous.get(0).getVersion());
+        assertEquals(2L, QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.findResponseByDocumentId("VER001").orElseThrow().getVersion()));
+    }
+
+    @Test
+    void testUpdate_WithStaleLoadedVersion_FailsWithOptimisticLock() {
+        Long id = QuarkusTransaction.requiringNew().call(() -> {
+            Client client = Client.builder()
+                    .name("Contended Client")
+                    .documentId("VER002")
+                    .email("contended@example.com")
+                    .status("ACTIVE")
+                    .build();
+            clientRepository.persist(client);
+            return client.getId();
+        });
+
+        assertThrows(OptimisticLockException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            Client client = clientRepository.findById(id);
+            // Otra transacción modifica la fila entre la lectura y el flush
+            QuarkusTransaction.requiringNew().run(() -> clientRepository.findById(id).setName("Concurrent Writer"));
+            client.setName("Late Writer");
+            clientRepository.flush();
+        }));
+        assertEquals("Concurrent Writer", QuarkusTransaction.requiringNew().call(() -> clientRepository.findById(id).getName()));
+    }
+
     @Test
     @Transactional
     void testDeleteClient() {
@@ -270,4 +546,87 @@ class ClientRepositoryTest {
 
         assertEquals(2, count);
     }
+
+    @Test
+    void testUpdateById_ReportsWrittenUnchangedAndStaleRowsFromTheStatement() {
+        Long id = QuarkusTransaction.requiringNew().call(() -> {
+            Client client = Client.builder()
+                    .name("Updatable Client")
+                    .documentId("UPD001")
+                    .email("updatable@example.com")
+                    .status("ACTIVE")
+                    .build();
+            clientRepository.persist(client);
+            return client.getId();
+        });
+        LocalDateTime now = LocalDateTime.now();
+
+        ClientUpdate written = QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.updateById(id, "Renamed Client", null, null, null, now, 0L)).orElseThrow();
+        assertTrue(written.written());
+        assertEquals("Updatable Client", written.previous().getName());
+        assertEquals(0L, written.previous().getVersion());
+
+        // Sin cambios la fila no se escribe y la versión no avanza
+        ClientUpdate unchanged = QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.updateById(id, "Renamed Client", "UPD001", null, null, now, 1L)).orElseThrow();
+        assertFalse(unchanged.written());
+        assertEquals(1L, unchanged.previous().getVersion());
+
+        ClientUpdate stale = QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.updateById(id, "Late Writer", null, null, null, now, 0L)).orElseThrow();
+        assertFalse(stale.written());
+        assertEquals(1L, stale.previous().getVersion());
+        assertEquals("Renamed Client", QuarkusTransaction.requiringNew().call(() -> clientRepository.findById(id).getName()));
+
+        assertTrue(QuarkusTransaction.requiringNew().call(() ->
+                clientRepository.updateById(id + 1000, "Missing", null, null, null, now, null)).isEmpty());
+    }
+
+    @Test
+    void testUpdateStatement_OnPostgres_ReportsTheCurrentRowEvenWhenItDoesNotWrite() {
+        // H2 ejecuta la variante OLD TABLE: aquí se fija la sentencia que recibe PostgreSQL
+        Map<String, Object> parameters = new HashMap<>();
+
+        String sql = ClientRepository.updateStatement("New Name", null, "New@Example.com", null, true, true, parameters);
+
+        assertEquals("with p as (select id, name, document_id, email, status, created_at, updated_at, version "
+                + "from client where id = :id for update), "
+                + "u as (update client c set name = :name, email = :email, email_normalized = :emailNormalized, "
+                + "updated_at = :now, version = c.version + 1 "
+                + "from p where c.id = p.id and p.version = :version and (c.name <> :name or c.email <> :email) "
+                + "returning c.id) "
+                + "select p.id, p.name, p.document_id, p.email, p.status, p.created_at, p.updated_at, p.version, "
+                + "exists (select 1 from u) as written from p", sql);
+        assertEquals(Map.of("name", "New Name", "email", "New@Example.com", "emailNormalized", "new@example.com"), parameters);
+    }
+
+    @Test
+    void testStatusStatements_OnPostgres_LockAndReturnTheChangedRowsInOneStatement() {
+        String byIds = ClientRepository.statusByIdsStatement(true);
+        assertEquals("update client c set status = :status, updated_at = :now, version = c.version + 1 "
+                + "from (select id as previous_id, name as previous_name, document_id as previous_document_id, "
+                + "email as previous_email, status as previous_status, created_at as previous_created_at, "
+                + "updated_at as previous_updated_at, version as previous_version "
+                + "from client where id in (:ids) and status <> :status for update) p "
+                + "where c.id = p.previous_id returning p.previous_id, p.previous_name, p.previous_document_id, "
+                + "p.previous_email, p.previous_status, p.previous_created_at, p.previous_updated_at, p.previous_version", byIds);
+
+        String byRange = ClientRepository.statusByRangeStatement(
+                new ClientCriteria("ACTIVE", LocalDateTime.of(2024, 1, 1, 0, 0), null), true);
+        assertTrue(byRange.contains("from client where id > :fromId and id <= :toId and status <> :status "
+                + "and status = :currentStatus and created_at >= :createdFrom for update) p "));
+        assertTrue(ClientRepository.statusByRangeStatement(new ClientCriteria(null, null, null), false)
+                .startsWith("select id, name, document_id, email, status, created_at, updated_at, version from old table ("));
+    }
+
+    @Test
+    void testDeactivateStatement_OnPostgres_LocksThePreviousRowWithoutVersionCheck() {
+        String sql = ClientRepository.deactivateStatement(true);
+
+        assertTrue(sql.startsWith("update client c set status = 'INACTIVE', "));
+        assertTrue(sql.contains("from client where id = :id for update) p where c.id = p.previous_id returning p.previous_id, "));
+        assertFalse(sql.contains(":version"));
+        assertTrue(ClientRepository.deactivateStatement(false).startsWith("select "));
+    }
 }
@@ -0,0 +1,109 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientBatchItemResult;
+import com.banking.customer.service.dto.ClientBatchResponse;
+import com.banking.customer.service.dto.ClientRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientBatchServiceTest {
+
+    @Inject
+    ClientBatchService clientBatchService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            clientRepository.persist(Client.builder()
+                    .name("Existing Client")
+                    .documentId("EXIST001")
+                    .email("existing@example.com")
+                    .status("ACTIVE")
+                    .build());
+        });
+    }
+
+    @Test
+    void testCreateBatch_WithValidClients_CreatesAll() {
+        List<ClientRequest> requests = IntStream.range(0, 120)
+                .mapToObj(i -> request("Batch Client " + i, String.format("BATCH%04d", i), "batch" + i + "@example.com"))
+                .toList();
+
+        ClientBatchResponse response = clientBatchService.createBatch(requests);
+
+        assertEquals(120, response.getReceived());
+        assertEquals(120, response.getCreated());
+        assertEquals(0, response.getRejected());
+        assertTrue(response.getResults().stream().allMatch(r -> ClientBatchItemResult.CREATED.equals(r.getStatus())));
+        assertNotNull(response.getResults().get(119).getClient().getId());
+        assertEquals(121, QuarkusTransaction.requiringNew().call(() -> clientRepository.count()));
+    }
+
+    @Test
+    void testCreateBatch_WithMixedClients_ReturnsResultPerItem() {
+        List<ClientRequest> requests = new ArrayList<>(Arrays.asList(
+                request("Valid Client", "VALID001", "valid@example.com"),
+                request("X", "BAD", "not-an-email"),
+                request("Existing Doc", "EXIST001", "other@example.com"),
+                request("Repeated Doc", "VALID001", "repeated@example.com"),
+                null,
+                request("Existing Email", "VALID002", "Existing@Example.com"),
+                request("Repeated Email", "VALID003", "VALID@example.com")
+        ));
+
+        ClientBatchResponse response = clientBatchService.createBatch(requests);
+
+        assertEquals(7, response.getReceived());
+        assertEquals(1, response.getCreated());
+        assertEquals(6, response.getRejected());
+        assertEquals(ClientBatchItemResult.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(ClientBatchItemResult.INVALID, response.getResults().get(1).getStatus());
+        assertEquals(3, response.getResults().get(1).getErrors().size());
+        assertEquals(ClientBatchItemResult.DUPLICATE, response.getResults().get(2).getStatus());
+        assertEquals(ClientBatchItemResult.DUPLICATE, response.getResults().get(3).getStatus());
+        assertEquals(ClientBatchItemResult.INVALID, response.getResults().get(4).getStatus());
+        assertEquals(List.of("Ya existe un cliente con el email: Existing@Example.com"), response.getResults().get(5).getErrors());
+        assertEquals(List.of("Email repetido en el lote: VALID@example.com"), response.getResults().get(6).getErrors());
+        assertEquals(2, QuarkusTransaction.requiringNew().call(() -> clientRepository.count()));
+    }
+
+    @Test
+    void testCreateBatch_WhenEmpty_ThrowsException() {
+        assertThrows(InvalidClientRequestException.class, () -> clientBatchService.createBatch(List.of()));
+    }
+
+    @Test
+    void testCreateBatch_WhenTooLarge_ThrowsException() {
+        List<ClientRequest> requests = IntStream.range(0, 1001)
+                .mapToObj(i -> request("Client " + i, String.format("MAX%05d", i), "max" + i + "@example.com"))
+                .toList();
+
+        assertThrows(InvalidClientRequestException.class, () -> clientBatchService.createBatch(requests));
+    }
+
+    private ClientRequest request(String name, String documentId, String email) {
+        return ClientRequest.builder()
+                .name(name)
+                .documentId(documentId)
+                .email(email)
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientRequest;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientCreateConcurrencyTest {
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void testCreate_WithDuplicateDocumentId_ThrowsConflict() {
+        clientService.create(request("RACE0001", "first@example.com"));
+
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
+            clientService.create(request("RACE0001", "second@example.com"))
+        );
+
+        assertTrue(exception.getMessage().contains("documento"));
+    }
+
+    @Test
+    void testCreate_WithDuplicateEmail_ThrowsConflict() {
+        clientService.create(request("RACE0002", "same@example.com"));
+
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
+            clientService.create(request("RACE0003", "same@example.com"))
+        );
+
+        assertTrue(exception.getMessage().contains("email"));
+    }
+
+    @Test
+    void testCreate_WhenConcurrentWithSameDocumentId_OnlyOneSucceeds() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    clientService.create(request("RACE0100", "race" + index + "@example.com"));
+                    created.incrementAndGet();
+                } catch (ClientAlreadyExistsException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(1, created.get());
+        assertEquals(threads - 1, conflicts.get());
+        assertEquals(1, QuarkusTransaction.requiringNew().call(() -> clientRepository.count("documentId", "RACE0100")));
+    }
+
+    private ClientRequest request(String documentId, String email) {
+        return ClientRequest.builder()
+                .name("Race Client")
+                .documentId(documentId)
+                .email(email)
+                .build();
+    }
+}
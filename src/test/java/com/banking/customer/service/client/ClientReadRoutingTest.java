@@ -0,0 +1,252 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.repository.ClientReplicaRepository;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.security.TestSecurity;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Enrutado de lecturas entre réplica y primario. H2 no expone posiciones WAL: se simulan con un
+ * ClientReplicaRepository falso cuyas lecturas devuelven datos "retrasados", mientras que el primario
+ * es la base de datos real.
+ */
+@QuarkusTest
+class ClientReadRoutingTest {
+
+    // La última posición reproducida conocida solo avanza: cada test usa posiciones mayores que el anterior
+    private static final AtomicLong POSITIONS = new AtomicLong(1L << 40);
+
+    @Inject
+    ClientReadRouting readRouting;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ClientCache clientCache;
+
+    @InjectMock
+    ClientReplicaRepository replicaRepository;
+
+    private long position;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+        clientCache.clear();
+        position = POSITIONS.addAndGet(1L << 32);
+    }
+
+    @Test
+    void testTokenFormat_IsPostgresLsn() {
+        assertEquals("16/B374D848", ClientReadRouting.format(0x16B374D848L));
+        assertEquals(0x16B374D848L, ClientReadRouting.parse("16/b374d848"));
+        assertEquals(0L, ClientReadRouting.parse("0/0"));
+        for (String invalid : List.of("", "abc", "1/", "/1", "-1/0", "123456789/0", "1/2/3")) {
+            assertThrows(InvalidClientRequestException.class, () -> ClientReadRouting.parse(invalid), invalid);
+        }
+    }
+
+    @Test
+    void testWriteToken_IsThePrimaryPositionAfterTheCommitOfTheRecordedWrite() {
+        when(replicaRepository.primaryPosition()).thenReturn(Optional.of(position));
+        assertNull(readRouting.writeToken());
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            readRouting.recordWrite();
+            readRouting.recordWrite();
+        });
+        assertEquals(ClientReadRouting.format(position), readRouting.writeToken());
+        // Una lectura de la posición por transacción
+        verify(replicaRepository, times(1)).primaryPosition();
+
+        when(replicaRepository.primaryPosition()).thenReturn(Optional.of(position + 1));
+        assertThrows(IllegalStateException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            readRouting.recordWrite();
+            throw new IllegalStateException("rollback");
+        }));
+        assertEquals(ClientReadRouting.format(position), readRouting.writeToken());
+
+        // Varias transacciones en la petición (p. ej. bloques del cambio masivo): la mayor posición
+        QuarkusTransaction.requiringNew().run(readRouting::recordWrite);
+        assertEquals(ClientReadRouting.format(position + 1), readRouting.writeToken());
+    }
+
+    @Test
+    void testWriteToken_IsNotLeftOnTheThreadForTheNextRequest() throws Exception {
+        when(replicaRepository.primaryPosition()).thenReturn(Optional.of(position));
+        ManagedContext requestContext = Arc.container().requestContext();
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            // Una escritura sin petición activa (gRPC, tareas) y otra en una petición que no recoge su token
+            worker.submit(() -> QuarkusTransaction.requiringNew().run(readRouting::recordWrite)).get();
+            worker.submit(() -> {
+                requestContext.activate();
+                try {
+                    QuarkusTransaction.requiringNew().run(readRouting::recordWrite);
+                } finally {
+                    requestContext.terminate();
+                }
+            }).get();
+
+            // La siguiente petición en el mismo hilo no hereda ninguna de las dos
+            String token = worker.submit(() -> {
+                requestContext.activate();
+                try {
+                    return readRouting.writeToken();
+                } finally {
+                    requestContext.terminate();
+                }
+            }).get();
+            assertNull(token);
+        } finally {
+            worker.shutdown();
+        }
+        // La posición sí cuenta para la cache de la instancia
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position - 1));
+        assertFalse(readRouting.useReplicaForCache());
+    }
+
+    @Test
+    void testUseReplica_WithTokenAhead_UsesPrimaryUntilTheReplicaReplaysIt() {
+        String token = ClientReadRouting.format(position);
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position - 1));
+
+        assertTrue(readRouting.useReplica(null));
+        assertFalse(readRouting.useReplica(token));
+
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position));
+        assertTrue(readRouting.useReplica(token));
+
+        // Posición ya alcanzada: no se vuelve a consultar a la réplica
+        assertTrue(readRouting.useReplica(ClientReadRouting.format(position - 10)));
+        verify(replicaRepository, times(2)).replayedPosition();
+        assertThrows(InvalidClientRequestException.class, () -> readRouting.useReplica("not-a-token"));
+    }
+
+    @Test
+    void testUseReplicaForCache_WaitsForTheLastWriteOfThisInstance() {
+        when(replicaRepository.primaryPosition()).thenReturn(Optional.of(position));
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position - 1));
+        QuarkusTransaction.requiringNew().run(readRouting::recordWrite);
+
+        assertFalse(readRouting.useReplicaForCache());
+        assertFalse(readRouting.replicaCaughtUp());
+
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position));
+        assertTrue(readRouting.useReplicaForCache());
+        assertTrue(readRouting.replicaCaughtUp());
+    }
+
+    @Test
+    void testUseReplicaForCache_UsesPrimaryFromTheWriteUntilItsPositionIsKnown() {
+        // La réplica ya reproduce todas las escrituras anteriores de la instancia
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position - 1));
+        List<Boolean> duringCommit = new ArrayList<>();
+        when(replicaRepository.primaryPosition()).thenAnswer(invocation -> {
+            duringCommit.add(readRouting.useReplicaForCache());
+            return Optional.of(position);
+        });
+
+        QuarkusTransaction.requiringNew().run(() -> {
+            readRouting.recordWrite();
+            assertFalse(readRouting.useReplicaForCache());
+        });
+
+        // Tras el commit y mientras se lee su posición tampoco: es cuando se invalida la cache
+        assertEquals(List.of(false), duringCommit);
+        assertFalse(readRouting.useReplicaForCache());
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position));
+        assertTrue(readRouting.useReplicaForCache());
+    }
+
+    @Test
+    @TestSecurity(user = "adminUser", roles = {"ADMIN"})
+    void testReadYourWrites_TokenFromWriteSendsReadsToPrimaryWhileReplicaLags() {
+        when(replicaRepository.primaryPosition()).thenReturn(Optional.of(position));
+        when(replicaRepository.replayedPosition()).thenReturn(Optional.of(position - 1));
+        ClientResponse stale = ClientResponse.builder().id(1L).name("Stale Replica Row").documentId("ROUTE001").version(0L).build();
+        when(replicaRepository.findPage(anyLong(), any(), anyInt(), any())).thenReturn(List.of(stale));
+        when(replicaRepository.findResponseByDocumentId(anyString())).thenReturn(Optional.of(stale));
+
+        String token = given()
+            .contentType(ContentType.JSON)
+            .body(ClientRequest.builder().name("Routed Client").documentId("ROUTE001").email("route@example.com").build())
+            .when()
+            .post("/api/v1/clients")
+            .then()
+            .statusCode(201)
+            .header("X-Consistency-Token", ClientReadRouting.format(position))
+            .extract().header("X-Consistency-Token");
+
+        // Sin token la página sale de la réplica, que aún no tiene el alta
+        given()
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .body("items.name", contains("Stale Replica Row"));
+
+        given()
+            .header("X-Consistency-Token", token)
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(200)
+            .body("items.name", contains("Routed Client"));
+
+        given()
+            .header("X-Consistency-Token", token)
+            .when()
+            .get("/api/v1/clients/document/ROUTE001")
+            .then()
+            .statusCode(200)
+            .body("name", is("Routed Client"));
+
+        // La cache tampoco carga desde la réplica hasta que reproduce la escritura de esta instancia
+        given()
+            .when()
+            .get("/api/v1/clients/document/ROUTE001")
+            .then()
+            .statusCode(200)
+            .body("name", is("Routed Client"));
+        verify(replicaRepository, never()).findResponseByDocumentId(anyString());
+
+        given()
+            .header("X-Consistency-Token", "not-a-token")
+            .when()
+            .get("/api/v1/clients")
+            .then()
+            .statusCode(400);
+    }
+}
@@ -2,54 +2,152 @@ package com.banking.customer.service.client;
 
 import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
 import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
 import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
 import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.entity.repository.ClientUpdate;
+import com.banking.customer.service.dto.ClientLookupRequest;
+import com.banking.customer.service.dto.ClientLookupResponse;
+import com.banking.customer.service.dto.ClientPageResponse;
 import com.banking.customer.service.dto.ClientRequest;
 import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientSearchResponse;
+import com.banking.customer.service.outbox.ClientOutbox;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @QuarkusTest
 class ClientServiceTest {
 
+    private final AtomicLong ids = new AtomicLong(900_000);
+
     @Inject
     ClientService clientService;
 
     @InjectMock
     ClientRepository clientRepository;
 
+    @InjectMock
+    ClientOutbox outbox;
+
+    // Sin stubs todas las lecturas van al primario (el ClientRepository simulado)
+    @InjectMock
+    ClientReadRouting readRouting;
+
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientNameIndex nameIndex;
+
+    @BeforeEach
+    void clearCache() {
+        clientCache.clear();
+        doAnswer(assignId()).when(clientRepository).persist(any(Client.class));
+    }
+
+    @Test
+    void testGetAllClients_ReturnsFirstPage() {
+        Client client1 = createTestClient(1L, "John Doe", "DOC001", "john@example.com", "ACTIVE");
+        Client client2 = createTestClient(2L, "Jane Doe", "DOC002", "jane@example.com", "ACTIVE");
+
+        when(clientRepository.findPage(0L, null, 50)).thenReturn(responses(client1, client2));
+
+        ClientPageResponse result = clientService.getAll(null, null, null);
+
+        assertEquals(2, result.getItems().size());
+        assertEquals("John Doe", result.getItems().get(0).getName());
+        assertEquals("Jane Doe", result.getItems().get(1).getName());
+        assertEquals(50, result.getLimit());
+        assertNull(result.getNext());
+        verify(clientRepository, times(1)).findPage(0L, null, 50);
+    }
+
     @Test
-    void testGetAllClients_ReturnsAllClients() {
+    void testGetAllClients_WhenMoreRows_ReturnsNextCursor() {
         Client client1 = createTestClient(1L, "John Doe", "DOC001", "john@example.com", "ACTIVE");
         Client client2 = createTestClient(2L, "Jane Doe", "DOC002", "jane@example.com", "ACTIVE");
+        Client client3 = createTestClient(3L, "Jim Doe", "DOC003", "jim@example.com", "ACTIVE");
+
+        when(clientRepository.findPage(0L, "ACTIVE", 2)).thenReturn(responses(client1, client2, client3));
+
+        ClientPageResponse first = clientService.getAll(null, "active", 2);
+
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNext());
+
+        when(clientRepository.findPage(2L, "ACTIVE", 2)).thenReturn(responses(client3));
+
+        ClientPageResponse second = clientService.getAll(first.getNext(), "ACTIVE", 2);
 
-        when(clientRepository.listAll()).thenReturn(Arrays.asList(client1, client2));
+        assertEquals(1, second.getItems().size());
+        assertEquals("Jim Doe", second.getItems().get(0).getName());
+        assertNull(second.getNext());
+    }
+
+    @Test
+    void testGetAllClients_LimitIsCappedToMaximum() {
+        when(clientRepository.findPage(0L, null, 500)).thenReturn(List.of());
+
+        ClientPageResponse result = clientService.getAll(null, null, 10_000);
+
+        assertEquals(500, result.getLimit());
+        verify(clientRepository).findPage(0L, null, 500);
+    }
 
-        List<ClientResponse> result = clientService.getAll();
+    @Test
+    void testGetAllClients_WithInvalidCursor_ThrowsException() {
+        assertThrows(InvalidClientRequestException.class, () ->
+            clientService.getAll("not-a-cursor", null, null)
+        );
+    }
+
+    @Test
+    void testGetAllClients_WithInvalidLimit_ThrowsException() {
+        assertThrows(InvalidClientRequestException.class, () ->
+            clientService.getAll(null, null, 0)
+        );
+    }
 
-        assertEquals(2, result.size());
-        assertEquals("John Doe", result.get(0).getName());
-        assertEquals("Jane Doe", result.get(1).getName());
-        verify(clientRepository, times(1)).listAll();
+    @Test
+    void testGetAllClients_WithInvalidStatus_ThrowsException() {
+        assertThrows(InvalidClientStatusException.class, () ->
+            clientService.getAll(null, "DELETED", null)
+        );
     }
 
     @Test
     void testGetClientByDocumentId_WhenExists_ReturnsClient() {
         Client client = createTestClient(1L, "John Doe", "DOC123", "john@example.com", "ACTIVE");
 
-        when(clientRepository.findByDocumentId("DOC123")).thenReturn(Optional.of(client));
+        when(clientRepository.findResponseByDocumentId("DOC123")).thenReturn(Optional.of(ClientResponse.fromEntity(client)));
 
         ClientResponse result = clientService.getClientByDocumentId("DOC123");
 
@@ -60,13 +158,81 @@ class ClientServiceTest {
 
     @Test
     void testGetClientByDocumentId_WhenNotExists_ThrowsException() {
-        when(clientRepository.findByDocumentId("NONEXISTENT")).thenReturn(Optional.empty());
+        when(clientRepository.findResponseByDocumentId("NONEXISTENT")).thenReturn(Optional.empty());
 
         assertThrows(ClientNotFoundException.class, () ->
             clientService.getClientByDocumentId("NONEXISTENT")
         );
     }
 
+    @Test
+    void testGetClientByDocumentId_SecondLookup_IsServedFromCache() {
+        Client client = createTestClient(1L, "John Doe", "DOC321", "john@example.com", "ACTIVE");
+
+        when(clientRepository.findResponseByDocumentId("DOC321")).thenReturn(Optional.of(ClientResponse.fromEntity(client)));
+
+        clientService.getClientByDocumentId("DOC321");
+        ClientResponse cached = clientService.getClientByDocumentId("DOC321");
+
+        assertEquals("John Doe", cached.getName());
+        verify(clientRepository, times(1)).findResponseByDocumentId("DOC321");
+    }
+
+    @Test
+    void testGetClientByDocumentId_WhenNotExists_IsNotCached() {
+        when(clientRepository.findResponseByDocumentId("MISSING1")).thenReturn(Optional.empty());
+
+        assertThrows(ClientNotFoundException.class, () -> clientService.getClientByDocumentId("MISSING1"));
+        assertThrows(ClientNotFoundException.class, () -> clientService.getClientByDocumentId("MISSING1"));
+
+        verify(clientRepository, times(2)).findResponseByDocumentId("MISSING1");
+    }
+
+    @Test
+    void testGetClientById_WhenExists_ReturnsClient() {
+        Client client = createTestClient(5L, "John Doe", "DOC555", "john@example.com", "ACTIVE");
+
+        when(clientRepository.findResponseById(5L)).thenReturn(Optional.of(ClientResponse.fromEntity(client)));
+
+        ClientResponse result = clientService.getClientById(5L);
+
+        assertEquals(5L, result.getId());
+        assertEquals("DOC555", result.getDocumentId());
+    }
+
+    @Test
+    void testGetClientById_WhenNotExists_ThrowsException() {
+        when(clientRepository.findResponseById(404L)).thenReturn(Optional.empty());
+
+        assertThrows(ClientNotFoundException.class, () -> clientService.getClientById(404L));
+    }
+
+    @Test
+    void testUpdateClient_EvictsOldAndNewDocumentIdFromCache() {
+        Client existingClient = createTestClient(1L, "Client", "OLD999", "client@example.com", "ACTIVE");
+        Client otherClient = createTestClient(2L, "Other", "NEW999", "other@example.com", "ACTIVE");
+
+        when(clientRepository.findResponseByDocumentId("OLD999")).thenReturn(Optional.of(ClientResponse.fromEntity(existingClient)));
+        when(clientRepository.findResponseByDocumentId("NEW999")).thenReturn(Optional.of(ClientResponse.fromEntity(otherClient)));
+        clientService.getClientByDocumentId("OLD999");
+        clientService.getClientByDocumentId("NEW999");
+
+        ClientRequest request = ClientRequest.builder()
+                .name("Client")
+                .documentId("NEW999")
+                .email("client@example.com")
+                .build();
+
+        stubUpdate(existingClient);
+
+        clientService.update(1L, request);
+        clientService.getClientByDocumentId("OLD999");
+        clientService.getClientByDocumentId("NEW999");
+
+        verify(clientRepository, times(2)).findResponseByDocumentId("OLD999");
+        verify(clientRepository, times(2)).findResponseByDocumentId("NEW999");
+    }
+
     @Test
     void testCreateClient_WithValidData_CreatesClient() {
         ClientRequest request = ClientRequest.builder()
@@ -80,7 +246,7 @@ class ClientServiceTest {
         when(clientRepository.existsByEmail("new@example.com")).thenReturn(false);
 
         ArgumentCaptor<Client> clientCaptor = ArgumentCaptor.forClass(Client.class);
-        doNothing().when(clientRepository).persist(clientCaptor.capture());
+        doAnswer(assignId()).when(clientRepository).persist(clientCaptor.capture());
 
         ClientResponse result = clientService.create(request);
 
@@ -89,6 +255,7 @@ class ClientServiceTest {
         assertEquals("NEW123", capturedClient.getDocumentId());
         assertEquals("new@example.com", capturedClient.getEmail());
         assertEquals("ACTIVE", capturedClient.getStatus());
+        verify(outbox).record(ClientOutboxEvent.CREATED, result);
     }
 
     @Test
@@ -103,7 +270,7 @@ class ClientServiceTest {
         when(clientRepository.existsByEmail("new2@example.com")).thenReturn(false);
 
         ArgumentCaptor<Client> clientCaptor = ArgumentCaptor.forClass(Client.class);
-        doNothing().when(clientRepository).persist(clientCaptor.capture());
+        doAnswer(assignId()).when(clientRepository).persist(clientCaptor.capture());
 
         clientService.create(request);
 
@@ -119,13 +286,13 @@ class ClientServiceTest {
                 .email("duplicate@example.com")
                 .build();
 
-        when(clientRepository.existsByDocumentId("DUP123")).thenReturn(true);
+        doThrow(uniqueViolation(Client.DOCUMENT_ID_CONSTRAINT)).when(clientRepository).flush();
 
-        assertThrows(ClientAlreadyExistsException.class, () ->
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
             clientService.create(request)
         );
 
-        verify(clientRepository, never()).persist(any(Client.class));
+        assertTrue(exception.getMessage().contains("documento: DUP123"));
     }
 
     @Test
@@ -136,19 +303,48 @@ class ClientServiceTest {
                 .email("duplicate@example.com")
                 .build();
 
-        when(clientRepository.existsByDocumentId("DOC789")).thenReturn(false);
-        when(clientRepository.existsByEmail("duplicate@example.com")).thenReturn(true);
+        doThrow(uniqueViolation(Client.EMAIL_CONSTRAINT)).when(clientRepository).flush();
 
-        assertThrows(ClientAlreadyExistsException.class, () ->
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
             clientService.create(request)
         );
 
-        verify(clientRepository, never()).persist(any(Client.class));
+        assertTrue(exception.getMessage().contains("email: duplicate@example.com"));
+    }
+
+    @Test
+    void testCreateClient_WithOtherPersistenceError_PropagatesIt() {
+        ClientRequest request = ClientRequest.builder()
+                .name("Broken Client")
+                .documentId("BROKEN1")
+                .email("broken@example.com")
+                .build();
+
+        doThrow(new PersistenceException("connection reset")).when(clientRepository).flush();
+
+        assertThrows(PersistenceException.class, () -> clientService.create(request));
+    }
+
+    @Test
+    void testCreateClient_DoesNotRunUniquenessQueries() {
+        ClientRequest request = ClientRequest.builder()
+                .name("Fresh Client")
+                .documentId("FRESH001")
+                .email("fresh001@example.com")
+                .build();
+
+        clientService.create(request);
+
+        verify(clientRepository, never()).existsByDocumentId(anyString());
+        verify(clientRepository, never()).existsByEmail(anyString());
+        verify(clientRepository).persist(any(Client.class));
+        verify(clientRepository).flush();
     }
 
     @Test
-    void testUpdateClient_WithValidData_UpdatesClient() {
+    void testUpdateClient_WithValidData_UpdatesClientWithSingleStatement() {
         Client existingClient = createTestClient(1L, "Old Name", "DOC123", "old@example.com", "ACTIVE");
+        existingClient.setVersion(3L);
 
         ClientRequest request = ClientRequest.builder()
                 .name("Updated Name")
@@ -157,12 +353,73 @@ class ClientServiceTest {
                 .status("ACTIVE")
                 .build();
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(existingClient));
+        stubUpdate(existingClient);
 
         ClientResponse result = clientService.update(1L, request);
 
-        assertEquals("Updated Name", existingClient.getName());
-        verify(clientRepository, times(1)).persist(existingClient);
+        assertEquals("Updated Name", result.getName());
+        assertEquals(4L, result.getVersion());
+        assertEquals(existingClient.getCreatedAt(), result.getCreatedAt());
+        verify(clientRepository).updateById(eq(1L), eq("Updated Name"), eq("DOC123"), eq("old@example.com"), eq("ACTIVE"),
+                any(LocalDateTime.class), isNull());
+        verify(clientRepository, never()).findByIdOptional(any());
+        verify(clientRepository, never()).persist(any(Client.class));
+    }
+
+    @Test
+    void testUpdateClient_WithoutChanges_KeepsVersionAndUpdatedAt() {
+        Client existingClient = createTestClient(1L, "Same Name", "DOC123", "same@example.com", "BLOCKED");
+        existingClient.setVersion(3L);
+
+        stubUpdate(existingClient, false);
+
+        ClientResponse result = clientService.update(1L, ClientRequest.builder()
+                .name("Same Name")
+                .documentId("DOC123")
+                .email("same@example.com")
+                .build());
+
+        assertEquals("BLOCKED", result.getStatus());
+        assertEquals(3L, result.getVersion());
+        assertEquals(existingClient.getUpdatedAt(), result.getUpdatedAt());
+        verify(outbox, never()).record(any(), any());
+    }
+
+    @Test
+    void testUpdateClient_WithExpectedVersion_PassesItToTheStatement() {
+        Client existingClient = createTestClient(1L, "Old Name", "DOC123", "old@example.com", "ACTIVE");
+        existingClient.setVersion(3L);
+        ClientRequest request = ClientRequest.builder()
+                .name("Updated Name")
+                .documentId("DOC123")
+                .email("old@example.com")
+                .build();
+
+        stubUpdate(existingClient);
+
+        ClientResponse result = clientService.update(1L, request, 3L);
+
+        assertEquals("Updated Name", result.getName());
+        verify(clientRepository).updateById(eq(1L), anyString(), anyString(), anyString(), isNull(),
+                any(LocalDateTime.class), eq(3L));
+    }
+
+    @Test
+    void testUpdateClient_WithStaleVersion_ThrowsVersionConflictFromTheSameStatement() {
+        Client current = createTestClient(1L, "Old Name", "DOC123", "old@example.com", "ACTIVE");
+        current.setVersion(3L);
+        ClientRequest request = ClientRequest.builder()
+                .name("Updated Name")
+                .documentId("NEW123")
+                .email("new@example.com")
+                .build();
+
+        stubUpdate(current, false);
+
+        assertThrows(ClientVersionConflictException.class, () -> clientService.update(1L, request, 2L));
+        verify(clientRepository).updateById(eq(1L), anyString(), anyString(), anyString(), any(), any(), eq(2L));
+        verifyNoMoreInteractions(clientRepository);
+        verify(outbox, never()).record(any(), any());
     }
 
     @Test
@@ -173,15 +430,19 @@ class ClientServiceTest {
                 .email("updated@example.com")
                 .build();
 
-        when(clientRepository.findByIdOptional(999L)).thenReturn(Optional.empty());
+        when(clientRepository.updateById(anyLong(), anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenReturn(Optional.empty());
 
         assertThrows(ClientNotFoundException.class, () ->
             clientService.update(999L, request)
         );
+        assertThrows(ClientNotFoundException.class, () ->
+            clientService.update(999L, request, 1L)
+        );
     }
 
     @Test
-    void testUpdateClient_WithNewDocumentId_ValidatesUniqueness() {
+    void testUpdateClient_WithNewDocumentId_DoesNotQueryUniqueness() {
         Client existingClient = createTestClient(1L, "Client", "OLD123", "client@example.com", "ACTIVE");
 
         ClientRequest request = ClientRequest.builder()
@@ -190,91 +451,242 @@ class ClientServiceTest {
                 .email("client@example.com")
                 .build();
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(existingClient));
-        when(clientRepository.existsByDocumentId("NEW123")).thenReturn(false);
+        stubUpdate(existingClient);
 
-        clientService.update(1L, request);
+        ClientResponse result = clientService.update(1L, request);
 
-        assertEquals("NEW123", existingClient.getDocumentId());
-        verify(clientRepository).existsByDocumentId("NEW123");
+        assertEquals("NEW123", result.getDocumentId());
+        // La restricción uk_client_document_id decide; no hay consulta previa
+        verify(clientRepository, never()).existsByDocumentId(anyString());
     }
 
     @Test
     void testUpdateClient_WithDuplicateDocumentId_ThrowsException() {
-        Client existingClient = createTestClient(1L, "Client", "OLD123", "client@example.com", "ACTIVE");
-
         ClientRequest request = ClientRequest.builder()
                 .name("Client")
                 .documentId("DUP123")
                 .email("client@example.com")
                 .build();
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(existingClient));
-        when(clientRepository.existsByDocumentId("DUP123")).thenReturn(true);
+        when(clientRepository.updateById(anyLong(), anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenThrow(uniqueViolation(Client.DOCUMENT_ID_CONSTRAINT));
 
-        assertThrows(ClientAlreadyExistsException.class, () ->
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
             clientService.update(1L, request)
         );
+        assertTrue(exception.getMessage().contains("DUP123"));
     }
 
     @Test
-    void testUpdateClient_WithNewEmail_ValidatesUniqueness() {
+    void testUpdateClient_WithNewEmail_RunsNoUniquenessQuery() {
         Client existingClient = createTestClient(1L, "Client", "DOC123", "old@example.com", "ACTIVE");
 
         ClientRequest request = ClientRequest.builder()
                 .name("Client")
                 .documentId("DOC123")
-                .email("new@example.com")
+                .email("changed.email@example.com")
                 .build();
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(existingClient));
-        when(clientRepository.existsByEmail("new@example.com")).thenReturn(false);
+        stubUpdate(existingClient);
 
-        clientService.update(1L, request);
+        ClientResponse result = clientService.update(1L, request);
 
-        assertEquals("new@example.com", existingClient.getEmail());
-        verify(clientRepository).existsByEmail("new@example.com");
+        assertEquals("changed.email@example.com", result.getEmail());
+        verify(clientRepository, never()).existsByEmail(anyString());
     }
 
     @Test
     void testUpdateClient_WithDuplicateEmail_ThrowsException() {
-        Client existingClient = createTestClient(1L, "Client", "DOC123", "old@example.com", "ACTIVE");
-
         ClientRequest request = ClientRequest.builder()
                 .name("Client")
                 .documentId("DOC123")
                 .email("duplicate@example.com")
                 .build();
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(existingClient));
-        when(clientRepository.existsByEmail("duplicate@example.com")).thenReturn(true);
+        when(clientRepository.updateById(anyLong(), anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenThrow(uniqueViolation(Client.EMAIL_CONSTRAINT));
 
-        assertThrows(ClientAlreadyExistsException.class, () ->
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
             clientService.update(1L, request)
         );
+        assertTrue(exception.getMessage().contains("duplicate@example.com"));
+    }
+
+    @Test
+    void testUpdateClient_WithEmailDifferingOnlyInCase_StoresNewCase() {
+        Client existingClient = createTestClient(1L, "Client", "DOC123", "juan.perez@email.com", "ACTIVE");
+        existingClient.setVersion(0L);
+
+        ClientRequest request = ClientRequest.builder()
+                .name("Client")
+                .documentId("DOC123")
+                .email("Juan.Perez@Email.com")
+                .build();
+
+        stubUpdate(existingClient);
+
+        ClientResponse result = clientService.update(1L, request);
+
+        assertEquals("Juan.Perez@Email.com", result.getEmail());
+        assertEquals(1L, result.getVersion());
+        verify(clientRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void testGetClientByEmail_WhenExists_ReturnsClient() {
+        Client client = createTestClient(1L, "Juan Perez", "DOC123", "Juan.Perez@Email.com", "ACTIVE");
+        when(clientRepository.findResponseByEmail("juan.perez@email.com")).thenReturn(Optional.of(ClientResponse.fromEntity(client)));
+
+        ClientResponse result = clientService.getClientByEmail("juan.perez@email.com");
+
+        assertEquals("Juan.Perez@Email.com", result.getEmail());
     }
 
     @Test
-    void testDeleteClient_WhenExists_SoftDeletesClient() {
+    void testGetClientByEmail_WhenNotExists_ThrowsException() {
+        when(clientRepository.findResponseByEmail("missing@email.com")).thenReturn(Optional.empty());
+
+        assertThrows(ClientNotFoundException.class, () -> clientService.getClientByEmail("missing@email.com"));
+    }
+
+    @Test
+    void testDeleteClient_WhenExists_SoftDeletesClientWithSingleStatement() {
         Client client = createTestClient(1L, "Client", "DOC123", "client@example.com", "ACTIVE");
 
-        when(clientRepository.findByIdOptional(1L)).thenReturn(Optional.of(client));
+        when(clientRepository.deactivateById(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(ClientResponse.fromEntity(client)));
 
         clientService.delete(1L);
 
-        assertEquals("INACTIVE", client.getStatus());
-        verify(clientRepository, times(1)).persist(client);
+        verify(clientRepository).deactivateById(eq(1L), any(LocalDateTime.class));
+        verify(clientRepository, never()).findByIdOptional(any());
+        verify(clientRepository, never()).persist(any(Client.class));
+        ArgumentCaptor<ClientResponse> event = ArgumentCaptor.forClass(ClientResponse.class);
+        verify(outbox).record(eq(ClientOutboxEvent.DELETED), event.capture());
+        assertEquals("INACTIVE", event.getValue().getStatus());
+        assertEquals(1L, event.getValue().getVersion());
     }
 
     @Test
     void testDeleteClient_WhenNotExists_ThrowsException() {
-        when(clientRepository.findByIdOptional(999L)).thenReturn(Optional.empty());
+        when(clientRepository.deactivateById(eq(999L), any(LocalDateTime.class))).thenReturn(Optional.empty());
 
         assertThrows(ClientNotFoundException.class, () ->
             clientService.delete(999L)
         );
     }
 
+    @Test
+    void testSearch_RanksByNameSimilarityIgnoringAccents() {
+        Client garcia = createTestClient(910001L, "María García Pérez", "SRCH001", "garcia@example.com", "ACTIVE");
+        Client garces = createTestClient(910002L, "Mario Garcés", "SRCH002", "garces@example.com", "ACTIVE");
+        nameIndex.added(garcia.getId(), garcia.getName());
+        nameIndex.added(garces.getId(), garces.getName());
+        when(clientRepository.findResponsesByIds(anyList())).thenReturn(responses(garces, garcia));
+
+        ClientSearchResponse result = clientService.search("  maria garsia ", null);
+
+        assertEquals("maria garsia", result.getQuery());
+        assertEquals(20, result.getLimit());
+        assertEquals(2, result.getItems().size());
+        assertEquals(910001L, result.getItems().get(0).getClient().getId());
+        assertEquals(910002L, result.getItems().get(1).getClient().getId());
+        assertTrue(result.getItems().get(0).getScore() > result.getItems().get(1).getScore());
+        verify(clientRepository, times(1)).findResponsesByIds(List.of(910001L, 910002L));
+    }
+
+    @Test
+    void testSearch_WithoutMatches_DoesNotQueryDatabase() {
+        ClientSearchResponse result = clientService.search("Zyxwvut", 5);
+
+        assertTrue(result.getItems().isEmpty());
+        verify(clientRepository, never()).findResponsesByIds(anyList());
+    }
+
+    @Test
+    void testSearch_SkipsIdsNoLongerInDatabase() {
+        nameIndex.added(910003L, "Wenceslao Quiroga");
+        when(clientRepository.findResponsesByIds(anyList())).thenReturn(List.of());
+
+        ClientSearchResponse result = clientService.search("Wenceslao Quiroga", 5);
+
+        assertTrue(result.getItems().isEmpty());
+    }
+
+    @Test
+    void testSearch_WithBlankQuery_ThrowsException() {
+        assertThrows(InvalidClientRequestException.class, () -> clientService.search("  ", null));
+        assertThrows(InvalidClientRequestException.class, () -> clientService.search("a".repeat(101), null));
+    }
+
+    @Test
+    void testLookup_ResolvesDocumentsAndIdsWithOneQueryAndMarksMisses() {
+        Client byDocument = createTestClient(920001L, "Lucía Ferrer", "LOOK001", "ferrer@example.com", "ACTIVE");
+        Client byId = createTestClient(920002L, "Tomás Vidal", "LOOK002", "vidal@example.com", "ACTIVE");
+        when(clientRepository.findResponsesByKeys(anyList(), anyList())).thenReturn(responses(byId, byDocument));
+
+        ClientLookupResponse result = clientService.lookup(ClientLookupRequest.builder()
+                .documentIds(List.of("LOOK001", "MISSING9", "LOOK001"))
+                .ids(List.of(920002L, 999999L))
+                .build());
+
+        assertEquals(2, result.getFound());
+        assertEquals(2, result.getMissing());
+        assertEquals(List.of("LOOK001", "MISSING9"), List.copyOf(result.getDocumentIds().keySet()));
+        assertEquals("Lucía Ferrer", result.getDocumentIds().get("LOOK001").getName());
+        assertTrue(result.getDocumentIds().containsKey("MISSING9"));
+        assertNull(result.getDocumentIds().get("MISSING9"));
+        assertEquals("Tomás Vidal", result.getIds().get(920002L).getName());
+        assertNull(result.getIds().get(999999L));
+        verify(clientRepository, times(1)).findResponsesByKeys(List.of("LOOK001", "MISSING9"), List.of(920002L, 999999L));
+    }
+
+    @Test
+    void testLookup_CachedDocuments_AreNotQueried() {
+        Client cached = createTestClient(920003L, "Nuria Soler", "LOOK003", "soler@example.com", "ACTIVE");
+        when(clientRepository.findResponseByDocumentId("LOOK003")).thenReturn(Optional.of(ClientResponse.fromEntity(cached)));
+        clientService.getClientByDocumentId("LOOK003");
+
+        ClientLookupResponse result = clientService.lookup(ClientLookupRequest.builder()
+                .documentIds(List.of("LOOK003"))
+                .build());
+
+        assertEquals(1, result.getFound());
+        assertEquals("Nuria Soler", result.getDocumentIds().get("LOOK003").getName());
+        assertTrue(result.getIds().isEmpty());
+        verify(clientRepository, never()).findResponsesByKeys(anyList(), anyList());
+    }
+
+    @Test
+    void testLookup_WithoutKeysOrTooManyOrBlank_ThrowsException() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        assertThrows(InvalidClientRequestException.class, () -> clientService.lookup(new ClientLookupRequest()));
+        assertThrows(InvalidClientRequestException.class, () -> clientService.lookup(null));
+        assertThrows(InvalidClientRequestException.class, () ->
+                clientService.lookup(ClientLookupRequest.builder().ids(tooMany).build()));
+        assertThrows(InvalidClientRequestException.class, () ->
+                clientService.lookup(ClientLookupRequest.builder().documentIds(List.of("DOC1", " ")).build()));
+        verify(clientRepository, never()).findResponsesByKeys(anyList(), anyList());
+    }
+
+    @Test
+    void testUpdateClient_ReindexesRenamedClient() {
+        Client client = createTestClient(910004L, "Evaristo Lozano", "SRCH004", "lozano@example.com", "ACTIVE");
+        nameIndex.added(client.getId(), client.getName());
+        stubUpdate(client);
+        when(clientRepository.findResponsesByIds(anyList())).thenAnswer(invocation -> responses(client));
+
+        clientService.update(910004L, ClientRequest.builder()
+                .name("Evaristo Quintanilla")
+                .documentId("SRCH004")
+                .email("lozano@example.com")
+                .build());
+
+        assertTrue(clientService.search("Lozano", 5).getItems().isEmpty());
+        assertEquals(1, clientService.search("Quintanilla", 5).getItems().size());
+    }
+
     @Test
     void testCountActiveClients() {
         when(clientRepository.countActiveClients()).thenReturn(5L);
@@ -294,6 +706,39 @@ class ClientServiceTest {
                 .status(status)
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
+                .version(0L)
                 .build();
     }
+
+    private Answer<Void> assignId() {
+        return invocation -> {
+            Client client = invocation.getArgument(0);
+            if (client.getId() == null) {
+                client.setId(ids.incrementAndGet());
+                client.setVersion(0L);
+            }
+            return null;
+        };
+    }
+
+    // La sentencia de actualización devuelve la fila anterior a la escritura
+    private void stubUpdate(Client previous) {
+        stubUpdate(previous, true);
+    }
+
+    private void stubUpdate(Client previous, boolean written) {
+        if (previous.getVersion() == null) {
+            previous.setVersion(0L);
+        }
+        when(clientRepository.updateById(eq(previous.getId()), anyString(), anyString(), anyString(), any(), any(), any()))
+                .thenReturn(Optional.of(new ClientUpdate(ClientResponse.fromEntity(previous), written)));
+    }
+
+    private List<ClientResponse> responses(Client... clients) {
+        return Arrays.stream(clients).map(ClientResponse::fromEntity).toList();
+    }
+
+    private ConstraintViolationException uniqueViolation(String constraint) {
+        return new ConstraintViolationException("unique violation", new SQLException("duplicate key"), constraint);
+    }
 }
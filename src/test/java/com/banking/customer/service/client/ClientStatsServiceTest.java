@@ -0,0 +1,123 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientDailyStats;
+import com.banking.customer.service.dto.ClientStatsResponse;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientStatsServiceTest {
+
+    @Inject
+    ClientStatsService clientStatsService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    @CacheName(ClientStatsService.CACHE_NAME)
+    Cache cache;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        cache.invalidateAll().await().indefinitely();
+        today = LocalDate.now();
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            // Creado hace 40 días, fuera de cualquier ventana corta, y modificado ayer
+            insert(1, "ACTIVE", today.minusDays(40), today.minusDays(1));
+            // Creados hoy sin modificaciones
+            insert(2, "ACTIVE", today, today);
+            insert(3, "INACTIVE", today, today);
+            // Creado hace 2 días y modificado hoy
+            insert(4, "BLOCKED", today.minusDays(2), today);
+        });
+    }
+
+    @Test
+    void testGetStats_CountsByStatusAndByDay() {
+        ClientStatsResponse stats = clientStatsService.getStats(7);
+
+        assertEquals(4, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get("ACTIVE"));
+        assertEquals(1L, stats.getByStatus().get("INACTIVE"));
+        assertEquals(1L, stats.getByStatus().get("BLOCKED"));
+        assertEquals(7, stats.getDays());
+        assertEquals(today.minusDays(6), stats.getSince());
+
+        // Un día por posición de la ventana, los días sin actividad a cero
+        assertEquals(7, stats.getDaily().size());
+        assertEquals(today.minusDays(6), stats.getDaily().get(0).getDate());
+        ClientDailyStats todayStats = stats.getDaily().get(6);
+        assertEquals(today, todayStats.getDate());
+        assertEquals(2, todayStats.getCreated());
+        assertEquals(1, todayStats.getLastUpdated());
+        assertEquals(1, stats.getDaily().get(5).getLastUpdated());
+        assertEquals(0, stats.getDaily().get(5).getCreated());
+        assertEquals(1, stats.getDaily().get(4).getCreated());
+        assertEquals(0, stats.getDaily().get(0).getCreated() + stats.getDaily().get(0).getLastUpdated());
+    }
+
+    @Test
+    void testGetStats_DefaultWindowAndStatusesWithoutClients() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+
+        ClientStatsResponse stats = clientStatsService.getStats(null);
+
+        assertEquals(0, stats.getTotal());
+        assertEquals(30, stats.getDays());
+        assertEquals(30, stats.getDaily().size());
+        assertEquals(0L, stats.getByStatus().get("BLOCKED"));
+    }
+
+    @Test
+    void testGetStats_ServesFromCacheUntilExpiry() {
+        ClientStatsResponse first = clientStatsService.getStats(7);
+        QuarkusTransaction.requiringNew().run(() -> insert(5, "ACTIVE", today, today));
+
+        ClientStatsResponse cached = clientStatsService.getStats(7);
+        assertSame(first, cached);
+        assertEquals(4, cached.getTotal());
+
+        // Otra ventana es otra entrada de cache
+        assertEquals(5, clientStatsService.getStats(8).getTotal());
+
+        cache.invalidateAll().await().indefinitely();
+        assertEquals(5, clientStatsService.getStats(7).getTotal());
+    }
+
+    @Test
+    void testGetStats_InvalidWindow_ThrowsException() {
+        assertThrows(InvalidClientRequestException.class, () -> clientStatsService.getStats(0));
+        assertThrows(InvalidClientRequestException.class, () -> clientStatsService.getStats(366));
+    }
+
+    private void insert(int i, String status, LocalDate createdDay, LocalDate updatedDay) {
+        LocalDateTime createdAt = createdDay.atTime(10, 0);
+        LocalDateTime updatedAt = updatedDay.equals(createdDay) ? createdAt : updatedDay.atTime(11, 0);
+        clientRepository.getEntityManager()
+                .createNativeQuery("insert into client (id, name, document_id, email, email_normalized, status, created_at, updated_at) "
+                        + "values (nextval('client_id_seq'), ?1, ?2, ?3, ?3, ?4, ?5, ?6)")
+                .setParameter(1, "Stats Client " + i)
+                .setParameter(2, "STATS" + i)
+                .setParameter(3, "stats" + i + "@example.com")
+                .setParameter(4, status)
+                .setParameter(5, createdAt)
+                .setParameter(6, updatedAt)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,174 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientStatusTransitionRequest;
+import com.banking.customer.service.dto.ClientStatusTransitionResponse;
+import com.banking.customer.service.metrics.ClientMetrics;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientStatusServiceTest {
+
+    private static final int CLIENTS = 2500;
+
+    @Inject
+    ClientStatusService clientStatusService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ClientCache clientCache;
+
+    @Inject
+    ClientMetrics clientMetrics;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        clientCache.clear();
+        ids = QuarkusTransaction.requiringNew().call(() -> {
+            clientRepository.deleteAll();
+            List<Long> created = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                Client client = Client.builder()
+                        .name("Bulk Client " + i)
+                        .documentId(String.format("BULK%05d", i))
+                        .email("bulk" + i + "@example.com")
+                        .status(i % 5 == 0 ? "INACTIVE" : "ACTIVE")
+                        .build();
+                clientRepository.persist(client);
+                created.add(client.getId());
+            }
+            return created;
+        });
+    }
+
+    @Test
+    void testTransition_ByIds_UpdatesInChunksAndSkipsUnchangedRows() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("inactive")
+                .ids(ids.subList(0, 1500))
+                .build();
+
+        ClientStatusTransitionResponse response = clientStatusService.transition(request);
+
+        // 300 de los 1500 ya estaban inactivos
+        assertEquals("INACTIVE", response.getStatus());
+        assertEquals(1200, response.getUpdated());
+        assertEquals(2, response.getChunks().size());
+        assertEquals(800, response.getChunks().get(0).getUpdated());
+        assertEquals(400, response.getChunks().get(1).getUpdated());
+        assertEquals(1700, countByStatus("INACTIVE"));
+    }
+
+    @Test
+    void testTransition_ByIds_MovesCountersFromPreviousStatusAndEvictsOnlyChangedDocuments() {
+        Map<String, Long> before = counters();
+        cache("BULK00020", "BULK00001");
+
+        // ids 0 y 5 estaban inactivos, el resto activos; el 20 no entra en la transición
+        clientStatusService.transition(ClientStatusTransitionRequest.builder()
+                .status("BLOCKED")
+                .ids(ids.subList(0, 10))
+                .build());
+
+        Map<String, Long> after = counters();
+        assertEquals(before.get("ACTIVE") - 8, after.get("ACTIVE"));
+        assertEquals(before.get("INACTIVE") - 2, after.get("INACTIVE"));
+        assertEquals(before.get("BLOCKED") + 10, after.get("BLOCKED"));
+        assertEquals(Set.of("BULK00020"), clientCache.getPresent(List.of("BULK00020", "BULK00001")).keySet());
+    }
+
+    @Test
+    void testTransition_ByCriteria_UpdatesMatchingClients() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("BLOCKED")
+                .currentStatus("ACTIVE")
+                .build();
+
+        ClientStatusTransitionResponse response = clientStatusService.transition(request);
+
+        assertEquals(2000, response.getUpdated());
+        assertEquals(3, response.getChunks().size());
+        assertEquals(2000, countByStatus("BLOCKED"));
+        assertEquals(500, countByStatus("INACTIVE"));
+        assertEquals(0, countByStatus("ACTIVE"));
+    }
+
+    @Test
+    void testTransition_ByCriteriaWithoutMatches_ReturnsNoChunks() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("ACTIVE")
+                .currentStatus("BLOCKED")
+                .build();
+
+        ClientStatusTransitionResponse response = clientStatusService.transition(request);
+
+        assertEquals(0, response.getUpdated());
+        assertTrue(response.getChunks().isEmpty());
+    }
+
+    @Test
+    void testTransition_WithIdsAndCriteria_ThrowsException() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("BLOCKED")
+                .ids(List.of(ids.get(0)))
+                .currentStatus("ACTIVE")
+                .build();
+
+        assertThrows(InvalidClientRequestException.class, () -> clientStatusService.transition(request));
+    }
+
+    @Test
+    void testTransition_WithoutSelection_ThrowsException() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("BLOCKED")
+                .build();
+
+        assertThrows(InvalidClientRequestException.class, () -> clientStatusService.transition(request));
+    }
+
+    @Test
+    void testTransition_WithInvalidStatus_ThrowsException() {
+        ClientStatusTransitionRequest request = ClientStatusTransitionRequest.builder()
+                .status("DELETED")
+                .ids(List.of(ids.get(0)))
+                .build();
+
+        assertThrows(InvalidClientStatusException.class, () -> clientStatusService.transition(request));
+    }
+
+    private Map<String, Long> counters() {
+        return Map.of(
+                "ACTIVE", clientMetrics.count("ACTIVE"),
+                "INACTIVE", clientMetrics.count("INACTIVE"),
+                "BLOCKED", clientMetrics.count("BLOCKED"));
+    }
+
+    private void cache(String... documentIds) {
+        for (String documentId : documentIds) {
+            clientCache.getByDocumentId(documentId, key -> ClientResponse.builder().documentId(key).build());
+        }
+    }
+
+    private long countByStatus(String status) {
+        return QuarkusTransaction.requiringNew().call(() -> clientRepository.count("status", status));
+    }
+}
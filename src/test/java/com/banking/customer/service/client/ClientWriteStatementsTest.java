@@ -0,0 +1,200 @@
+package com.banking.customer.service.client;
+
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.controller.config.exception.ClientNotFoundException;
+import com.banking.customer.controller.config.exception.ClientVersionConflictException;
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import com.banking.customer.controller.config.exception.InvalidClientStatusException;
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.dto.ClientPatchRequest;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cuenta las sentencias JDBC de las escrituras de {@link ClientService} sobre la base de datos real:
+ * actualizar (PUT o PATCH) e inactivar un cliente deben costar un único UPDATE, más el INSERT de su
+ * evento en el outbox cuando la fila cambia. En H2 una actualización que no escribe lee además la fila
+ * actual, que en PostgreSQL devuelve el propio UPDATE.
+ */
+@QuarkusTest
+class ClientWriteStatementsTest {
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> clientRepository.deleteAll());
+        id = clientService.create(ClientRequest.builder()
+                .name("Write Client")
+                .documentId("WRITE001")
+                .email("write@example.com")
+                .build()).getId();
+        clientService.create(ClientRequest.builder()
+                .name("Other Client")
+                .documentId("WRITE002")
+                .email("other@example.com")
+                .build());
+        sessionFactory.getStatistics().clear();
+    }
+
+    @Test
+    void testUpdate_IsASingleStatement() {
+        ClientResponse updated = clientService.update(id, request("Write Client Renamed", "WRITE001", "Write@Example.com", "BLOCKED"));
+
+        // UPDATE + evento UPDATED en el outbox
+        assertEquals(2, statements());
+        assertEquals(1L, updated.getVersion());
+        assertEquals("BLOCKED", updated.getStatus());
+
+        ClientResponse stored = find("WRITE001");
+        assertEquals("Write Client Renamed", stored.getName());
+        assertEquals("Write@Example.com", stored.getEmail());
+        assertEquals("BLOCKED", stored.getStatus());
+        assertEquals(1L, stored.getVersion());
+        assertTrue(stored.getUpdatedAt().isAfter(stored.getCreatedAt()));
+    }
+
+    @Test
+    void testUpdate_WithoutChanges_KeepsVersionAndUpdatedAt() {
+        ClientResponse before = find("WRITE001");
+        sessionFactory.getStatistics().clear();
+
+        ClientResponse result = clientService.update(id, request("Write Client", "WRITE001", "write@example.com", null));
+
+        // El UPDATE no escribe la fila ni el evento; en H2 la fila actual se lee aparte (en PostgreSQL
+        // la devuelve la misma sentencia, ver ClientRepositoryTest)
+        assertEquals(2, statements());
+        assertEquals(0L, result.getVersion());
+        ClientResponse after = find("WRITE001");
+        assertEquals(0L, after.getVersion());
+        assertEquals(before.getUpdatedAt(), after.getUpdatedAt());
+    }
+
+    @Test
+    void testUpdate_WithExpectedVersion_ChecksItInTheSameStatement() {
+        clientService.update(id, request("Write Client Renamed", "WRITE001", "write@example.com", null), 0L);
+        assertEquals(2, statements());
+
+        sessionFactory.getStatistics().clear();
+        assertThrows(ClientVersionConflictException.class, () ->
+                clientService.update(id, request("Stale Writer", "WRITE001", "write@example.com", null), 0L));
+        // El UPDATE no escribe y devuelve la versión actual (en H2, con una lectura aparte); no hay evento
+        assertEquals(2, statements());
+        assertEquals("Write Client Renamed", find("WRITE001").getName());
+
+        assertThrows(ClientNotFoundException.class, () ->
+                clientService.update(-1L, request("Missing", "WRITE999", "missing@example.com", null), 0L));
+    }
+
+    @Test
+    void testUpdate_WithDuplicateDocumentId_Returns409FromConstraint() {
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
+                clientService.update(id, request("Write Client", "WRITE002", "write@example.com", null)));
+
+        assertTrue(exception.getMessage().contains("WRITE002"));
+        assertEquals("WRITE001", QuarkusTransaction.requiringNew().call(() -> clientRepository.findById(id).getDocumentId()));
+    }
+
+    @Test
+    void testPatch_WritesOnlyTheSentColumnsInASingleStatement() {
+        ClientResponse patched = clientService.patch(id, ClientPatchRequest.builder().status("blocked").build(), null);
+
+        assertEquals(2, statements());
+        assertEquals("BLOCKED", patched.getStatus());
+        assertEquals("Write Client", patched.getName());
+        assertEquals(1L, patched.getVersion());
+        String sql = String.join("\n", sessionFactory.getStatistics().getQueries()).toLowerCase();
+        assertTrue(sql.contains("set status = ?"), sql);
+        assertFalse(sql.contains("document_id = ?"), sql);
+        assertFalse(sql.contains("email = ?"), sql);
+
+        ClientResponse stored = find("WRITE001");
+        assertEquals("BLOCKED", stored.getStatus());
+        assertEquals("write@example.com", stored.getEmail());
+    }
+
+    @Test
+    void testPatch_WithUnchangedValue_KeepsVersion() {
+        ClientResponse patched = clientService.patch(id, ClientPatchRequest.builder().name("Write Client").build(), 0L);
+
+        assertEquals(0L, patched.getVersion());
+        assertEquals(0L, find("WRITE001").getVersion());
+    }
+
+    @Test
+    void testPatch_WithDuplicateEmail_Returns409FromConstraint() {
+        ClientAlreadyExistsException exception = assertThrows(ClientAlreadyExistsException.class, () ->
+                clientService.patch(id, ClientPatchRequest.builder().email("OTHER@example.com").build(), null));
+
+        assertTrue(exception.getMessage().contains("OTHER@example.com"));
+        assertEquals("write@example.com", find("WRITE001").getEmail());
+    }
+
+    @Test
+    void testPatch_WithoutFieldsOrWithInvalidStatus_IsRejectedWithoutStatements() {
+        assertThrows(InvalidClientRequestException.class, () -> clientService.patch(id, new ClientPatchRequest(), null));
+        assertThrows(InvalidClientStatusException.class, () ->
+                clientService.patch(id, ClientPatchRequest.builder().status("DELETED").build(), null));
+        assertThrows(InvalidClientStatusException.class, () ->
+                clientService.patch(id, ClientPatchRequest.builder().status(" ").build(), null));
+        assertEquals(0, statements());
+    }
+
+    @Test
+    void testDelete_IsASingleStatementAndIdempotent() {
+        clientService.delete(id);
+
+        // UPDATE + evento DELETED en el outbox
+        assertEquals(2, statements());
+        ClientResponse deleted = find("WRITE001");
+        assertEquals("INACTIVE", deleted.getStatus());
+        assertEquals(1L, deleted.getVersion());
+
+        // Inactivar de nuevo no modifica la fila ni escribe otro evento
+        sessionFactory.getStatistics().clear();
+        clientService.delete(id);
+        assertEquals(1, statements());
+        assertEquals(1L, find("WRITE001").getVersion());
+    }
+
+    @Test
+    void testDelete_WhenNotExists_ThrowsException() {
+        assertThrows(ClientNotFoundException.class, () -> clientService.delete(-1L));
+        assertEquals(1, statements());
+    }
+
+    private long statements() {
+        return sessionFactory.getStatistics().getPrepareStatementCount();
+    }
+
+    private ClientResponse find(String documentId) {
+        return QuarkusTransaction.requiringNew().call(() -> clientRepository.findResponseByDocumentId(documentId).orElseThrow());
+    }
+
+    private static ClientRequest request(String name, String documentId, String email, String status) {
+        return ClientRequest.builder()
+                .name(name)
+                .documentId(documentId)
+                .email(email)
+                .status(status)
+                .build();
+    }
+}
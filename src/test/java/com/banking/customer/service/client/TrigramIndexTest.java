@@ -0,0 +1,114 @@
+package com.banking.customer.service.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    void testFold_RemovesAccentsAndLowercases() {
+        assertEquals("maria garcia perez", TrigramIndex.fold("María GARCÍA Pérez"));
+        assertEquals("nunez muller", TrigramIndex.fold("Núñez Müller"));
+    }
+
+    @Test
+    void testTrigrams_PadsEachWordLikePgTrgm() {
+        // "  ab", " ab", "ab " -> 3 trigramas por palabra de dos letras
+        assertEquals(3, TrigramIndex.trigrams("Ab").length);
+        assertEquals(6, TrigramIndex.trigrams("ab, cd").length);
+        assertEquals(0, TrigramIndex.trigrams(" -- ").length);
+    }
+
+    @Test
+    void testSearch_MatchesRegardlessOfAccents() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "María García");
+        index.add(2, "Pedro Sánchez");
+
+        List<TrigramIndex.Match> matches = index.search("maria garcia", 0.5, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals(1, matches.get(0).id());
+        assertEquals(1.0, matches.get(0).score());
+    }
+
+    @Test
+    void testSearch_ToleratesTypos() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "José Pérez");
+        index.add(2, "Josefina Gómez");
+
+        List<TrigramIndex.Match> matches = index.search("jose peres", 0.5, 10);
+
+        assertEquals(1, matches.get(0).id());
+        assertTrue(matches.get(0).score() < 1.0);
+    }
+
+    @Test
+    void testSearch_PrefersShorterNameOnTies() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Ana Pérez de la Fuente");
+        index.add(2, "Ana Pérez");
+
+        List<TrigramIndex.Match> matches = index.search("ana perez", 0.5, 10);
+
+        assertEquals(List.of(2L, 1L), matches.stream().map(TrigramIndex.Match::id).toList());
+        assertEquals(matches.get(0).score(), matches.get(1).score());
+    }
+
+    @Test
+    void testSearch_RespectsMinScoreAndLimit() {
+        TrigramIndex index = new TrigramIndex();
+        for (int i = 1; i <= 30; i++) {
+            index.add(i, "Cliente Rodríguez " + i);
+        }
+        index.add(100, "Rodrigo Ruiz");
+
+        assertEquals(5, index.search("rodriguez", 0.5, 5).size());
+        assertTrue(index.search("rodriguez", 0.5, 50).stream().anyMatch(match -> match.id() == 100));
+        assertTrue(index.search("rodriguez", 0.7, 50).stream().noneMatch(match -> match.id() == 100));
+        assertTrue(index.search("", 0.5, 5).isEmpty());
+    }
+
+    @Test
+    void testReplace_RemovesPreviousName() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Lucía Fernández");
+        index.add(5, "Lucía Fernández");
+
+        index.replace(1, "Lucía Fernández", "Lucía Herrera");
+
+        assertEquals(List.of(5L), index.search("fernandez", 0.5, 10).stream().map(TrigramIndex.Match::id).toList());
+        assertEquals(List.of(1L), index.search("herrera", 0.5, 10).stream().map(TrigramIndex.Match::id).toList());
+    }
+
+    @Test
+    void testAdd_OutOfOrderIdsKeepPostingsSorted() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(30, "Marta Ortiz");
+        index.add(10, "Marta Ortiz");
+        index.add(20, "Marta Ortiz");
+        index.add(10, "Marta Ortiz");
+
+        List<TrigramIndex.Match> matches = index.search("marta ortiz", 0.5, 10);
+
+        assertEquals(List.of(10L, 20L, 30L), matches.stream().map(TrigramIndex.Match::id).toList());
+    }
+
+    @Test
+    void testAdd_IdsBeyondIntRange() {
+        TrigramIndex index = new TrigramIndex();
+        long large = (1L << 31) + 7;
+        index.add(large, "Elena Castro");
+        index.add(Long.MAX_VALUE, "Elena Castro");
+        index.add(3, "Elena Castro");
+        index.replace(large, "Elena Castro", "Elena Castillo");
+
+        assertEquals(List.of(3L, Long.MAX_VALUE),
+                index.search("elena castro", 0.9, 10).stream().map(TrigramIndex.Match::id).toList());
+        assertEquals(List.of(large), index.search("castillo", 0.5, 10).stream().map(TrigramIndex.Match::id).toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.banking.customer.service.dto;
+
+import com.banking.customer.controller.config.exception.InvalidClientRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientFieldsTest {
+
+    @Test
+    void testParse_WithoutFields_ReturnsNull() {
+        assertNull(ClientFields.parse(null));
+        assertNull(ClientFields.parse(" "));
+    }
+
+    @Test
+    void testParse_KeepsResponseOrderAndIgnoresDuplicatesAndSpaces() {
+        ClientFields fields = ClientFields.parse(" status, id,status,,");
+
+        assertEquals(List.of("id", "status"), fields.names());
+    }
+
+    @Test
+    void testParse_WithUnknownOrNoField_ThrowsInvalidRequest() {
+        InvalidClientRequestException exception = assertThrows(InvalidClientRequestException.class, () ->
+                ClientFields.parse("id,password"));
+        assertTrue(exception.getMessage().contains("password"));
+        assertThrows(InvalidClientRequestException.class, () -> ClientFields.parse(" , "));
+    }
+
+    @Test
+    void testSelect_AlwaysReadsIdAndVersion() {
+        ClientFields fields = ClientFields.parse("email,createdAt");
+
+        assertEquals("c.id, c.email, c.createdAt, c.version", fields.select("c"));
+        assertEquals("id, email, created_at, version", fields.columns());
+    }
+
+    @Test
+    void testRead_FillsOnlySelectedColumns() {
+        LocalDateTime now = LocalDateTime.now();
+        Object[] row = {7L, now, 3L};
+
+        ClientResponse client = ClientFields.parse("updatedAt").read(i -> row[i]);
+
+        assertEquals(7L, client.getId());
+        assertEquals(now, client.getUpdatedAt());
+        assertEquals(3L, client.getVersion());
+        assertNull(client.getName());
+    }
+
+    @Test
+    void testProject_SerializesOnlyRequestedFields() {
+        ClientFields fields = ClientFields.parse("status");
+        ClientResponse client = ClientResponse.builder().id(1L).name("John Doe").status("ACTIVE").version(0L).build();
+
+        assertEquals(Map.of("status", "ACTIVE"), fields.project(client));
+
+        Map<String, Object> page = fields.project(ClientPageResponse.builder().items(List.of(client)).limit(50).build());
+        assertEquals(List.of(Map.of("status", "ACTIVE")), page.get("items"));
+        assertEquals(50, page.get("limit"));
+        assertTrue(page.containsKey("next"));
+        assertNull(page.get("next"));
+    }
+}
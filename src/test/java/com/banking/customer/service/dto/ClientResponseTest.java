@@ -112,7 +112,8 @@ class ClientResponseTest {
                 "john@example.com",
                 "ACTIVE",
                 now,
-                now
+                now,
+                2L
         );
 
         assertEquals(1L, response.getId());
@@ -122,6 +123,7 @@ class ClientResponseTest {
         assertEquals("ACTIVE", response.getStatus());
         assertEquals(now, response.getCreatedAt());
         assertEquals(now, response.getUpdatedAt());
+        assertEquals(2L, response.getVersion());
     }
 
     @Test
@@ -1,11 +1,18 @@
 package com.banking.customer.service.metrics;
 
+import com.banking.customer.entity.Client;
 import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.dto.ClientRequest;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @QuarkusTest
@@ -17,35 +24,123 @@ class ClientMetricsTest {
     @Inject
     ClientRepository clientRepository;
 
+    @Inject
+    ClientService clientService;
+
     @Inject
     MeterRegistry meterRegistry;
 
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            clientRepository.deleteAll();
+            clientRepository.persist(client("METRIC001", "ACTIVE"));
+            clientRepository.persist(client("METRIC002", "ACTIVE"));
+            clientRepository.persist(client("METRIC003", "INACTIVE"));
+            clientRepository.persist(client("METRIC004", "BLOCKED"));
+        });
+        clientMetrics.reconcile();
+    }
+
     @Test
     void testClientMetricsBeanIsCreated() {
         assertNotNull(clientMetrics, "ClientMetrics bean should be created");
     }
 
     @Test
-    void testClientRepositoryIsInjected() {
-        assertNotNull(clientRepository, "ClientRepository should be injected");
+    void testMeterRegistryIsInjected() {
+        assertNotNull(meterRegistry, "MeterRegistry should be injected");
+    }
+
+    @Test
+    void testCountByStatus_RunsSingleGroupBy() {
+        Map<String, Long> counts = QuarkusTransaction.requiringNew().call(() -> clientRepository.countByStatus());
+
+        assertEquals(Map.of("ACTIVE", 2L, "INACTIVE", 1L, "BLOCKED", 1L), counts);
     }
 
     @Test
-    void testMeterRegistryIsInjected() {
-        assertNotNull(meterRegistry, "MeterRegistry should be injected");
+    void testGauges_ReadReconciledCounters() {
+        assertEquals(4.0, meterRegistry.get("clients.total").gauge().value());
+        assertEquals(2.0, meterRegistry.get("clients.active").gauge().value());
+        assertEquals(1.0, meterRegistry.get("clients.inactive").gauge().value());
+        assertEquals(1.0, meterRegistry.get("clients.blocked").gauge().value());
+    }
+
+    @Test
+    void testCreateUpdateAndDelete_UpdateCountersIncrementally() {
+        var created = clientService.create(ClientRequest.builder()
+                .name("Metric Client")
+                .documentId("METRIC005")
+                .email("metric5@example.com")
+                .build());
+        assertEquals(3, clientMetrics.count("ACTIVE"));
+
+        clientService.update(created.getId(), ClientRequest.builder()
+                .name("Metric Client")
+                .documentId("METRIC005")
+                .email("metric5@example.com")
+                .status("BLOCKED")
+                .build());
+        assertEquals(2, clientMetrics.count("ACTIVE"));
+        assertEquals(2, clientMetrics.count("BLOCKED"));
+
+        clientService.delete(created.getId());
+        assertEquals(1, clientMetrics.count("BLOCKED"));
+        assertEquals(2, clientMetrics.count("INACTIVE"));
+        assertEquals(5, clientMetrics.total());
+    }
+
+    @Test
+    void testRolledBackTransaction_DoesNotChangeCounters() {
+        assertThrows(IllegalStateException.class, () -> QuarkusTransaction.requiringNew().run(() -> {
+            clientMetrics.created("ACTIVE", 10);
+            throw new IllegalStateException("rollback");
+        }));
+
+        assertEquals(2, clientMetrics.count("ACTIVE"));
     }
 
     @Test
-    void testClientRepositoryCountMethod() {
-        // Test that the repository count method works
-        long count = clientRepository.count();
-        assertTrue(count >= 0, "Client count should be non-negative");
+    void testReconcile_CorrectsDrift() {
+        clientMetrics.created("ACTIVE", 7);
+        assertEquals(9, clientMetrics.count("ACTIVE"));
+
+        clientMetrics.reconcile();
+
+        assertEquals(2, clientMetrics.count("ACTIVE"));
+        assertEquals(4, clientMetrics.total());
     }
 
     @Test
-    void testClientRepositoryActiveClientsMethod() {
-        // Test that the repository active clients method works
-        long activeCount = clientRepository.countActiveClients();
-        assertTrue(activeCount >= 0, "Active client count should be non-negative");
+    void testReconcile_KeepsChangesCommittedWhileTheQueryRuns() {
+        clientMetrics.reconcile(() -> {
+            Map<String, Long> counts = QuarkusTransaction.requiringNew().call(() -> clientRepository.countByStatus());
+            // Se confirma después de la lectura de la consulta y antes de fijar los contadores
+            clientService.create(ClientRequest.builder()
+                    .name("Metric Client")
+                    .documentId("METRIC006")
+                    .email("metric6@example.com")
+                    .status("BLOCKED")
+                    .build());
+            return counts;
+        });
+
+        assertEquals(2, clientMetrics.count("BLOCKED"));
+        assertEquals(5, clientMetrics.total());
+
+        // La siguiente pasada no la cuenta dos veces
+        clientMetrics.reconcile();
+        assertEquals(2, clientMetrics.count("BLOCKED"));
+        assertEquals(5, clientMetrics.total());
+    }
+
+    private Client client(String documentId, String status) {
+        return Client.builder()
+                .name("Metric " + documentId)
+                .documentId(documentId)
+                .email(documentId.toLowerCase() + "@example.com")
+                .status(status)
+                .build();
     }
 }
@@ -0,0 +1,176 @@
+package com.banking.customer.service.outbox;
+
+import com.banking.customer.entity.Client;
+import com.banking.customer.entity.ClientOutboxEvent;
+import com.banking.customer.entity.repository.ClientOutboxRepository;
+import com.banking.customer.entity.repository.ClientRepository;
+import com.banking.customer.controller.config.exception.ClientAlreadyExistsException;
+import com.banking.customer.service.client.ClientBatchService;
+import com.banking.customer.service.client.ClientService;
+import com.banking.customer.service.client.ClientStatusService;
+import com.banking.customer.service.dto.ClientChangeEvent;
+import com.banking.customer.service.dto.ClientRequest;
+import com.banking.customer.service.dto.ClientResponse;
+import com.banking.customer.service.dto.ClientStatusTransitionRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.reactive.messaging.kafka.api.OutgoingKafkaRecordMetadata;
+import io.smallrye.reactive.messaging.memory.InMemoryConnector;
+import io.smallrye.reactive.messaging.memory.InMemorySink;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+class ClientOutboxRelayTest {
+
+    @Inject
+    ClientService clientService;
+
+    @Inject
+    ClientBatchService clientBatchService;
+
+    @Inject
+    ClientStatusService clientStatusService;
+
+    @Inject
+    ClientOutboxRelay relay;
+
+    @Inject
+    ClientRepository clientRepository;
+
+    @Inject
+    ClientOutboxRepository outboxRepository;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    @Any
+    InMemoryConnector connector;
+
+    private InMemorySink<String> sink;
+
+    @BeforeEach
+    void setUp() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            outboxRepository.deleteAll();
+            clientRepository.deleteAll();
+        });
+        sink = connector.sink(ClientOutboxRelay.CHANNEL);
+        sink.clear();
+    }
+
+    @Test
+    void testDrain_PublishesChangesInOrderKeyedByClient() throws Exception {
+        ClientResponse created = clientService.create(request("OUTBOX001", "Outbox Client", "ACTIVE"));
+        clientService.update(created.getId(), request("OUTBOX001", "Outbox Client Renamed", "ACTIVE"));
+        clientService.delete(created.getId());
+        double published = meterRegistry.get("clients.outbox.published.count").counter().count();
+
+        // Lotes de 2 en los tests: un lote completo y otro con el último evento
+        assertEquals(3, relay.drain());
+
+        List<? extends Message<String>> messages = sink.received();
+        assertEquals(3, messages.size());
+        List<ClientChangeEvent> events = events(messages);
+        assertEquals(List.of(ClientOutboxEvent.CREATED, ClientOutboxEvent.UPDATED, ClientOutboxEvent.DELETED),
+                events.stream().map(ClientChangeEvent::getType).toList());
+        assertEquals(List.of(0L, 1L, 2L), events.stream().map(ClientChangeEvent::getVersion).toList());
+        assertEquals("Outbox Client Renamed", events.get(1).getClient().getName());
+        assertEquals("INACTIVE", events.get(2).getClient().getStatus());
+        for (Message<String> message : messages) {
+            OutgoingKafkaRecordMetadata<?> metadata = message.getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow();
+            assertEquals(String.valueOf(created.getId()), metadata.getKey());
+        }
+        OutgoingKafkaRecordMetadata<?> deleted = messages.get(2).getMetadata(OutgoingKafkaRecordMetadata.class).orElseThrow();
+        assertEquals(ClientOutboxEvent.DELETED,
+                new String(deleted.getHeaders().lastHeader("event-type").value(), StandardCharsets.UTF_8));
+
+        assertEquals(0, pending());
+        assertEquals(published + 3, meterRegistry.get("clients.outbox.published.count").counter().count());
+        assertEquals(0, relay.drain());
+    }
+
+    @Test
+    void testWrites_WithoutChangeOrRolledBack_RecordNoEvent() {
+        ClientResponse created = clientService.create(request("OUTBOX002", "Outbox Client", "ACTIVE"));
+        clientService.update(created.getId(), request("OUTBOX002", "Outbox Client", "ACTIVE"));
+        assertThrows(ClientAlreadyExistsException.class, () ->
+                clientService.create(request("OUTBOX002", "Duplicated Client", "ACTIVE")));
+        clientService.delete(created.getId());
+        clientService.delete(created.getId());
+
+        assertEquals(2, relay.drain());
+        assertEquals(List.of(ClientOutboxEvent.CREATED, ClientOutboxEvent.DELETED),
+                events(sink.received()).stream().map(ClientChangeEvent::getType).toList());
+    }
+
+    @Test
+    void testBatchAndBulkWrites_RecordOneEventPerChangedClient() {
+        clientBatchService.createBatch(List.of(
+                request("OUTBOX003", "Batch Client 3", "ACTIVE"),
+                request("OUTBOX004", "Batch Client 4", "ACTIVE"),
+                request("OUTBOX005", "Batch Client 5", "BLOCKED")));
+        clientStatusService.transition(ClientStatusTransitionRequest.builder()
+                .status("BLOCKED")
+                .currentStatus("ACTIVE")
+                .build());
+
+        assertEquals(5, relay.drain());
+
+        List<ClientChangeEvent> events = events(sink.received());
+        assertEquals(3, events.stream().filter(event -> ClientOutboxEvent.CREATED.equals(event.getType())).count());
+        List<ClientChangeEvent> updates = events.subList(3, 5);
+        assertTrue(updates.stream().allMatch(event -> ClientOutboxEvent.UPDATED.equals(event.getType())));
+        assertTrue(updates.stream().allMatch(event -> "BLOCKED".equals(event.getClient().getStatus())));
+        assertTrue(updates.stream().allMatch(event -> event.getVersion() == 1L));
+        for (ClientChangeEvent update : updates) {
+            Client stored = QuarkusTransaction.requiringNew().call(() -> clientRepository.findById(update.getClientId()));
+            assertEquals(stored.getVersion(), update.getVersion());
+            assertEquals(stored.getUpdatedAt(), update.getOccurredAt());
+        }
+    }
+
+    @Test
+    void testSendTimeout_IsCappedBelowThePoolAcquisitionTimeout() {
+        assertEquals(Duration.ofMillis(2500), ClientOutboxRelay.capSendTimeout(Duration.ofSeconds(30), Duration.ofSeconds(5)));
+        assertEquals(Duration.ofSeconds(2), ClientOutboxRelay.capSendTimeout(Duration.ofSeconds(2), Duration.ofSeconds(5)));
+    }
+
+    private List<ClientChangeEvent> events(List<? extends Message<String>> messages) {
+        return messages.stream().map(message -> {
+            try {
+                return objectMapper.readValue(message.getPayload(), ClientChangeEvent.class);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    private long pending() {
+        return QuarkusTransaction.requiringNew().call(() -> outboxRepository.count());
+    }
+
+    private static ClientRequest request(String documentId, String name, String status) {
+        return ClientRequest.builder()
+                .name(name)
+                .documentId(documentId)
+                .email(documentId.toLowerCase() + "@example.com")
+                .status(status)
+                .build();
+    }
+}